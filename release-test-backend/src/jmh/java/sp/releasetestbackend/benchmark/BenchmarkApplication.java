@@ -0,0 +1,153 @@
+package sp.releasetestbackend.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sp.releasetestbackend.ReleaseTestBackendApplication;
+import sp.releasetestbackend.dashboard.service.TodoDailyStatsMaintenance;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 서비스 벤치마크용 스프링 컨텍스트. 내장 H2(MySQL 모드)에 실제와 비슷한 분량의 데이터를 채운다.
+ * 설정은 모두 커맨드라인 인자로 넘겨 .env / application.yml의 운영 DB 설정을 덮어쓴다.
+ */
+public final class BenchmarkApplication {
+    public static final long HEAVY_ACCOUNT_ID = 1L;
+
+    // 헤비 유저 1명: 2년치 할 일 약 2만 건, 이벤트 2천 건
+    private static final int HEAVY_TODO_DAYS = 730;
+    private static final int HEAVY_TODOS_PER_DAY = 27;
+    private static final int HEAVY_EVENTS = 2_000;
+    // 일반 유저 200명: 각 200건
+    private static final int OTHER_ACCOUNTS = 200;
+    private static final int OTHER_TODOS_PER_ACCOUNT = 200;
+
+    private static final String[] PRIORITIES = {"CRITICAL", "HIGH", "MEDIUM", "LOW"};
+    private static final String[] EVENT_TYPES = {"event", "holiday", "meeting"};
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return run(arguments(databaseName, "none"));
+    }
+
+    // 실제 Tomcat을 임의 포트로 띄움 (포트는 local.server.port). extraArguments는 같은 키의 기본 인자를 대체
+    public static ConfigurableApplicationContext startWebServer(String databaseName, String... extraArguments) {
+        List<String> overrides = List.of(extraArguments);
+        List<String> arguments = new ArrayList<>();
+        for (String argument : arguments(databaseName, "servlet")) {
+            if (overrides.stream().noneMatch(override -> key(override).equals(key(argument)))) {
+                arguments.add(argument);
+            }
+        }
+        arguments.addAll(overrides);
+        return run(arguments.toArray(String[]::new));
+    }
+
+    private static String key(String argument) {
+        int separator = argument.indexOf('=');
+        return separator < 0 ? argument : argument.substring(0, separator);
+    }
+
+    private static ConfigurableApplicationContext run(String[] arguments) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ReleaseTestBackendApplication.class)
+                .logStartupInfo(false)
+                .run(arguments);
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(TodoDailyStatsMaintenance.class).rebuildAll();
+        return context;
+    }
+
+    private static String[] arguments(String databaseName, String webApplicationType) {
+        return new String[]{
+                "--spring.main.web-application-type=" + webApplicationType,
+                "--spring.main.banner-mode=off",
+                "--spring.application.name=benchmark",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.database=h2",
+                "--spring.jpa.open-in-view=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.generate-ddl=true",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--dashboard.stats.backfill-on-startup=false",
+                // 대시보드 응답 캐시를 끄고 매번 계산 경로를 측정
+                "--dashboard.response-cache.maximum-size=0",
+                "--oauth.http.prewarm-on-startup=false",
+                "--google.id-token.verify-locally=false",
+                "--logging.level.root=WARN",
+                "--kakao.client-id=benchmark",
+                "--kakao.redirect-uri=http://localhost/kakao",
+                "--kakao.token-request-uri=http://localhost/kakao/token",
+                "--kakao.user-info-request-uri=http://localhost/kakao/me",
+                "--google.login-url=http://localhost/google/auth",
+                "--google.client-id=benchmark",
+                "--google.client-secret=benchmark",
+                "--google.redirect-uri=http://localhost/google",
+                "--google.token-request-uri=http://localhost/google/token",
+                "--google.user-info-request-uri=http://localhost/google/me",
+                "--naver.login-url=http://localhost/naver/auth",
+                "--naver.client-id=benchmark",
+                "--naver.client-secret=benchmark",
+                "--naver.redirect-uri=http://localhost/naver",
+                "--naver.token-request-uri=http://localhost/naver/token",
+                "--naver.user-info-request-uri=http://localhost/naver/me",
+        };
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(20240801L);
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> accounts = new ArrayList<>();
+        for (long id = HEAVY_ACCOUNT_ID; id <= HEAVY_ACCOUNT_ID + OTHER_ACCOUNTS; id++) {
+            accounts.add(new Object[]{id, "KAKAO", now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account (id, login_type, created_at) VALUES (?, ?, ?)", accounts);
+
+        List<Object[]> todos = new ArrayList<>();
+        LocalDate heavyStart = today.minusDays(HEAVY_TODO_DAYS - 30);
+        for (int day = 0; day < HEAVY_TODO_DAYS; day++) {
+            LocalDate dueDate = heavyStart.plusDays(day);
+            for (int i = 0; i < HEAVY_TODOS_PER_DAY; i++) {
+                todos.add(todoRow(HEAVY_ACCOUNT_ID, dueDate, dueDate.isBefore(today) && random.nextInt(10) < 8, random));
+            }
+        }
+        for (long accountId = HEAVY_ACCOUNT_ID + 1; accountId <= HEAVY_ACCOUNT_ID + OTHER_ACCOUNTS; accountId++) {
+            for (int i = 0; i < OTHER_TODOS_PER_ACCOUNT; i++) {
+                LocalDate dueDate = today.minusDays(random.nextInt(180)).plusDays(14);
+                todos.add(todoRow(accountId, dueDate, dueDate.isBefore(today) && random.nextBoolean(), random));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (account_id, text, completed, priority, due_date, change_version) " +
+                "VALUES (?, ?, ?, ?, ?, 0)", todos);
+
+        List<Object[]> events = new ArrayList<>();
+        for (int i = 0; i < HEAVY_EVENTS; i++) {
+            LocalDate eventDate = heavyStart.plusDays(random.nextInt(HEAVY_TODO_DAYS));
+            events.add(new Object[]{HEAVY_ACCOUNT_ID, Date.valueOf(eventDate), "정기 일정 " + i,
+                    EVENT_TYPES[random.nextInt(EVENT_TYPES.length)]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO calendar_events (account_id, event_date, title, type, change_version) " +
+                "VALUES (?, ?, ?, ?, 0)", events);
+    }
+
+    private static Object[] todoRow(long accountId, LocalDate dueDate, boolean completed, Random random) {
+        return new Object[]{accountId, "할 일 " + random.nextInt(100_000), completed,
+                PRIORITIES[random.nextInt(PRIORITIES.length)], Date.valueOf(dueDate)};
+    }
+}
@@ -0,0 +1,72 @@
+package sp.releasetestbackend.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오 토큰/사용자 정보 API를 고정 지연으로 흉내 내는 로컬 서버. 스텁 자체가 병목이 되지 않도록 스레드를 제한하지 않는다.
+ */
+final class LatencyOAuthStub {
+    private static final String TOKEN = "{\"access_token\":\"benchmark-access-token\",\"token_type\":\"bearer\",\"expires_in\":3600}";
+    private static final String USER = "{\"id\":1,\"properties\":{\"nickname\":\"벤치마크\"},\"kakao_account\":{\"email\":\"benchmark@kakao.test\"}}";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long delayMillis;
+
+    private LatencyOAuthStub(HttpServer server, Duration delay) {
+        this.server = server;
+        this.delayMillis = delay.toMillis();
+    }
+
+    static LatencyOAuthStub start(Duration delay) {
+        try {
+            LatencyOAuthStub stub = new LatencyOAuthStub(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024), delay);
+            stub.server.createContext("/", stub::handle);
+            stub.server.setExecutor(stub.executor);
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("stub OAuth 서버를 시작하지 못했습니다", e);
+        }
+    }
+
+    String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            Thread.sleep(delayMillis);
+            byte[] body = (exchange.getRequestURI().getPath().endsWith("/token") ? TOKEN : USER)
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
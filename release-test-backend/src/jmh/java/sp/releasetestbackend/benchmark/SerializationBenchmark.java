@@ -0,0 +1,100 @@
+package sp.releasetestbackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.entity.EventType;
+import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 비용. 스프링 MVC와 같은 설정의 ObjectMapper를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    private static final String[] WEEKDAY_NAMES = {"일", "월", "화", "수", "목", "금", "토"};
+
+    private ObjectMapper objectMapper;
+    private Todo todo;
+    private List<Todo> todos;
+    private CalendarEvent event;
+    private List<CalendarEvent> events;
+    private DashboardResponseDTO dashboard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDate today = LocalDate.now();
+
+        todos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            todos.add(todo(i, today));
+        }
+        todo = todos.get(0);
+
+        events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            CalendarEvent e = new CalendarEvent();
+            e.setId((long) i);
+            e.setEventDate(today.plusDays(i % 31));
+            e.setTitle("팀 주간 회의 " + i);
+            e.setType(EventType.values()[i % EventType.values().length]);
+            e.setChangeVersion((long) i);
+            events.add(e);
+        }
+        event = events.get(0);
+
+        List<Map<String, Object>> weeklyChartData = new ArrayList<>();
+        for (int i = 0; i < WEEKDAY_NAMES.length; i++) {
+            weeklyChartData.add(Map.of("name", WEEKDAY_NAMES[i], "저번주", (long) i, "이번주", (long) i * 2));
+        }
+        dashboard = new DashboardResponseDTO(todos.subList(0, 12), 5, 12, 42, 8, weeklyChartData, 63);
+    }
+
+    @Benchmark
+    public String todo() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(todo);
+    }
+
+    @Benchmark
+    public String todoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(todos);
+    }
+
+    @Benchmark
+    public String calendarEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String calendarEventList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(events);
+    }
+
+    @Benchmark
+    public String dashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dashboard);
+    }
+
+    private static Todo todo(int i, LocalDate today) {
+        Todo t = new Todo();
+        t.setId((long) i);
+        t.setText("릴리스 노트 검토 및 QA 체크리스트 정리 " + i);
+        t.setPriority(Priority.values()[i % Priority.values().length]);
+        t.setCompleted(i % 3 == 0);
+        t.setDueDate(today.plusDays(i % 7));
+        t.setChangeVersion((long) i);
+        return t;
+    }
+}
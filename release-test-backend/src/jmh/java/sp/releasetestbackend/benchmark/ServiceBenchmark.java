@@ -0,0 +1,79 @@
+package sp.releasetestbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
+import sp.releasetestbackend.dashboard.service.DashboardService;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoService;
+
+import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 조회와 할 일 변경 경로를 헤비 유저 기준으로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+    private static final long ACCOUNT_ID = BenchmarkApplication.HEAVY_ACCOUNT_ID;
+
+    private ConfigurableApplicationContext context;
+    private DashboardService dashboardService;
+    private TodoService todoService;
+    private long todayTodoId;
+    private TodoDTO.Create createRequest;
+    private TodoDTO.Update updateRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("service_benchmark");
+        dashboardService = context.getBean(DashboardService.class);
+        todoService = context.getBean(TodoService.class);
+
+        LocalDate today = LocalDate.now();
+        todayTodoId = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT MIN(id) FROM todos WHERE account_id = ? AND due_date = ?", Long.class, ACCOUNT_ID, today);
+
+        createRequest = new TodoDTO.Create();
+        createRequest.setText("벤치마크 할 일");
+        createRequest.setPriority(Priority.MEDIUM);
+        createRequest.setDueDate(today);
+
+        updateRequest = new TodoDTO.Update();
+        updateRequest.setText("수정된 할 일");
+        updateRequest.setPriority(Priority.HIGH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DashboardResponseDTO dashboard() {
+        return dashboardService.getDashboardData(ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public Todo toggleTodo() throws AccessDeniedException {
+        return todoService.toggleTodo(ACCOUNT_ID, todayTodoId);
+    }
+
+    @Benchmark
+    public Todo updateTodo() throws AccessDeniedException {
+        return todoService.updateTodo(ACCOUNT_ID, todayTodoId, updateRequest);
+    }
+
+    @Benchmark
+    public void createAndDeleteTodo() throws AccessDeniedException {
+        // 데이터 양이 측정 중에 늘어나지 않도록 생성 직후 삭제
+        Todo created = todoService.createTodo(ACCOUNT_ID, createRequest);
+        todoService.deleteTodo(ACCOUNT_ID, created.getId());
+    }
+}
@@ -0,0 +1,91 @@
+package sp.releasetestbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import sp.releasetestbackend.jwt.JwtTokenService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드와 가상 스레드(spring.threads.virtual.enabled)의 처리량과 p99를 실제 Tomcat 위에서 비교한다.
+ * - login: 카카오 토큰/사용자 정보 호출이 각각 50ms 걸리는 블로킹 외부 호출 경로
+ * - dashboard: DB 조회 2건 경로 (가상 스레드 모드에서는 커넥션 세마포어를 거침)
+ * 동시 클라이언트 수(@Threads)는 Tomcat 기본 최대 스레드(200)보다 크게 잡는다.
+ * virtual은 Java 21 이상에서만 의미가 있다: ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=ThreadingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ThreadingBenchmark {
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(50);
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private LatencyOAuthStub stub;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI loginUri;
+    private URI dashboardUri;
+    private String bearer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 비교는 Java 21 이상에서 실행하세요 (-PjavaVersion=21)");
+        }
+
+        stub = LatencyOAuthStub.start(PROVIDER_LATENCY);
+        context = BenchmarkApplication.startWebServer("threading_benchmark_" + threads,
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--kakao.token-request-uri=" + stub.url("/kakao/token"),
+                "--kakao.user-info-request-uri=" + stub.url("/kakao/me"),
+                // 측정 대상은 스레드 모델이므로 제공자 벌크헤드/연결 풀이 먼저 막히지 않게 넉넉히
+                "--oauth.http.providers.kakao.max-connections=512",
+                "--oauth.http.providers.kakao.max-concurrent-calls=512",
+                "--oauth.http.providers.kakao.max-wait=5s");
+
+        String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        loginUri = URI.create(baseUrl + "/kakao-authentication/login?code=benchmark");
+        dashboardUri = URI.create(baseUrl + "/api/dashboard");
+        bearer = "Bearer " + context.getBean(JwtTokenService.class).generateToken(BenchmarkApplication.HEAVY_ACCOUNT_ID);
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        // 첫 로그인은 가입 처리라 동시 실행 전에 한 번 미리 수행
+        login();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.stop();
+    }
+
+    @Benchmark
+    public int login() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(loginUri).GET().build());
+    }
+
+    @Benchmark
+    public int dashboard() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(dashboardUri).header("Authorization", bearer).GET().build());
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri().getPath() + " -> " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,54 @@
+package sp.releasetestbackend.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 비용. verifyCached는 필터가 같은 토큰을 반복 검증하는 경우(캐시 적중),
+ * verifyUncached는 서명 검증까지 매번 수행하는 경우를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenServiceBenchmark {
+    private static final String SECRET_KEY =
+            "ReleaseTest2024-K7x9P2q5M8n3Q6r1S4t7U0v2W5y8Z1a4B7c0D3e6F9g2H5i8J1k4L7m0N3p6R9s2T5u8V1w4Y7z0";
+
+    private JwtTokenService jwtTokenService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenService = new JwtTokenService(new SimpleMeterRegistry());
+        setField("secretKey", SECRET_KEY);
+        setField("expiration", 86_400_000L);
+        setField("verifiedCacheMaximumSize", 10_000L);
+        jwtTokenService.init();
+        token = jwtTokenService.generateToken(42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenService.generateToken(42L);
+    }
+
+    @Benchmark
+    public Long verifyCached() {
+        return jwtTokenService.getAccountIdFromToken(token);
+    }
+
+    @Benchmark
+    public boolean verifyUncached() {
+        // isTokenExpired는 캐시를 거치지 않고 파싱과 서명 검증을 수행
+        return jwtTokenService.isTokenExpired(token);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenService, value);
+    }
+}
@@ -8,6 +8,8 @@ import sp.releasetestbackend.account.controller.response.SignUpResponse;
 import sp.releasetestbackend.account.entity.Account;
 import sp.releasetestbackend.account.service.AccountService;
 import sp.releasetestbackend.account_profile.controller.request.SignUpRequest;
+import sp.releasetestbackend.config.auth.LoginAccountId;
+import sp.releasetestbackend.config.jdbc.ShardContext;
 
 @Slf4j
 @RestController
@@ -23,14 +25,15 @@ public class AccountController {
     }
     
     @PutMapping("/nickname")
-    public ResponseEntity<String> updateNickname(@RequestBody UpdateNicknameRequest request, @RequestHeader("Authorization") String token) {
-        accountService.updateNickname(request, token);
+    public ResponseEntity<String> updateNickname(@RequestBody UpdateNicknameRequest request, @LoginAccountId Long accountId) {
+        // 계정/프로필은 디렉터리에만 있으므로 계정의 홈 샤드가 아닌 디렉터리에서 처리
+        ShardContext.onDirectory(() -> accountService.updateNickname(request, accountId));
         return ResponseEntity.ok("닉네임이 성공적으로 변경되었습니다.");
     }
     
     @DeleteMapping
-    public ResponseEntity<String> deleteAccount(@RequestHeader("Authorization") String token) {
-        accountService.deleteAccount(token);
+    public ResponseEntity<String> deleteAccount(@LoginAccountId Long accountId) {
+        ShardContext.onDirectory(() -> accountService.deleteAccount(accountId));
         return ResponseEntity.ok("계정이 성공적으로 삭제되었습니다.");
     }
     
@@ -23,10 +23,28 @@ public class Account {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // 삭제 요청 시각. 값이 있으면 AccountPurgeWorker가 데이터를 지운 뒤 행을 삭제함
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 삭제된 계정의 데이터 정리가 끝난 시각. 이후에는 계정 행을 지울 때만 다시 봄
+    @Column(name = "data_purged_at")
+    private LocalDateTime dataPurgedAt;
+
     public Account(LoginType loginType) {
         this.loginType = loginType;
     }
 
     public void setId(Long accountId) {
     }
+
+    public void markDeleted() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
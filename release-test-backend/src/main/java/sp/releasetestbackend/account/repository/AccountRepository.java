@@ -2,6 +2,31 @@ package sp.releasetestbackend.account.repository;
 
 import sp.releasetestbackend.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    // 삭제 표시되었지만 아직 데이터 정리가 끝나지 않은 계정 (먼저 삭제된 순)
+    @Query("SELECT a.id FROM Account a WHERE a.deletedAt IS NOT NULL ORDER BY a.deletedAt")
+    List<Long> findDeletedAccountIds();
+
+    // cutoff 전에 삭제됐고 데이터 정리가 아직 끝나지 않은 계정
+    @Query("SELECT a.id FROM Account a WHERE a.deletedAt < :cutoff AND a.dataPurgedAt IS NULL ORDER BY a.deletedAt")
+    List<Long> findAccountIdsToPurgeData(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT COUNT(a) FROM Account a WHERE a.deletedAt < :cutoff AND a.dataPurgedAt IS NULL")
+    long countAccountsToPurgeData(@Param("cutoff") LocalDateTime cutoff);
+
+    // 데이터 정리가 끝났고 retainCutoff 전에 삭제된(계정 행을 지워도 되는) 계정
+    @Query("SELECT a.id FROM Account a WHERE a.dataPurgedAt IS NOT NULL AND a.deletedAt < :retainCutoff ORDER BY a.deletedAt")
+    List<Long> findDataPurgedAccountIdsDeletedBefore(@Param("retainCutoff") LocalDateTime retainCutoff);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.dataPurgedAt = :purgedAt WHERE a.id = :accountId AND a.dataPurgedAt IS NULL")
+    int markDataPurged(@Param("accountId") Long accountId, @Param("purgedAt") LocalDateTime purgedAt);
 }
@@ -0,0 +1,7 @@
+package sp.releasetestbackend.account.service;
+
+/**
+ * 계정이 가입/변경/삭제되었음을 알리는 이벤트. 변경 기록(아웃박스)에 남는다.
+ */
+public record AccountChangedEvent(Long accountId, boolean deleted) {
+}
@@ -0,0 +1,112 @@
+package sp.releasetestbackend.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
+import sp.releasetestbackend.config.jdbc.ShardDirectory;
+import sp.releasetestbackend.dashboard.repository.TodoDailyStatsRepository;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.home.service.ImportantTodoCache;
+import sp.releasetestbackend.search.service.SearchIndexService;
+import sp.releasetestbackend.sync.repository.AccountChangeVersionRepository;
+import sp.releasetestbackend.sync.repository.SyncTombstoneRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시된 계정의 데이터 정리. 메서드 하나가 트랜잭션 하나이며, 잠금을 오래 잡지 않도록 조각 단위로만 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AccountPurgeService {
+    private final AccountRepository accountRepository;
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final CalendarEventRepository calendarEventRepository;
+    private final TodoDailyStatsRepository todoDailyStatsRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final AccountChangeVersionRepository accountChangeVersionRepository;
+    private final ImportantTodoCache importantTodoCache;
+    private final SearchIndexService searchIndexService;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+
+    // 정리 순서 (todos를 먼저 지워야 정합성 검사가 집계를 다시 만들지 않음)
+    public enum Target {
+        TODOS("todos"),
+        TODOS_ARCHIVE("todos_archive"),
+        CALENDAR_EVENTS("calendar_events"),
+        TODO_DAILY_STATS("todo_daily_stats"),
+        SYNC_TOMBSTONES("sync_tombstones");
+
+        private final String table;
+
+        Target(String table) {
+            this.table = table;
+        }
+
+        public String getTable() {
+            return table;
+        }
+    }
+
+    // cutoff 전에 삭제됐고 데이터가 남은 계정 (그 뒤에 삭제된 계정은 다른 인스턴스가 아직 토큰을 받아 줄 수 있음)
+    @Transactional(readOnly = true)
+    public List<Long> findAccountsToPurge(LocalDateTime cutoff) {
+        return accountRepository.findAccountIdsToPurgeData(cutoff);
+    }
+
+    @Transactional(readOnly = true)
+    public long countAccountsToPurge(LocalDateTime cutoff) {
+        return accountRepository.countAccountsToPurgeData(cutoff);
+    }
+
+    // 데이터 정리가 끝나 계정 행만 남은 계정 중 retainCutoff 전에 삭제된 계정
+    @Transactional(readOnly = true)
+    public List<Long> findAccountsToFinish(LocalDateTime retainCutoff) {
+        return accountRepository.findDataPurgedAccountIdsDeletedBefore(retainCutoff);
+    }
+
+    // 데이터 정리 완료 기록 (디렉터리의 계정 행). 이후 실행은 계정 행을 지울 때까지 이 계정을 건너뜀
+    public void markDataPurged(Long accountId) {
+        accountRepository.markDataPurged(accountId, LocalDateTime.now());
+        importantTodoCache.invalidate(accountId);
+        searchIndexService.invalidate(accountId);
+    }
+
+    public int deleteChunk(Target target, Long accountId, int limit) {
+        return switch (target) {
+            case TODOS -> todoRepository.deleteChunkByAccountId(accountId, limit);
+            case TODOS_ARCHIVE -> todoArchiveRepository.deleteChunkByAccountId(accountId, limit);
+            case CALENDAR_EVENTS -> calendarEventRepository.deleteChunkByAccountId(accountId, limit);
+            case TODO_DAILY_STATS -> todoDailyStatsRepository.deleteChunkByAccountId(accountId, limit);
+            case SYNC_TOMBSTONES -> syncTombstoneRepository.deleteChunkByAccountId(accountId, limit);
+        };
+    }
+
+    // 계정의 홈 샤드에서 마지막으로 변경 버전 행 삭제
+    public void finishAccountData(Long accountId) {
+        accountChangeVersionRepository.findById(accountId).ifPresent(accountChangeVersionRepository::delete);
+    }
+
+    /**
+     * 하위 데이터를 모두 지운 뒤 계정 행 삭제 (샤딩을 켠 경우 홈 샤드의 계정 복사본과 배치 행도).
+     * 계정 행은 인증 필터가 토큰을 거절하는 근거이므로 retainCutoff 전에 삭제된 계정만 지운다.
+     * @return 계정 행을 지웠으면 true
+     */
+    public boolean finish(Long accountId, LocalDateTime retainCutoff) {
+        Account account = accountRepository.findById(accountId).filter(Account::isDeleted).orElse(null);
+        if (account == null || !account.getDeletedAt().isBefore(retainCutoff)) {
+            return false;
+        }
+        shardDirectory.ifAvailable(directory -> directory.release(accountId));
+        accountRepository.delete(account);
+        return true;
+    }
+}
@@ -0,0 +1,163 @@
+package sp.releasetestbackend.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sp.releasetestbackend.config.jdbc.AccountRoutingContext;
+import sp.releasetestbackend.job.service.JobLocks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 삭제 표시된 계정의 할 일/이벤트/집계/삭제 기록을 백그라운드에서 조각 단위로 지운다.
+ * 여러 인스턴스 중 job_state 잠금을 잡은 한 곳에서만 실행한다. 진행 상태는 account.deleted_at/data_purged_at과
+ * 남은 행 자체이므로, 중간에 서버가 죽어도 다음 실행에서 이어서 지운다.
+ * 모든 인스턴스가 삭제를 알게 된 뒤(grace)부터 지우고 다 지우면 data_purged_at을 남긴다. 계정 행은 토큰이 모두
+ * 만료된 뒤(retain-account-row)에 남은 데이터를 한 번 더 확인하고 지우며, 그 사이에는 그 계정을 다시 보지 않는다.
+ */
+@Slf4j
+@Component
+public class AccountPurgeWorker {
+    static final String JOB_NAME = "account-purge";
+
+    private final AccountPurgeService accountPurgeService;
+    private final JobLocks jobLocks;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final Duration grace;
+    private final Duration retainAccountRow;
+    private final Duration lockLease;
+
+    private final AtomicInteger pendingAccounts = new AtomicInteger();
+    private final Map<AccountPurgeService.Target, Counter> deletedRows = new EnumMap<>(AccountPurgeService.Target.class);
+    private final Counter purgedAccounts;
+
+    public AccountPurgeWorker(AccountPurgeService accountPurgeService,
+                              JobLocks jobLocks,
+                              MeterRegistry meterRegistry,
+                              @Value("${account.purge.chunk-size:500}") int chunkSize,
+                              @Value("${account.purge.pause-between-chunks:PT0.01S}") Duration pauseBetweenChunks,
+                              @Value("${account.purge.grace:PT15S}") Duration grace,
+                              @Value("${account.purge.retain-account-row:PT24H}") Duration retainAccountRow,
+                              @Value("${account.purge.lock-lease:PT10M}") Duration lockLease) {
+        this.accountPurgeService = accountPurgeService;
+        this.jobLocks = jobLocks;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseBetweenChunks.toMillis();
+        this.grace = grace;
+        this.retainAccountRow = retainAccountRow;
+        this.lockLease = lockLease;
+
+        Gauge.builder("account.purge.pending", pendingAccounts, AtomicInteger::get)
+                .description("데이터 정리를 기다리는 삭제된 계정 수 (정리를 실행 중인 인스턴스에서만 0이 아님)")
+                .register(meterRegistry);
+        for (AccountPurgeService.Target target : AccountPurgeService.Target.values()) {
+            deletedRows.put(target, Counter.builder("account.purge.deleted.rows")
+                    .tag("table", target.getTable())
+                    .register(meterRegistry));
+        }
+        this.purgedAccounts = Counter.builder("account.purge.completed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${account.purge.interval:PT10S}")
+    public void purgeDeletedAccounts() {
+        // 다른 인스턴스가 실행 중이면 그쪽 수치만 남도록 0
+        jobLocks.runExclusive(JOB_NAME, lockLease, this::purgeLocked).orElseGet(() -> {
+            pendingAccounts.set(0);
+            return null;
+        });
+    }
+
+    private Void purgeLocked() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        List<Long> accountIds = accountPurgeService.findAccountsToPurge(cutoff);
+        pendingAccounts.set(accountIds.size());
+        for (Long accountId : accountIds) {
+            if (!renewLock()) {
+                return null;
+            }
+            try {
+                long total = purgeData(accountId);
+                accountPurgeService.markDataPurged(accountId);
+                pendingAccounts.decrementAndGet();
+                log.info("계정 데이터 정리: accountId={} rows={}", accountId, total);
+            } catch (RuntimeException e) {
+                // 다음 실행에서 남은 부분부터 다시 시도
+                log.warn("계정 데이터 정리 실패: accountId={} {}", accountId, e.getMessage());
+            }
+        }
+
+        for (Long accountId : accountPurgeService.findAccountsToFinish(LocalDateTime.now().minus(retainAccountRow))) {
+            if (!renewLock()) {
+                return null;
+            }
+            try {
+                finish(accountId);
+            } catch (RuntimeException e) {
+                log.warn("계정 행 삭제 실패: accountId={} {}", accountId, e.getMessage());
+            }
+        }
+        pendingAccounts.set((int) accountPurgeService.countAccountsToPurge(cutoff));
+        return null;
+    }
+
+    // 계정마다 잠금을 연장하고, 잃었으면(lease 초과) 다른 인스턴스에 넘김
+    private boolean renewLock() {
+        if (jobLocks.renew(JOB_NAME, lockLease)) {
+            return true;
+        }
+        log.warn("Lost account purge lock");
+        return false;
+    }
+
+    // 정리 뒤 삭제 처리가 늦게 반영된 인스턴스가 쓴 행이 있을 수 있어 한 번 더 지우고 계정 행 삭제
+    private void finish(Long accountId) {
+        long total = purgeData(accountId);
+        if (accountPurgeService.finish(accountId, LocalDateTime.now().minus(retainAccountRow))) {
+            purgedAccounts.increment();
+            log.info("계정 삭제 완료: accountId={} rows={}", accountId, total);
+        }
+    }
+
+    // 계정 데이터는 계정의 홈 샤드에서, 계정 행은 디렉터리에서 지움 (샤딩을 끄면 같은 DB)
+    private long purgeData(Long accountId) {
+        return AccountRoutingContext.forAccount(accountId, () -> purgeAccountData(accountId));
+    }
+
+    private long purgeAccountData(Long accountId) {
+        long total = 0;
+        for (AccountPurgeService.Target target : AccountPurgeService.Target.values()) {
+            int deleted;
+            do {
+                deleted = accountPurgeService.deleteChunk(target, accountId, chunkSize);
+                deletedRows.get(target).increment(deleted);
+                total += deleted;
+                pause(deleted);
+            } while (deleted >= chunkSize);
+        }
+        accountPurgeService.finishAccountData(accountId);
+        return total;
+    }
+
+    // 조각 사이에 잠깐 쉬어 다른 트랜잭션이 잠금을 얻을 틈을 줌
+    private void pause(int deleted) {
+        if (deleted == 0 || pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계정 데이터 정리 중단", e);
+        }
+    }
+}
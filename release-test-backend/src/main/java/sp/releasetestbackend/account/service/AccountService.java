@@ -6,6 +6,6 @@ import sp.releasetestbackend.account.controller.AccountController.UpdateNickname
 
 public interface AccountService {
     SignUpResponse signUp(SignUpRequest signUpRequest, String token);
-    void updateNickname(UpdateNicknameRequest request, String token);
-    void deleteAccount(String token);
+    void updateNickname(UpdateNicknameRequest request, Long accountId);
+    void deleteAccount(Long accountId);
 }
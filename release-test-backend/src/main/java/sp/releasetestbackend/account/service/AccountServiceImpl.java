@@ -5,15 +5,21 @@ import sp.releasetestbackend.account.entity.Account;
 import sp.releasetestbackend.account.repository.AccountRepository;
 import sp.releasetestbackend.account_profile.controller.request.SignUpRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sp.releasetestbackend.account_profile.entity.AccountProfile;
+import sp.releasetestbackend.account_profile.service.AccountLoginCache;
 import sp.releasetestbackend.account_profile.service.AccountProfileService;
 import sp.releasetestbackend.account_profile.repository.AccountProfileRepository;
+import sp.releasetestbackend.config.jdbc.ShardDirectory;
 import sp.releasetestbackend.jwt.JwtTokenService;
 import sp.releasetestbackend.account.controller.AccountController.UpdateNicknameRequest;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,6 +28,10 @@ public class AccountServiceImpl implements AccountService {
     private final AccountProfileService accountProfileService;
     private final AccountProfileRepository accountProfileRepository;
     private final JwtTokenService jwtTokenService;
+    private final AccountLoginCache accountLoginCache;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeletedAccounts deletedAccounts;
 
     @Override
     public SignUpResponse signUp(SignUpRequest request, String token) {
@@ -36,10 +46,14 @@ public class AccountServiceImpl implements AccountService {
         // Account 생성
         Account account = new Account(request.getLoginType());
         Account savedAccount = accountRepository.save(account);
+        // 샤딩을 켠 경우 할 일/이벤트를 둘 샤드 지정
+        shardDirectory.ifAvailable(directory -> directory.assign(savedAccount.getId()));
 
         // AccountProfile 생성
         AccountProfile savedAccountProfile = accountProfileService.createProfile(savedAccount, request);
 
+        eventPublisher.publishEvent(new AccountChangedEvent(savedAccount.getId(), false));
+
         // JWT 토큰 생성
         String userToken = jwtTokenService.generateToken(savedAccount.getId());
 
@@ -55,54 +69,28 @@ public class AccountServiceImpl implements AccountService {
     }
     
     @Override
-    public void updateNickname(UpdateNicknameRequest request, String token) {
-        // JWT 토큰에서 accountId 추출
-        System.out.println("받은 토큰: " + token);
-        String accessToken = token.replace("Bearer ", "");
-        System.out.println("Bearer 제거 후 토큰: " + accessToken);
-        
-        Long accountId = jwtTokenService.getAccountIdFromToken(accessToken);
-        System.out.println("파싱된 accountId: " + accountId);
-        
-        if (accountId == null) {
-            throw new RuntimeException("유효하지 않은 토큰입니다.");
-        }
-        
-        System.out.println("추출된 accountId: " + accountId);
+    public void updateNickname(UpdateNicknameRequest request, Long accountId) {
+        // accountId는 JwtAuthenticationFilter에서 검증된 값
+        log.debug("닉네임 변경 요청: accountId={}", accountId);
         
         // AccountProfile 조회 및 업데이트
         Optional<AccountProfile> profileOpt = accountProfileRepository.findByAccount_Id(accountId);
         
-        System.out.println("프로필 조회 결과: " + profileOpt.isPresent());
-        
         if (profileOpt.isEmpty()) {
-            // 모든 프로필 조회하여 디버깅
-            System.out.println("=== 모든 AccountProfile 조회 ===");
-            for (AccountProfile profile : accountProfileRepository.findAll()) {
-                System.out.println("Profile ID: " + profile.getId() + 
-                                 ", Account ID: " + profile.getAccount().getId() +
-                                 ", Email: " + profile.getEmail() +
-                                 ", Nickname: " + profile.getNickname());
-            }
+            log.warn("프로필을 찾을 수 없습니다: accountId={}", accountId);
             throw new RuntimeException("프로필을 찾을 수 없습니다. accountId: " + accountId);
         }
         
         AccountProfile profile = profileOpt.get();
         profile.updateNickname(request.nickname);
         accountProfileRepository.save(profile);
+        accountLoginCache.invalidate(profile.getLoginType(), profile.getEmail());
+        eventPublisher.publishEvent(new AccountChangedEvent(accountId, false));
     }
     
     @Override
-    public void deleteAccount(String token) {
-        // JWT 토큰에서 accountId 추출
-        String accessToken = token.replace("Bearer ", "");
-        Long accountId = jwtTokenService.getAccountIdFromToken(accessToken);
-        
-        if (accountId == null) {
-            throw new RuntimeException("유효하지 않은 토큰입니다.");
-        }
-        
-        System.out.println("삭제할 accountId: " + accountId);
+    public void deleteAccount(Long accountId) {
+        log.info("계정 삭제 요청: accountId={}", accountId);
         
         // Account 조회
         Optional<Account> accountOpt = accountRepository.findById(accountId);
@@ -110,12 +98,18 @@ public class AccountServiceImpl implements AccountService {
             throw new RuntimeException("계정을 찾을 수 없습니다. accountId: " + accountId);
         }
         
-        // AccountProfile 먼저 삭제 (외래키 관계 때문에)
+        // AccountProfile은 바로 삭제 (같은 이메일로 재가입 가능, 로그인 캐시 무효화)
+        accountProfileRepository.findByAccount_Id(accountId)
+                .ifPresent(profile -> accountLoginCache.invalidate(profile.getLoginType(), profile.getEmail()));
         accountProfileRepository.deleteByAccount_Id(accountId);
         
-        // Account 삭제
-        accountRepository.deleteById(accountId);
+        // Account는 삭제 표시만 하고, 할 일/이벤트와 계정 행은 AccountPurgeWorker가 나눠서 삭제
+        accountOpt.get().markDeleted();
+        // 이 인스턴스에서는 바로, 다른 인스턴스는 account.deleted-refresh 안에 이 계정의 토큰을 거절
+        deletedAccounts.add(accountId);
+        jwtTokenService.evictAccount(accountId);
+        eventPublisher.publishEvent(new AccountChangedEvent(accountId, true));
         
-        System.out.println("계정 삭제 완료: " + accountId);
+        log.info("계정 삭제 표시 완료 (데이터는 백그라운드에서 정리): accountId={}", accountId);
     }
 }
@@ -0,0 +1,42 @@
+package sp.releasetestbackend.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sp.releasetestbackend.account.repository.AccountRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 삭제 표시된(계정 행이 아직 남은) 계정 목록. 인증 필터가 이 계정들의 토큰을 거절한다.
+ * 인스턴스마다 account.deleted-refresh마다 DB에서 다시 읽고, 이 인스턴스에서 삭제한 계정은 바로 넣는다.
+ * 계정 행은 발급된 토큰이 모두 만료된 뒤에 지우므로(account.purge.retain-account-row), 그 전까지 계속 거절된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeletedAccounts {
+    private final AccountRepository accountRepository;
+
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    // 직전 갱신 때 이미 있던 계정 (그 뒤에 add된 계정은 커밋 전에 읽은 결과로 빠지지 않게 한 번 더 남김)
+    private volatile Set<Long> seenAtLastRefresh = Set.of();
+
+    public boolean contains(Long accountId) {
+        return deleted.contains(accountId);
+    }
+
+    public void add(Long accountId) {
+        deleted.add(accountId);
+    }
+
+    @Scheduled(fixedDelayString = "${account.deleted-refresh:PT5S}")
+    public void refresh() {
+        Set<Long> fromDb = new HashSet<>(accountRepository.findDeletedAccountIds());
+        Set<Long> seen = seenAtLastRefresh;
+        deleted.removeIf(accountId -> !fromDb.contains(accountId) && seen.contains(accountId));
+        deleted.addAll(fromDb);
+        seenAtLastRefresh = Set.copyOf(deleted);
+    }
+}
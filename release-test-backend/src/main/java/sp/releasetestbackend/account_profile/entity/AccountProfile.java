@@ -1,6 +1,7 @@
 package sp.releasetestbackend.account_profile.entity;
 
 import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(name = "account_profile", uniqueConstraints = {
+        // 로그인 시 (로그인 타입, 이메일)로 account 조인 없이 바로 찾기 위함
+        @UniqueConstraint(name = "uk_account_profile_login_type_email", columnNames = {"login_type", "email"})
+})
 public class AccountProfile {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +26,11 @@ public class AccountProfile {
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
+    // account.loginType 복사본 (가입 시 고정)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "login_type")
+    private LoginType loginType;
+
     private String email;
 
     private String nickname;
@@ -35,6 +45,7 @@ public class AccountProfile {
 
     public AccountProfile(Account account, String email, String nickname) {
         this.account = account;
+        this.loginType = account.getLoginType();
         this.email = email;
         this.nickname = nickname;
     }
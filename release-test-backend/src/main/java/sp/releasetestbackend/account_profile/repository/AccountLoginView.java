@@ -0,0 +1,7 @@
+package sp.releasetestbackend.account_profile.repository;
+
+// 로그인 시 필요한 값 (JWT 발급용 accountId, 화면 표시용 닉네임)
+public interface AccountLoginView {
+    Long getAccountId();
+    String getNickname();
+}
@@ -2,7 +2,10 @@ package sp.releasetestbackend.account_profile.repository;
 
 import sp.releasetestbackend.account.entity.LoginType;
 import sp.releasetestbackend.account_profile.entity.AccountProfile;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,6 +17,22 @@ public interface AccountProfileRepository extends CrudRepository<AccountProfile,
     Optional<AccountProfile> findByEmailAndAccount_LoginType(String email, LoginType loginType);
     boolean existsByEmailAndAccount_LoginType(String email, LoginType loginType);
     
+    // (로그인 타입, 이메일) 유니크 인덱스로 조회 - account 조인 없음
+    Optional<AccountProfile> findByLoginTypeAndEmail(LoginType loginType, String email);
+    boolean existsByLoginTypeAndEmail(LoginType loginType, String email);
+
+    // 로그인에 필요한 값만 조회 (Account 엔티티를 로드하지 않음)
+    @Query("SELECT p.account.id AS accountId, p.nickname AS nickname FROM AccountProfile p " +
+           "WHERE p.loginType = :loginType AND p.email = :email")
+    Optional<AccountLoginView> findLoginView(@Param("loginType") LoginType loginType, @Param("email") String email);
+
+    // login_type 컬럼 추가 전에 가입한 프로필 채우기
+    @Modifying
+    @Query(value = "UPDATE account_profile SET login_type = " +
+                   "(SELECT a.login_type FROM account a WHERE a.id = account_profile.account_id) " +
+                   "WHERE login_type IS NULL", nativeQuery = true)
+    int backfillLoginType();
+
     // Account ID로 찾기
     Optional<AccountProfile> findByAccount_Id(Long accountId);
     void deleteByAccount_Id(Long accountId);
@@ -0,0 +1,70 @@
+package sp.releasetestbackend.account_profile.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account_profile.repository.AccountLoginView;
+import sp.releasetestbackend.account_profile.repository.AccountProfileRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * (로그인 타입, 이메일) -> (accountId, 닉네임) 캐시. 기존 사용자의 재로그인은 DB 조회 없이 JWT를 발급한다.
+ * 가입된 사용자만 보관하고, 닉네임 변경/계정 삭제 시 무효화한다.
+ */
+@Component
+public class AccountLoginCache {
+    private final AccountProfileRepository accountProfileRepository;
+    private final Cache<Key, AccountLogin> logins;
+
+    public AccountLoginCache(AccountProfileRepository accountProfileRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${account.login-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${account.login-cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.accountProfileRepository = accountProfileRepository;
+        this.logins = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, logins, "account.logins");
+    }
+
+    public Optional<AccountLogin> find(LoginType loginType, String email) {
+        // 가입 안 된 사용자는 null이라 캐시에 남지 않음 (가입 직후 바로 조회됨)
+        return Optional.ofNullable(logins.get(new Key(loginType, email), key ->
+                accountProfileRepository.findLoginView(key.loginType(), key.email())
+                        .map(AccountLogin::from)
+                        .orElse(null)));
+    }
+
+    // 지금 지우고, 커밋 뒤에 한 번 더 지움 (커밋 전에 다른 요청이 옛 값을 다시 채운 경우 대비)
+    public void invalidate(LoginType loginType, String email) {
+        Key key = new Key(loginType, email);
+        logins.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    logins.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public record AccountLogin(Long accountId, String nickname) {
+        static AccountLogin from(AccountLoginView view) {
+            return new AccountLogin(view.getAccountId(), view.getNickname());
+        }
+    }
+
+    private record Key(LoginType loginType, String email) {
+    }
+}
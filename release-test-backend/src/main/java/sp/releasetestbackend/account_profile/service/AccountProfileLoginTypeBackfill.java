@@ -0,0 +1,26 @@
+package sp.releasetestbackend.account_profile.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.account_profile.repository.AccountProfileRepository;
+
+// account_profile.login_type 컬럼 추가 전에 가입한 프로필을 시작 시 채움 (채울 게 없으면 UPDATE 0건)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountProfileLoginTypeBackfill {
+    private final AccountProfileRepository accountProfileRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = accountProfileRepository.backfillLoginType();
+        if (updated > 0) {
+            log.info("account_profile.login_type 채움: {}건", updated);
+        }
+    }
+}
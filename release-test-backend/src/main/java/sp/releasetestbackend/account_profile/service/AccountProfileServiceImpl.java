@@ -31,7 +31,7 @@ public class AccountProfileServiceImpl implements AccountProfileService {
     
     @Override
     public boolean isEmailExistsWithLoginType(String email, LoginType loginType) {
-        return accountProfileRepository.existsByEmailAndAccount_LoginType(email, loginType);
+        return accountProfileRepository.existsByLoginTypeAndEmail(loginType, email);
     }
 
     @Override
@@ -41,7 +41,7 @@ public class AccountProfileServiceImpl implements AccountProfileService {
     
     @Override
     public Optional<AccountProfile> findByEmailAndLoginType(String email, LoginType loginType) {
-        return accountProfileRepository.findByEmailAndAccount_LoginType(email, loginType);
+        return accountProfileRepository.findByLoginTypeAndEmail(loginType, email);
     }
 
     @Override
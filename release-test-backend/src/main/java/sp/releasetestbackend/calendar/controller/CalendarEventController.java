@@ -6,11 +6,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import sp.releasetestbackend.calendar.dto.CalendarEventDTO;
 import sp.releasetestbackend.calendar.entity.CalendarEvent;
-import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
 import sp.releasetestbackend.calendar.service.CalendarEventService;
-import sp.releasetestbackend.config.auth.AuthUtils;
+import sp.releasetestbackend.config.auth.LoginAccountId;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,28 +19,29 @@ import java.util.List;
 @CrossOrigin
 public class CalendarEventController {
     private final CalendarEventService calendarEventService;
-    private final CalendarEventRepository calendarEventRepository;
-    private final AuthUtils authUtils;
 
-    // 로그인한 사용자의 모든 이벤트 조회
+    // 로그인한 사용자의 기간 내 이벤트 조회 (from/to 필수, 최대 92일)
     @GetMapping
-    public List<CalendarEvent> getAllEvents(@RequestHeader("Authorization") String token) {
-        Long accountId = authUtils.getAccountIdFromToken(token);
-        return calendarEventRepository.findByAccountId(accountId);
+    public ResponseEntity<List<CalendarEvent>> getEvents(@RequestParam("from") LocalDate from,
+                                                         @RequestParam("to") LocalDate to,
+                                                         @LoginAccountId Long accountId) {
+        try {
+            return ResponseEntity.ok(calendarEventService.getEventsBetween(accountId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 로그인한 사용자의 새 이벤트 생성
     @PostMapping
-    public CalendarEvent createEvent(@RequestBody CalendarEventDTO.Create request, @RequestHeader("Authorization") String token) {
-        Long accountId = authUtils.getAccountIdFromToken(token);
+    public CalendarEvent createEvent(@RequestBody CalendarEventDTO.Create request, @LoginAccountId Long accountId) {
         return calendarEventService.createEvent(accountId, request);
     }
 
     // 이벤트 수정
     @PutMapping("/{id}")
-    public ResponseEntity<CalendarEvent> updateEvent(@PathVariable Long id, @RequestBody CalendarEventDTO.Update request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<CalendarEvent> updateEvent(@PathVariable Long id, @RequestBody CalendarEventDTO.Update request, @LoginAccountId Long accountId) {
         try {
-            Long accountId = authUtils.getAccountIdFromToken(token);
             CalendarEvent updatedEvent = calendarEventService.updateEvent(accountId, id, request);
             return ResponseEntity.ok(updatedEvent);
         } catch (AccessDeniedException e) {
@@ -50,9 +51,8 @@ public class CalendarEventController {
 
     // 이벤트 삭제
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEvent(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<Void> deleteEvent(@PathVariable Long id, @LoginAccountId Long accountId) {
         try {
-            Long accountId = authUtils.getAccountIdFromToken(token);
             calendarEventService.deleteEvent(accountId, id);
             return ResponseEntity.noContent().build();
         } catch (AccessDeniedException e) {
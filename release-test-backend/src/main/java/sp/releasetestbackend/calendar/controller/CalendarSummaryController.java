@@ -0,0 +1,24 @@
+package sp.releasetestbackend.calendar.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import sp.releasetestbackend.calendar.dto.CalendarEventDTO;
+import sp.releasetestbackend.calendar.service.CalendarEventService;
+import sp.releasetestbackend.config.auth.LoginAccountId;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/calendar/summary")
+@RequiredArgsConstructor
+@CrossOrigin
+public class CalendarSummaryController {
+    private final CalendarEventService calendarEventService;
+
+    // 월간 일자별 이벤트 유형/할 일 개수 (month=yyyy-MM)
+    @GetMapping
+    public CalendarEventDTO.MonthSummary getMonthSummary(@RequestParam("month") YearMonth month,
+                                                         @LoginAccountId Long accountId) {
+        return calendarEventService.getMonthSummary(accountId, month);
+    }
+}
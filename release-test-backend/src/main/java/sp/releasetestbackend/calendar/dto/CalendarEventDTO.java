@@ -1,10 +1,12 @@
 package sp.releasetestbackend.calendar.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import sp.releasetestbackend.calendar.entity.EventType;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class CalendarEventDTO {
     @Getter
@@ -21,4 +23,25 @@ public class CalendarEventDTO {
         private String title;
         private EventType type;
     }
+
+    @Getter
+    @Setter
+    public static class DaySummary { // 하루치 개수 (유형별 이벤트 + 할 일)
+        private LocalDate date;
+        private long event;
+        private long holiday;
+        private long meeting;
+        private long todo;
+
+        public DaySummary(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MonthSummary { // 월간 달력 그리드용 요약 (항목이 있는 날만 포함)
+        private String month;
+        private List<DaySummary> days;
+    }
 }
@@ -13,7 +13,12 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
-@Table(name = "calendar_events")
+@Table(name = "calendar_events", indexes = {
+        // 기간(월) 조회용
+        @Index(name = "idx_calendar_events_account_event_date", columnList = "account_id, event_date"),
+        // 델타 동기화용
+        @Index(name = "idx_calendar_events_account_change_version", columnList = "account_id, change_version")
+})
 public class CalendarEvent {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,9 +30,14 @@ public class CalendarEvent {
     private Account account;
 
     @JsonProperty("date")
+    @Column(name = "event_date")
     private LocalDate eventDate;
     private String title;
 
     @Enumerated(EnumType.STRING)
     private EventType type;
+
+    // 마지막으로 변경된 시점의 계정 변경 버전 (/api/sync)
+    @Column(name = "change_version")
+    private Long changeVersion;
 }
@@ -1,10 +1,44 @@
 package sp.releasetestbackend.calendar.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.entity.EventType;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Long> {
     List<CalendarEvent> findByAccountId(Long accountId);
-}
\ No newline at end of file
+    List<CalendarEvent> findByAccountIdAndChangeVersionGreaterThan(Long accountId, Long changeVersion);
+    List<CalendarEvent> findByAccountIdAndEventDateBetween(Long accountId, LocalDate from, LocalDate to);
+
+    // 기간 내 일자/유형별 이벤트 개수 (월간 요약용)
+    @Query("select e.eventDate as day, e.type as type, count(e) as eventCount from CalendarEvent e " +
+            "where e.account.id = :accountId and e.eventDate between :from and :to " +
+            "group by e.eventDate, e.type")
+    List<EventDayCount> countByDayAndType(@Param("accountId") Long accountId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    // 소유자 조건을 포함한 단일 SQL 변경. 반환값이 0이면 없거나 권한이 없는 이벤트
+    @Modifying(clearAutomatically = true)
+    @Query("update CalendarEvent e set e.title = :title, e.type = :type, e.changeVersion = :version " +
+            "where e.id = :id and e.account.id = :accountId")
+    int updateOwned(@Param("id") Long id,
+                    @Param("accountId") Long accountId,
+                    @Param("title") String title,
+                    @Param("type") EventType type,
+                    @Param("version") long version);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM calendar_events WHERE id = :id AND account_id = :accountId", nativeQuery = true)
+    int deleteOwned(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    // 계정 삭제 후 정리용: 짧은 트랜잭션으로 나눠 지우도록 한 번에 limit건만 삭제
+    @Modifying
+    @Query(value = "DELETE FROM calendar_events WHERE account_id = :accountId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package sp.releasetestbackend.calendar.repository;
+
+import sp.releasetestbackend.calendar.entity.EventType;
+
+import java.time.LocalDate;
+
+// 일자/유형별 이벤트 개수 (인터페이스 프로젝션)
+public interface EventDayCount {
+    LocalDate getDay();
+    EventType getType();
+    Long getEventCount();
+}
@@ -0,0 +1,19 @@
+package sp.releasetestbackend.calendar.service;
+
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+
+import java.util.List;
+
+/**
+ * 계정의 캘린더 이벤트가 바뀌었음을 알리는 이벤트. 실시간 푸시 등이 커밋 뒤에 받아 처리한다.
+ */
+public record CalendarEventChangedEvent(Long accountId, List<CalendarEvent> saved, List<Long> deletedIds) {
+
+    public static CalendarEventChangedEvent saved(Long accountId, CalendarEvent event) {
+        return new CalendarEventChangedEvent(accountId, List.of(event), List.of());
+    }
+
+    public static CalendarEventChangedEvent deleted(Long accountId, Long eventId) {
+        return new CalendarEventChangedEvent(accountId, List.of(), List.of(eventId));
+    }
+}
@@ -1,6 +1,7 @@
 package sp.releasetestbackend.calendar.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sp.releasetestbackend.account.entity.Account;
@@ -8,8 +9,21 @@ import sp.releasetestbackend.account.repository.AccountRepository;
 import sp.releasetestbackend.calendar.dto.CalendarEventDTO;
 import sp.releasetestbackend.calendar.entity.CalendarEvent;
 import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
+import sp.releasetestbackend.calendar.repository.EventDayCount;
+import sp.releasetestbackend.dashboard.entity.TodoDailyStats;
+import sp.releasetestbackend.dashboard.repository.TodoDailyStatsRepository;
+import sp.releasetestbackend.search.service.SearchIndexService;
+import sp.releasetestbackend.sync.entity.SyncEntityType;
+import sp.releasetestbackend.sync.service.SyncVersionService;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -17,42 +31,89 @@ import java.nio.file.AccessDeniedException;
 public class CalendarEventService {
     private final CalendarEventRepository calendarEventRepository;
     private final AccountRepository accountRepository;
+    private final SyncVersionService syncVersionService;
+    private final TodoDailyStatsRepository todoDailyStatsRepository;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final long MAX_RANGE_DAYS = 92;
+
+    // 기간 내 이벤트 조회 (달력 화면은 최대 한 분기 단위로 요청)
+    @Transactional(readOnly = true)
+    public List<CalendarEvent> getEventsBetween(Long accountId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        return calendarEventRepository.findByAccountIdAndEventDateBetween(accountId, from, to);
+    }
+
+    // 월간 일자별 요약: 이벤트는 그룹 쿼리 한 번, 할 일은 일자별 집계 테이블에서 조회
+    @Transactional(readOnly = true)
+    public CalendarEventDTO.MonthSummary getMonthSummary(Long accountId, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        Map<LocalDate, CalendarEventDTO.DaySummary> days = new TreeMap<>();
+
+        for (EventDayCount count : calendarEventRepository.countByDayAndType(accountId, from, to)) {
+            CalendarEventDTO.DaySummary day = days.computeIfAbsent(count.getDay(), CalendarEventDTO.DaySummary::new);
+            if (count.getType() == null) {
+                continue;
+            }
+            switch (count.getType()) {
+                case event -> day.setEvent(day.getEvent() + count.getEventCount());
+                case holiday -> day.setHoliday(day.getHoliday() + count.getEventCount());
+                case meeting -> day.setMeeting(day.getMeeting() + count.getEventCount());
+            }
+        }
+
+        for (TodoDailyStats stats : todoDailyStatsRepository.findByAccountIdAndDayBetween(accountId, from, to)) {
+            if (stats.getTotal() > 0) {
+                days.computeIfAbsent(stats.getDay(), CalendarEventDTO.DaySummary::new).setTodo(stats.getTotal());
+            }
+        }
+
+        return new CalendarEventDTO.MonthSummary(month.toString(), new ArrayList<>(days.values()));
+    }
 
     public CalendarEvent createEvent(Long accountId, CalendarEventDTO.Create request) {
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다: " + accountId));
-        
+        // FK 설정만 필요하므로 계정을 조회하지 않고 참조만 사용
+        Account account = accountRepository.getReferenceById(accountId);
+
         CalendarEvent newEvent = new CalendarEvent();
         newEvent.setAccount(account);
         newEvent.setEventDate(request.getDate());
         newEvent.setTitle(request.getTitle());
         newEvent.setType(request.getType());
-        return calendarEventRepository.save(newEvent);
+        newEvent.setChangeVersion(syncVersionService.nextVersion(accountId));
+        CalendarEvent savedEvent = calendarEventRepository.save(newEvent);
+        searchIndexService.eventSaved(accountId, savedEvent);
+        eventPublisher.publishEvent(CalendarEventChangedEvent.saved(accountId, savedEvent));
+        return savedEvent;
     }
 
     // 이벤트 수정
     public CalendarEvent updateEvent(Long accountId, Long eventId, CalendarEventDTO.Update request) throws AccessDeniedException {
+        long version = syncVersionService.nextVersion(accountId);
+        int updated = calendarEventRepository.updateOwned(eventId, accountId, request.getTitle(), request.getType(), version);
+        if (updated == 0) {
+            throw new AccessDeniedException("이벤트를 찾을 수 없거나 수정할 권한이 없습니다: " + eventId);
+        }
+        // 응답용으로 변경된 행을 다시 읽음
         CalendarEvent event = calendarEventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 이벤트를 찾을 수 없습니다: " + eventId));
-
-        if (!event.getAccount().getId().equals(accountId)) {
-            throw new AccessDeniedException("이 이벤트를 수정할 권한이 없습니다.");
-        }
-
-        event.setTitle(request.getTitle());
-        event.setType(request.getType());
+        searchIndexService.eventSaved(accountId, event);
+        eventPublisher.publishEvent(CalendarEventChangedEvent.saved(accountId, event));
         return event;
     }
 
     // 이벤트 삭제
     public void deleteEvent(Long accountId, Long eventId) throws AccessDeniedException {
-        CalendarEvent event = calendarEventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 이벤트를 찾을 수 없습니다: " + eventId));
-
-        if (!event.getAccount().getId().equals(accountId)) {
-            throw new AccessDeniedException("이 이벤트를 삭제할 권한이 없습니다.");
+        int deleted = calendarEventRepository.deleteOwned(eventId, accountId);
+        if (deleted == 0) {
+            throw new AccessDeniedException("이벤트를 찾을 수 없거나 삭제할 권한이 없습니다: " + eventId);
         }
-
-        calendarEventRepository.deleteById(eventId);
+        syncVersionService.recordDeletion(accountId, SyncEntityType.CALENDAR_EVENT, eventId, syncVersionService.nextVersion(accountId));
+        searchIndexService.eventDeleted(accountId, eventId);
+        eventPublisher.publishEvent(CalendarEventChangedEvent.deleted(accountId, eventId));
     }
 }
@@ -1,26 +1,16 @@
 package sp.releasetestbackend.config;
 
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.converter.StringHttpMessageConverter;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import sp.releasetestbackend.config.http.OAuthHttpProperties;
 
-import java.nio.charset.StandardCharsets;
-
+// 외부(OAuth 제공자) 호출용 클라이언트는 제공자별로 config.http.OAuthHttpClients에서 생성
 @Configuration
+@EnableConfigurationProperties(OAuthHttpProperties.class)
 public class RestApiConfig implements WebMvcConfigurer {
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        // UTF-8 인코딩을 위한 StringHttpMessageConverter 설정
-        restTemplate.getMessageConverters()
-                .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
-        return restTemplate;
-    }
-    
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
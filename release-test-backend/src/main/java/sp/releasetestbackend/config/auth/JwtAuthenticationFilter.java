@@ -0,0 +1,79 @@
+package sp.releasetestbackend.config.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sp.releasetestbackend.account.service.DeletedAccounts;
+import sp.releasetestbackend.jwt.JwtTokenService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청당 한 번 Authorization 헤더의 JWT를 검증하고, 성공하면 accountId를 요청 속성에 담아 넘긴다.
+ * 검증에 실패하거나 삭제된 계정의 토큰이면 컨트롤러(및 repository)에 도달하기 전에 401로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    public static final String ACCOUNT_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".accountId";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+    private final DeletedAccounts deletedAccounts;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight 요청은 토큰 없이 통과
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/")) {
+            return false;
+        }
+        // 회원가입은 JWT가 아닌 소셜 로그인 토큰으로 호출됨
+        boolean isAccountPath = path.equals("/account") || path.startsWith("/account/");
+        return !isAccountPath || path.equals("/account/signup");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            sendUnauthorized(response, "유효하지 않은 인증 헤더입니다.");
+            return;
+        }
+
+        Long accountId = jwtTokenService.getAccountIdFromToken(authorizationHeader.substring(BEARER_PREFIX.length()));
+        if (accountId == null) {
+            sendUnauthorized(response, "유효하지 않은 토큰입니다.");
+            return;
+        }
+        // 삭제 후 데이터 정리 중인 계정이 새 데이터를 쓰지 못하게 함
+        if (deletedAccounts.contains(accountId)) {
+            sendUnauthorized(response, "삭제된 계정입니다.");
+            return;
+        }
+
+        request.setAttribute(ACCOUNT_ID_ATTRIBUTE, accountId);
+        filterChain.doFilter(request, response);
+    }
+
+    private void sendUnauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"" + message + "\"}");
+    }
+}
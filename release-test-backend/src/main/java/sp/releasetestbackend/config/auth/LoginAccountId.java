@@ -0,0 +1,14 @@
+package sp.releasetestbackend.config.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JwtAuthenticationFilter가 검증한 토큰의 accountId를 컨트롤러 파라미터로 주입받을 때 사용
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginAccountId {
+}
@@ -0,0 +1,101 @@
+package sp.releasetestbackend.config.http;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * OAuth 제공자 하나 전용 HTTP 클라이언트 (전용 연결 풀 + 서킷 브레이커 + 벌크헤드).
+ */
+@Slf4j
+public class OAuthHttpClient implements AutoCloseable {
+    @Getter
+    private final String provider;
+    private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+    private final List<URI> warmupOrigins;
+    private final int prewarmConnections;
+
+    OAuthHttpClient(String provider, RestTemplate restTemplate, CloseableHttpClient httpClient,
+                    CircuitBreaker circuitBreaker, Bulkhead bulkhead, List<URI> warmupOrigins, int prewarmConnections) {
+        this.provider = provider;
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.warmupOrigins = warmupOrigins;
+        this.prewarmConnections = prewarmConnections;
+    }
+
+    /**
+     * 응답 본문을 반환한다. 타임아웃, 4xx/5xx, 서킷 열림, 동시 호출 초과 시에는 null을 반환하므로
+     * 호출하는 쪽은 기존처럼 null 검사로 에러 화면을 보여주면 된다.
+     */
+    public <T> T exchange(String uri, HttpMethod method, HttpEntity<?> entity, Class<T> responseType) {
+        Supplier<T> call = () -> restTemplate.exchange(uri, method, entity, responseType).getBody();
+        try {
+            return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("{} 호출 차단: {}", provider, e.getMessage());
+            return null;
+        } catch (RestClientException e) {
+            log.warn("{} 호출 실패: {} {}", provider, uri, e.getMessage());
+            return null;
+        }
+    }
+
+    // 제공자 호스트마다 HEAD 요청을 동시에 보내 풀에 keep-alive 연결을 미리 만들어 둠
+    public void prewarm() {
+        if (prewarmConnections <= 0 || warmupOrigins.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(prewarmConnections);
+        try {
+            List<CompletableFuture<Void>> warmups = new ArrayList<>();
+            for (URI origin : warmupOrigins) {
+                for (int i = 0; i < prewarmConnections; i++) {
+                    warmups.add(CompletableFuture.runAsync(() -> head(origin), executor));
+                }
+            }
+            CompletableFuture.allOf(warmups.toArray(CompletableFuture[]::new)).join();
+            log.info("{} 연결 사전 준비 완료: {}", provider, warmupOrigins);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void head(URI origin) {
+        try {
+            httpClient.execute(new HttpHead(origin), response -> null);
+        } catch (IOException e) {
+            log.debug("{} 연결 사전 준비 실패: {} {}", provider, origin, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,153 @@
+package sp.releasetestbackend.config.http;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제공자 이름별 OAuthHttpClient 보관소. 각 로그인 Repository가 생성 시 register 한다.
+ */
+@Slf4j
+@Component
+public class OAuthHttpClients implements DisposableBean {
+    private final OAuthHttpProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final Map<String, OAuthHttpClient> clients = new ConcurrentHashMap<>();
+
+    public OAuthHttpClients(OAuthHttpProperties properties, RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.restTemplateBuilder = restTemplateBuilder;
+        // resilience4j_circuitbreaker_state, resilience4j_bulkhead_available_concurrent_calls 등
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    // warmupUris: 사전 연결 대상 (호스트 단위로 묶임)
+    public OAuthHttpClient register(String provider, String... warmupUris) {
+        return clients.computeIfAbsent(provider, name -> create(name, warmupUris));
+    }
+
+    public OAuthHttpClient get(String provider) {
+        OAuthHttpClient client = clients.get(provider);
+        if (client == null) {
+            throw new IllegalArgumentException("등록되지 않은 OAuth 제공자: " + provider);
+        }
+        return client;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarmOnStartup() {
+        if (properties.isPrewarmOnStartup()) {
+            clients.values().forEach(OAuthHttpClient::prewarm);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (OAuthHttpClient client : clients.values()) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("{} HTTP 클라이언트 종료 실패: {}", client.getProvider(), e.getMessage());
+            }
+        }
+    }
+
+    private OAuthHttpClient create(String provider, String[] warmupUris) {
+        OAuthHttpProperties.Provider settings = properties.provider(provider);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(settings.getConnectionTimeToLive()))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.getPoolAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(settings.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(settings.getIdleEvictionTime()))
+                .build();
+
+        // RestTemplateBuilder로 만들어야 외부 호출 시간(http.client.requests)이 자동으로 기록됨
+        RestTemplate restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        // UTF-8 인코딩을 위한 StringHttpMessageConverter 설정
+        restTemplate.getMessageConverters()
+                .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .waitDurationInOpenState(settings.getOpenStateDuration())
+                // 잘못된 인가 코드(4xx)나 동시 호출 초과는 제공자 장애가 아님
+                .ignoreExceptions(HttpClientErrorException.class, BulkheadFullException.class)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(settings.getMaxWait())
+                .build();
+
+        return new OAuthHttpClient(
+                provider,
+                restTemplate,
+                httpClient,
+                circuitBreakerRegistry.circuitBreaker("oauth-" + provider, circuitBreakerConfig),
+                bulkheadRegistry.bulkhead("oauth-" + provider, bulkheadConfig),
+                origins(warmupUris),
+                settings.getPrewarmConnections()
+        );
+    }
+
+    private static List<URI> origins(String[] uris) {
+        Set<URI> origins = new LinkedHashSet<>();
+        for (String uri : uris) {
+            origins.add(UriComponentsBuilder.fromUriString(uri).replacePath("/").replaceQuery(null).build().toUri());
+        }
+        return new ArrayList<>(origins);
+    }
+}
@@ -0,0 +1,48 @@
+package sp.releasetestbackend.config.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OAuth 제공자(kakao, google, naver)별 외부 호출 설정. 지정하지 않은 값은 기본값 사용.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "oauth.http")
+public class OAuthHttpProperties {
+    // 시작 시 제공자 호스트로 미리 연결을 열어 첫 로그인의 TCP/TLS 연결 비용을 없앰
+    private boolean prewarmOnStartup = true;
+    private Map<String, Provider> providers = new HashMap<>();
+
+    public Provider provider(String name) {
+        return providers.getOrDefault(name, new Provider());
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+        // 연결 풀
+        private int maxConnections = 20;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(3);
+        private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+        private Duration idleEvictionTime = Duration.ofSeconds(30);
+        private int prewarmConnections = 2;
+
+        // 벌크헤드: 제공자 하나가 느려져도 톰캣 스레드를 전부 붙잡지 않도록 동시 호출 수 제한
+        private int maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ofMillis(500);
+
+        // 서킷 브레이커: 최근 호출의 실패율이 넘으면 일정 시간 바로 실패 처리
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private float failureRateThreshold = 50;
+        private Duration openStateDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,44 @@
+package sp.releasetestbackend.config.jdbc;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import sp.releasetestbackend.config.auth.JwtAuthenticationFilter;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 라우팅에 쓰는 "현재 계정". 요청 스레드에서는 인증 필터가 넣은 accountId를,
+ * 요청 밖(스케줄러 등)에서는 forAccount로 지정한 값을 쓴다.
+ */
+public final class AccountRoutingContext {
+    private static final ThreadLocal<Long> ACCOUNT_ID = new ThreadLocal<>();
+
+    private AccountRoutingContext() {
+    }
+
+    public static <T> T forAccount(Long accountId, Supplier<T> work) {
+        Long previous = ACCOUNT_ID.get();
+        ACCOUNT_ID.set(accountId);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                ACCOUNT_ID.remove();
+            } else {
+                ACCOUNT_ID.set(previous);
+            }
+        }
+    }
+
+    static Long current() {
+        Long accountId = ACCOUNT_ID.get();
+        if (accountId != null) {
+            return accountId;
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return null;
+        }
+        return (Long) request.getAttribute(JwtAuthenticationFilter.ACCOUNT_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,26 @@
+package sp.releasetestbackend.config.jdbc;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계정이 어느 샤드에 있는지 (디렉터리에만 둠). 행이 없는 계정은 샤딩 전부터 있던 계정이라 디렉터리(0번)에 있다.
+ * 샤딩(datasource.sharding.enabled)을 켰을 때만 사용하며, JDBC로 직접 읽고 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "account_shard")
+public class AccountShard {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false)
+    private int shard;
+
+    // 다른 샤드로 옮기는 중이면 true (이 동안 그 계정의 쓰기는 거절)
+    @Column(nullable = false)
+    private boolean moving;
+}
@@ -0,0 +1,79 @@
+package sp.releasetestbackend.config.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 샤드 사이에 계정 행을 옮길 때 쓰는 JDBC 도우미. 컬럼 목록은 원본 조회 결과에서 읽는다.
+ */
+final class JdbcRows {
+    private static final int BATCH_SIZE = 500;
+
+    private JdbcRows() {
+    }
+
+    // keyColumn = key인 행을 from에서 읽어 to에 그대로 넣음 (skipColumns는 to에서 새로 채번)
+    static int copy(Connection from, Connection to, String table, String keyColumn, long key,
+                    Set<String> skipColumns) throws SQLException {
+        // 새로 채번하는 행은 원래 순서대로 넣음
+        String order = skipColumns.contains("id") ? " ORDER BY id" : "";
+        try (PreparedStatement select = from.prepareStatement("SELECT * FROM " + table + " WHERE " + keyColumn + " = ?" + order)) {
+            select.setLong(1, key);
+            try (ResultSet rows = select.executeQuery()) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                List<Integer> indexes = new ArrayList<>();
+                List<String> columns = new ArrayList<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String column = metaData.getColumnLabel(i).toLowerCase(Locale.ROOT);
+                    if (!skipColumns.contains(column)) {
+                        indexes.add(i);
+                        columns.add(column);
+                    }
+                }
+                String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                        + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+                int copied = 0;
+                try (PreparedStatement insert = to.prepareStatement(sql)) {
+                    while (rows.next()) {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            insert.setObject(i + 1, rows.getObject(indexes.get(i)));
+                        }
+                        insert.addBatch();
+                        if (++copied % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                    if (copied % BATCH_SIZE != 0) {
+                        insert.executeBatch();
+                    }
+                }
+                return copied;
+            }
+        }
+    }
+
+    static int delete(Connection connection, String table, String keyColumn, long key) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table + " WHERE " + keyColumn + " = ?")) {
+            delete.setLong(1, key);
+            return delete.executeUpdate();
+        }
+    }
+
+    static boolean exists(Connection connection, String table, String keyColumn, long key) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT 1 FROM " + table + " WHERE " + keyColumn + " = ?")) {
+            select.setLong(1, key);
+            try (ResultSet resultSet = select.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+}
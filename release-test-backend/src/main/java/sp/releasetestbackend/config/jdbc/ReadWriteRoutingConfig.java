@@ -0,0 +1,101 @@
+package sp.releasetestbackend.config.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource.routing.enabled=true일 때 기본 DataSource를 읽기/쓰기 라우팅 DataSource로 바꾼다.
+ * primary는 spring.datasource(.hikari) 설정을 그대로 쓰고, replica 풀은 primary 설정을 복사한 뒤 접속 정보만 바꾼다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadWriteRoutingProperties.class)
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReadWriteRoutingProperties routing,
+                                 Environment environment, MeterRegistry meterRegistry) {
+        // 커밋 직후 지연 한도까지 뒤처진 replica가 다음 점검 전까지 읽기에 남을 수 있으므로 그동안은 primary로 읽어야 함
+        if (routing.getStickyAfterWrite().compareTo(routing.getMaxLag().plus(routing.getCheckInterval())) < 0) {
+            throw new IllegalStateException("datasource.routing.sticky-after-write must be at least max-lag + check-interval");
+        }
+        HikariDataSource primary = primaryPool(dataSourceProperties, environment, "primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReadWriteRoutingProperties.Replica> replicaProperties = routing.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReadWriteRoutingProperties.Replica properties = replicaProperties.get(i);
+            HikariConfig config = derive(primary, "replica-" + i, properties.getUrl(),
+                    properties.getUsername(), properties.getPassword(), properties.getMaximumPoolSize());
+            config.setReadOnly(true);
+            replicas.put(config.getPoolName(), pool(new HikariDataSource(config), environment, meterRegistry));
+        }
+        log.info("Read/write routing enabled: replicas={}, stickyAfterWrite={}, maxLag={}",
+                replicas.keySet(), routing.getStickyAfterWrite(), routing.getMaxLag());
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                pool(primary, environment, meterRegistry), replicas,
+                routing.getStickyAfterWrite(), routing.getMaxStickyAccounts(), routing.getMaxLag());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSource dataSource) throws SQLException {
+        return new ReplicaHealthMonitor(dataSource.unwrap(ReadWriteRoutingDataSource.class));
+    }
+
+    // spring.datasource(.hikari) 설정 그대로의 풀
+    static HikariDataSource primaryPool(DataSourceProperties dataSourceProperties, Environment environment, String poolName) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(poolName);
+        return primary;
+    }
+
+    // base 풀 설정을 복사하고 지정한 접속 정보만 바꿈 (null이면 base 값 유지)
+    static HikariConfig derive(HikariDataSource base, String poolName, String url,
+                               String username, String password, Integer maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        base.copyStateTo(config);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        if (username != null) {
+            config.setUsername(username);
+        }
+        if (password != null) {
+            config.setPassword(password);
+        }
+        if (maximumPoolSize != null) {
+            config.setMaximumPoolSize(maximumPoolSize);
+        }
+        return config;
+    }
+
+    // 풀이 빈이 아니라서 Hikari 지표와 가상 스레드용 커넥션 제한을 직접 적용
+    static DataSource pool(HikariDataSource hikari, Environment environment, MeterRegistry meterRegistry) {
+        hikari.setMetricRegistry(meterRegistry);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return VirtualThreadJdbcConfig.guard(hikari, environment);
+        }
+        return hikari;
+    }
+}
@@ -0,0 +1,200 @@
+package sp.releasetestbackend.config.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상인 replica 중 하나로, 나머지는 primary로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부는 첫 SQL 시점에야 알 수 있으므로 LazyConnectionDataSourceProxy 뒤에 둔다.
+ * 쓰기가 커밋된 지 sticky-after-write가 지나지 않은 계정의 읽기와, 정상인 replica가 없을 때의 읽기는 primary로 간다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    private static final String WRITE_BEAT_SQL =
+            "INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?) ON DUPLICATE KEY UPDATE beat_millis = VALUES(beat_millis)";
+    private static final String READ_BEAT_SQL = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Cache<Long, Boolean> recentWriters;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    // primary에 마지막으로 기록한 heartbeat (0이면 아직 기록 못 함)
+    private volatile long lastBeatMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      Duration stickyAfterWrite, long maxStickyAccounts, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxStickyAccounts)
+                .expireAfterWrite(stickyAfterWrite)
+                .build();
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    private DataSource determineTarget() {
+        Long accountId = AccountRoutingContext.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (accountId != null) {
+                markWriter(accountId);
+            }
+            return primary;
+        }
+        if (accountId != null && recentWriters.getIfPresent(accountId) != null) {
+            return primary;
+        }
+        // 정상인 replica를 돌아가며 선택
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    // 쓰는 동안에도 primary로 읽게 바로 표시하고, 커밋 시점부터 sticky-after-write를 다시 셈 (오래 걸린 쓰기 대비)
+    private void markWriter(Long accountId) {
+        recentWriters.put(accountId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(accountId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * primary에 heartbeat를 쓰고, 각 replica가 본 heartbeat와 비교해 지연과 상태를 갱신한다.
+     */
+    public void checkReplicas() {
+        long beat = System.currentTimeMillis();
+        try (Connection connection = primary.getConnection();
+             PreparedStatement statement = connection.prepareStatement(WRITE_BEAT_SQL)) {
+            statement.setLong(1, beat);
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            lastBeatMillis = beat;
+        } catch (SQLException e) {
+            log.warn("Failed to write replication heartbeat to primary: {}", e.getMessage());
+        }
+        for (Replica replica : replicas) {
+            replica.check(lastBeatMillis);
+        }
+    }
+
+    public Map<String, DataSource> getTargets() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        targets.put("primary", primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+
+    public List<Replica> getReplicas() {
+        return List.copyOf(replicas);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource target : getTargets().values()) {
+            try {
+                if (target.isWrapperFor(Closeable.class)) {
+                    target.unwrap(Closeable.class).close();
+                }
+            } catch (SQLException e) {
+                log.warn("Failed to close datasource: {}", e.getMessage());
+            }
+        }
+    }
+
+    public final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        // 마지막 점검에서 측정한 지연 (측정 실패 시 -1)
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        private void check(long primaryBeat) {
+            long lag = -1;
+            String reason;
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(READ_BEAT_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (primaryBeat == 0) {
+                    reason = "primary heartbeat not written";
+                } else if (!resultSet.next()) {
+                    reason = "heartbeat not replicated yet";
+                } else {
+                    lag = Math.max(0, primaryBeat - resultSet.getLong(1));
+                    reason = lag <= maxLagMillis ? null : "lag " + lag + "ms";
+                }
+            } catch (SQLException e) {
+                reason = e.getMessage();
+            }
+
+            lagMillis = lag;
+            boolean nowHealthy = reason == null;
+            if (nowHealthy != healthy) {
+                if (nowHealthy) {
+                    log.info("Replica {} is serving reads (lag {}ms)", name, lag);
+                } else {
+                    log.warn("Replica {} removed from reads: {}", name, reason);
+                }
+            }
+            healthy = nowHealthy;
+        }
+    }
+}
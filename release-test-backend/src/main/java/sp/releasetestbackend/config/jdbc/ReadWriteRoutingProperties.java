@@ -0,0 +1,38 @@
+package sp.releasetestbackend.config.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 설정. 접속 정보를 비워 둔 값은 primary(spring.datasource)를 따른다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReadWriteRoutingProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 같은 계정의 쓰기가 커밋된 뒤 이 시간 동안은 그 계정의 읽기도 primary로 (복제 지연 중 자기 변경이 안 보이는 문제 방지)
+    // max-lag + check-interval 이상이어야 함 (시작할 때 확인)
+    private Duration stickyAfterWrite = Duration.ofSeconds(10);
+    private long maxStickyAccounts = 100_000;
+
+    // heartbeat 기록/replica 점검 주기와, 이보다 더 뒤처진 replica는 읽기에서 제외하는 지연 한도
+    private Duration checkInterval = Duration.ofSeconds(1);
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,41 @@
+package sp.releasetestbackend.config.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 읽기 분산을 켰을 때 replica 상태를 주기적으로 점검하고 지표로 내보낸다. 종료 시 커넥션 풀도 닫는다.
+ */
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor implements MeterBinder, DisposableBean {
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${datasource.routing.check-interval:PT1S}")
+    public void check() {
+        routingDataSource.checkReplicas();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("읽기에 사용 중이면 1")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.lag", replica, ReadWriteRoutingDataSource.Replica::getLagMillis)
+                    .description("마지막 점검에서 측정한 복제 지연 (측정 실패 시 -1)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        routingDataSource.close();
+    }
+}
@@ -0,0 +1,21 @@
+package sp.releasetestbackend.config.jdbc;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복제 지연 측정용 행 (id=1 한 행). primary에 주기적으로 현재 시각을 쓰고, replica에서 읽은 값과의 차이를 지연으로 본다.
+ * 읽기 분산(datasource.routing.enabled)을 켰을 때만 사용하며, JDBC로 직접 읽고 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+    @Id
+    private Long id;
+
+    @Column(name = "beat_millis", nullable = false)
+    private long beatMillis;
+}
@@ -0,0 +1,42 @@
+package sp.releasetestbackend.config.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 계정과 상관없이 특정 샤드를 지정하는 컨텍스트. 지정하면 요청의 계정보다 우선한다.
+ * 샤딩을 끈 경우에는 아무 영향이 없다.
+ */
+public final class ShardContext {
+    public static final int DIRECTORY = 0;
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static <T> T forShard(int shard, Supplier<T> work) {
+        Integer previous = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                SHARD.remove();
+            } else {
+                SHARD.set(previous);
+            }
+        }
+    }
+
+    // 계정/프로필처럼 디렉터리에만 있는 테이블을 계정 요청 안에서 다룰 때
+    public static void onDirectory(Runnable work) {
+        forShard(DIRECTORY, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    static Integer current() {
+        return SHARD.get();
+    }
+}
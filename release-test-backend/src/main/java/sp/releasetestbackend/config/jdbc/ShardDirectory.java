@@ -0,0 +1,222 @@
+package sp.releasetestbackend.config.jdbc;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 샤드 풀과 계정 배치(account_shard)를 관리한다. 새 계정은 해시 링이 고른 샤드에 두고,
+ * 배치 조회는 라우팅 중에 불리므로 라우팅을 거치지 않고 디렉터리 풀에서 직접 읽어 잠깐 캐시한다.
+ */
+@Slf4j
+public class ShardDirectory implements Closeable {
+    private static final String FIND_SQL = "SELECT shard, moving FROM account_shard WHERE account_id = ?";
+    private static final String SAVE_SQL = "INSERT INTO account_shard (account_id, shard, moving) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE shard = VALUES(shard), moving = VALUES(moving)";
+    // 이동 표시/해제는 배치가 예상한 상태일 때만 바꿈 (동시에 옮기려는 다른 쪽이 있으면 0건)
+    private static final String MARK_MOVING_SQL = "UPDATE account_shard SET moving = TRUE " +
+            "WHERE account_id = ? AND shard = ? AND moving = FALSE";
+    private static final String MARK_LEGACY_MOVING_SQL = "INSERT INTO account_shard (account_id, shard, moving) VALUES (?, ?, TRUE)";
+    private static final String FINISH_MOVE_SQL = "UPDATE account_shard SET shard = ?, moving = FALSE " +
+            "WHERE account_id = ? AND shard = ? AND moving = TRUE";
+    private static final String CANCEL_MOVE_SQL = "UPDATE account_shard SET moving = FALSE " +
+            "WHERE account_id = ? AND shard = ? AND moving = TRUE";
+    private static final Placement LEGACY = new Placement(ShardContext.DIRECTORY, false);
+
+    private final Map<Integer, DataSource> shards;
+    private final JdbcTemplate directoryJdbc;
+    private final NamedParameterJdbcTemplate namedDirectoryJdbc;
+    private final ShardRing ring;
+    private final Duration placementCacheTtl;
+    private final LoadingCache<Long, Placement> placements;
+
+    public ShardDirectory(Map<Integer, DataSource> shards, int virtualNodes,
+                          Duration placementCacheTtl, long maxCachedPlacements) {
+        this.shards = Map.copyOf(shards);
+        this.directoryJdbc = new JdbcTemplate(shard(ShardContext.DIRECTORY));
+        this.namedDirectoryJdbc = new NamedParameterJdbcTemplate(directoryJdbc);
+        this.ring = new ShardRing(new ArrayList<>(shards.keySet()), virtualNodes);
+        this.placementCacheTtl = placementCacheTtl;
+        this.placements = Caffeine.newBuilder()
+                .maximumSize(maxCachedPlacements)
+                .expireAfterWrite(placementCacheTtl)
+                .build(this::loadPlacement);
+    }
+
+    public record Placement(int shard, boolean moving) {
+    }
+
+    public Placement placementOf(Long accountId) {
+        return placements.get(accountId);
+    }
+
+    // 캐시를 거치지 않은 현재 배치
+    public Placement loadPlacement(Long accountId) {
+        List<Placement> rows = directoryJdbc.query(FIND_SQL,
+                (resultSet, rowNum) -> new Placement(resultSet.getInt("shard"), resultSet.getBoolean("moving")),
+                accountId);
+        return rows.isEmpty() ? LEGACY : rows.get(0);
+    }
+
+    // 해시 링 기준으로 계정이 있어야 할 샤드
+    public int ringShard(Long accountId) {
+        return ring.shardFor(accountId);
+    }
+
+    /**
+     * 가입한 계정의 샤드를 정해 기록한다. 홈 샤드에는 외래 키가 걸리도록 account 행을 복사해 두는데,
+     * 디렉터리의 계정 행이 커밋된 뒤에야 읽을 수 있으므로 커밋 후에 복사하고, 복사에 성공한 뒤에만 배치를 기록한다.
+     * 복사에 실패하면 배치 행 없이 디렉터리에 두고(예전 계정과 같음), 리밸런서가 나중에 홈 샤드로 옮긴다.
+     * (가입 응답을 받기 전이라 그 사이 이 계정으로 들어오는 요청은 없음)
+     */
+    public void assign(Long accountId) {
+        int shard = ringShard(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    provisionAndPlace(accountId, shard);
+                }
+            });
+        } else {
+            provisionAndPlace(accountId, shard);
+        }
+    }
+
+    private void provisionAndPlace(Long accountId, int shard) {
+        try {
+            provisionAccountRow(accountId, shard);
+        } catch (SQLException e) {
+            log.warn("Failed to provision account {} on shard {}, leaving it on the directory for the rebalancer: {}",
+                    accountId, shard, e.getMessage());
+            return;
+        }
+        setPlacement(accountId, shard, false);
+    }
+
+    // 디렉터리의 account 행을 샤드에 복사 (이미 있으면 그대로)
+    void provisionAccountRow(Long accountId, int shard) throws SQLException {
+        if (shard == ShardContext.DIRECTORY) {
+            return;
+        }
+        try (Connection from = shard(ShardContext.DIRECTORY).getConnection();
+             Connection to = shard(shard).getConnection()) {
+            if (!JdbcRows.exists(to, "account", "id", accountId)) {
+                JdbcRows.copy(from, to, "account", "id", accountId, Set.of());
+                commit(to);
+            }
+        }
+    }
+
+    /**
+     * 계정 데이터 정리가 끝난 뒤 홈 샤드의 account 복사본과 배치 행을 지운다.
+     */
+    public void release(Long accountId) {
+        int shard = loadPlacement(accountId).shard();
+        if (shard != ShardContext.DIRECTORY) {
+            new JdbcTemplate(shard(shard)).update("DELETE FROM account WHERE id = ?", accountId);
+        }
+        directoryJdbc.update("DELETE FROM account_shard WHERE account_id = ?", accountId);
+        placements.invalidate(accountId);
+    }
+
+    void setPlacement(Long accountId, int shard, boolean moving) {
+        directoryJdbc.update(SAVE_SQL, accountId, shard, moving);
+        placements.invalidate(accountId);
+    }
+
+    /**
+     * source 샤드에 있고 이동 중이 아닌 계정만 이동 중으로 표시한다 (배치 행이 없는 예전 계정은 디렉터리에 있는 것으로 봄).
+     * @return 표시했으면 true. 다른 쪽이 이미 옮기는 중이거나 배치가 바뀌었으면 false
+     */
+    boolean markMoving(Long accountId, int source) {
+        boolean marked = directoryJdbc.update(MARK_MOVING_SQL, accountId, source) == 1;
+        if (!marked && source == ShardContext.DIRECTORY) {
+            try {
+                marked = directoryJdbc.update(MARK_LEGACY_MOVING_SQL, accountId, source) == 1;
+            } catch (DuplicateKeyException e) {
+                // 배치 행이 이미 있음 (다른 샤드에 있거나 이동 중)
+            }
+        }
+        placements.invalidate(accountId);
+        return marked;
+    }
+
+    // 이동 중인 계정을 target 샤드로 옮긴 것으로 기록. 그 사이 표시가 풀렸거나 배치 행이 지워졌으면 false
+    boolean finishMove(Long accountId, int source, int target) {
+        boolean finished = directoryJdbc.update(FINISH_MOVE_SQL, target, accountId, source) == 1;
+        placements.invalidate(accountId);
+        return finished;
+    }
+
+    // 이동 표시를 풀고 source 샤드에 그대로 둠
+    boolean cancelMove(Long accountId, int source) {
+        boolean cancelled = directoryJdbc.update(CANCEL_MOVE_SQL, accountId, source) == 1;
+        placements.invalidate(accountId);
+        return cancelled;
+    }
+
+    // 캐시를 거치지 않고 이동 중인 계정만 골라냄 (샤드마다 도는 정기 작업이 옮기는 중인 계정을 건너뛸 때)
+    public Set<Long> findMoving(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedDirectoryJdbc.queryForList(
+                "SELECT account_id FROM account_shard WHERE account_id IN (:ids) AND moving = TRUE",
+                new MapSqlParameterSource("ids", accountIds), Long.class));
+    }
+
+    public DataSource shard(int shard) {
+        DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalStateException("Unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    public Map<Integer, DataSource> getShards() {
+        return shards;
+    }
+
+    public Duration getPlacementCacheTtl() {
+        return placementCacheTtl;
+    }
+
+    static void commit(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource shard : shards.values()) {
+            try {
+                if (shard.isWrapperFor(Closeable.class)) {
+                    shard.unwrap(Closeable.class).close();
+                }
+            } catch (SQLException e) {
+                log.warn("Failed to close datasource: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package sp.releasetestbackend.config.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계정 하나를 다른 샤드로 옮긴다. 서비스를 멈추지 않고 진행하며, 그 계정의 쓰기만 잠깐 거절된다.
+ * 1) 배치를 "이동 중"으로 표시하고 모든 인스턴스의 배치 캐시가 갱신될 때까지 기다린다 (이후 새 쓰기 트랜잭션은 거절)
+ * 2) 원본에서 계정 변경 버전 행을 잠가 진행 중이던 쓰기(와 같은 잠금을 잡는 정기 작업)가 끝나기를 기다린 뒤,
+ *    계정 행을 대상 샤드에 한 트랜잭션으로 복사한다
+ * 3) 배치를 대상 샤드로 바꾸고, 캐시가 다시 갱신될 때까지 기다린 뒤 원본 행을 지운다
+ * 배치는 예상한 상태일 때만 바꾸므로(compare-and-set), 이미 다른 쪽이 옮기는 중이면 1)에서, 그 사이 표시가 풀렸거나
+ * 계정이 정리됐으면 3)에서 중단한다. 2)가 실패하면 배치를 원래대로 돌리고, 대상에 남은 행은 다음 시도에서 먼저 지운다.
+ */
+@Slf4j
+public class ShardMigrator {
+    // 계정 데이터가 있는 테이블 (이 순서로 복사하고 반대로 지움)
+    private static final List<Table> TABLES = List.of(
+            new Table("account_change_version", Set.of()),
+            new Table("todos", Set.of()),
+            new Table("todos_archive", Set.of()),
+            new Table("calendar_events", Set.of()),
+            new Table("todo_daily_stats", Set.of()),
+            // 삭제 기록/변경 기록 id는 밖으로 나가지 않으므로 대상 샤드에서 새로 채번 (변경 기록은 순서대로)
+            new Table("sync_tombstones", Set.of("id")),
+            new Table("change_outbox", Set.of("id"))
+    );
+
+    private final ShardDirectory directory;
+    private final Counter migrated;
+
+    public ShardMigrator(ShardDirectory directory, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.migrated = Counter.builder("datasource.shard.migrated")
+                .description("다른 샤드로 옮긴 계정 수")
+                .register(meterRegistry);
+    }
+
+    private record Table(String name, Set<String> skipColumns) {
+    }
+
+    /**
+     * @return 옮겼으면 true, 이미 대상 샤드에 있으면 false
+     * @throws IllegalStateException 다른 쪽이 옮기는 중이거나, 복사에 실패했거나, 도중에 배치가 바뀐 경우
+     */
+    public boolean migrate(Long accountId, int target) {
+        directory.shard(target);
+        int source = directory.loadPlacement(accountId).shard();
+        if (source == target) {
+            return false;
+        }
+
+        if (!directory.markMoving(accountId, source)) {
+            throw new IllegalStateException("Account " + accountId + " is already moving or left shard " + source);
+        }
+        try {
+            waitForCaches();
+            copy(accountId, source, target);
+        } catch (RuntimeException | SQLException e) {
+            directory.cancelMove(accountId, source);
+            throw new IllegalStateException("Failed to move account " + accountId + " to shard " + target, e);
+        }
+        if (!directory.finishMove(accountId, source, target)) {
+            // 이동 표시가 다른 곳에서 풀렸거나(오래된 표시 정리) 계정이 정리됨: 원본을 그대로 두고 복사본만 지움
+            deleteQuietly(accountId, target);
+            throw new IllegalStateException("Placement of account " + accountId + " changed while moving to shard " + target);
+        }
+
+        // 예전 배치를 캐시한 인스턴스가 원본을 읽는 동안은 원본을 남겨 둠
+        waitForCaches();
+        try {
+            deleteRows(accountId, source);
+        } catch (SQLException e) {
+            // 배치는 이미 바뀌었으므로 원본에 남은 행은 읽히지 않음 (다시 옮겨 올 때 먼저 지움)
+            log.warn("Moved account {} but failed to clean up shard {}: {}", accountId, source, e.getMessage());
+        }
+        migrated.increment();
+        log.info("Moved account {} from shard {} to shard {}", accountId, source, target);
+        return true;
+    }
+
+    private void copy(Long accountId, int source, int target) throws SQLException {
+        try (Connection from = directory.shard(source).getConnection();
+             Connection to = directory.shard(target).getConnection()) {
+            from.setAutoCommit(false);
+            to.setAutoCommit(false);
+            try {
+                lockChangeVersion(from, accountId);
+                // 이전 시도에서 남은 행
+                for (int i = TABLES.size() - 1; i >= 0; i--) {
+                    JdbcRows.delete(to, TABLES.get(i).name(), "account_id", accountId);
+                }
+                // 외래 키 대상인 account 행 (디렉터리에는 원래 있음)
+                if (target != ShardContext.DIRECTORY && !JdbcRows.exists(to, "account", "id", accountId)) {
+                    try (Connection accounts = directory.shard(ShardContext.DIRECTORY).getConnection()) {
+                        JdbcRows.copy(accounts, to, "account", "id", accountId, Set.of());
+                    }
+                }
+                for (Table table : TABLES) {
+                    JdbcRows.copy(from, to, table.name(), "account_id", accountId, table.skipColumns());
+                }
+                to.commit();
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                throw e;
+            } finally {
+                from.rollback();
+                from.setAutoCommit(true);
+                to.setAutoCommit(true);
+            }
+        }
+    }
+
+    // 쓰기마다 올리는 변경 버전 행을 잠가, 이동 표시 전에 시작한 쓰기가 커밋될 때까지 기다림
+    private static void lockChangeVersion(Connection connection, Long accountId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT version FROM account_change_version WHERE account_id = ? FOR UPDATE")) {
+            statement.setLong(1, accountId);
+            try (ResultSet ignored = statement.executeQuery()) {
+                // 잠금만 필요
+            }
+        }
+    }
+
+    private void deleteQuietly(Long accountId, int shard) {
+        try {
+            deleteRows(accountId, shard);
+        } catch (SQLException e) {
+            // 남은 복사본은 배치가 가리키지 않으므로 읽히지 않음 (다음 이동에서 먼저 지움)
+            log.warn("Failed to clean up copy of account {} on shard {}: {}", accountId, shard, e.getMessage());
+        }
+    }
+
+    // 한 샤드에서 계정 행을 모두 지움 (디렉터리의 account 행은 남김)
+    private void deleteRows(Long accountId, int shard) throws SQLException {
+        try (Connection connection = directory.shard(shard).getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                for (int i = TABLES.size() - 1; i >= 0; i--) {
+                    JdbcRows.delete(connection, TABLES.get(i).name(), "account_id", accountId);
+                }
+                if (shard != ShardContext.DIRECTORY) {
+                    JdbcRows.delete(connection, "account", "id", accountId);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void waitForCaches() {
+        Duration ttl = directory.getPlacementCacheTtl();
+        try {
+            Thread.sleep(ttl.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동 중단", e);
+        }
+    }
+}
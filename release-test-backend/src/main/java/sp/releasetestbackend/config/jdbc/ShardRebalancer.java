@@ -0,0 +1,99 @@
+package sp.releasetestbackend.config.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+import sp.releasetestbackend.job.service.JobLocks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 해시 링이 고른 샤드와 실제 배치가 다른 계정(샤드를 추가한 뒤, 또는 샤딩 전부터 있던 계정)을 조금씩 옮긴다.
+ * 여러 인스턴스 중 job_state 잠금을 잡은 한 곳에서만 실행하고, 계정 id 순으로 훑은 위치도 job_state에 남겨
+ * 실행마다(인스턴스가 바뀌어도) 다음 계정들부터 이어서 본다.
+ * 잠금을 잡은 쪽만 옮기므로, 잠금 안에서 보이는 이동 표시는 옮기던 인스턴스가 죽어 남은 것이라 풀어 준다.
+ */
+@Slf4j
+public class ShardRebalancer {
+    static final String JOB_NAME = "shard-rebalance";
+    private static final int PAGE_SIZE = 500;
+    private static final String PAGE_SQL = "SELECT a.id, s.shard, s.moving FROM account a " +
+            "LEFT JOIN account_shard s ON s.account_id = a.id " +
+            "WHERE a.deleted_at IS NULL AND a.id > ? ORDER BY a.id LIMIT " + PAGE_SIZE;
+
+    private final ShardDirectory directory;
+    private final ShardMigrator migrator;
+    private final JobLocks jobLocks;
+    private final JobStateRepository jobStateRepository;
+    private final JdbcTemplate directoryJdbc;
+    private final int maxAccountsPerRun;
+    private final Duration lockLease;
+
+    public ShardRebalancer(ShardDirectory directory, ShardMigrator migrator, JobLocks jobLocks,
+                           JobStateRepository jobStateRepository, int maxAccountsPerRun, Duration lockLease) {
+        this.directory = directory;
+        this.migrator = migrator;
+        this.jobLocks = jobLocks;
+        this.jobStateRepository = jobStateRepository;
+        this.directoryJdbc = new JdbcTemplate(directory.shard(ShardContext.DIRECTORY));
+        this.maxAccountsPerRun = maxAccountsPerRun;
+        this.lockLease = lockLease;
+    }
+
+    private record Row(long accountId, int shard, boolean moving) {
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.sharding.rebalance.interval:PT1M}")
+    public int rebalance() {
+        return jobLocks.runExclusive(JOB_NAME, lockLease, this::rebalanceLocked).orElse(0);
+    }
+
+    private int rebalanceLocked() {
+        long lastAccountId = jobStateRepository.findLastId(JOB_NAME).orElse(0L);
+        int moved = 0;
+        while (moved < maxAccountsPerRun) {
+            List<Row> page = directoryJdbc.query(PAGE_SQL,
+                    (resultSet, rowNum) -> new Row(resultSet.getLong("id"), resultSet.getInt("shard"),
+                            resultSet.getBoolean("moving")),
+                    lastAccountId);
+            if (page.isEmpty()) {
+                // 끝까지 봤으면 다음 실행은 처음부터
+                jobStateRepository.saveLastId(JOB_NAME, 0L);
+                break;
+            }
+            for (Row row : page) {
+                lastAccountId = row.accountId();
+                if (row.moving()) {
+                    directory.cancelMove(row.accountId(), row.shard());
+                    log.warn("Cleared stale moving flag of account {} on shard {}", row.accountId(), row.shard());
+                }
+                int target = directory.ringShard(row.accountId());
+                // 배치 행이 없으면 getInt가 0 (디렉터리)
+                if (row.shard() == target) {
+                    continue;
+                }
+                // 옮기기 전에 잠금을 연장하고, 잃었으면(lease 초과) 다른 인스턴스에 넘김
+                if (!jobLocks.renew(JOB_NAME, lockLease)) {
+                    log.warn("Lost shard rebalance lock at account {}", row.accountId());
+                    return moved;
+                }
+                try {
+                    migrator.migrate(row.accountId(), target);
+                    moved++;
+                } catch (RuntimeException e) {
+                    log.warn("Shard rebalance failed for account {}: {}", row.accountId(), e.getMessage());
+                }
+                if (moved >= maxAccountsPerRun) {
+                    break;
+                }
+            }
+            jobStateRepository.saveLastId(JOB_NAME, lastAccountId);
+        }
+        if (moved > 0) {
+            log.info("Shard rebalance moved {} accounts", moved);
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,38 @@
+package sp.releasetestbackend.config.jdbc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 계정 id의 일관된 해시 링. 샤드를 추가해도 새 샤드로 가야 하는 계정만 자리가 바뀐다.
+ */
+final class ShardRing {
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    ShardRing(List<Integer> shardIds, int virtualNodes) {
+        for (Integer shard : shardIds) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.putIfAbsent(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+    }
+
+    int shardFor(long accountId) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(Long.toString(accountId)));
+        return (entry == null ? ring.firstEntry() : entry).getValue();
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
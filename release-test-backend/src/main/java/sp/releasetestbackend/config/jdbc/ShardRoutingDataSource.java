@@ -0,0 +1,52 @@
+package sp.releasetestbackend.config.jdbc;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 현재 계정의 홈 샤드로 커넥션을 보내는 DataSource. 트랜잭션 하나는 샤드 하나에서만 실행된다.
+ * ShardContext로 지정한 샤드가 있으면 그쪽, 계정이 없으면(로그인, 스케줄러 등) 디렉터리로 간다.
+ * 다른 샤드로 옮기는 중인 계정의 쓰기 트랜잭션은 거절한다 (읽기는 옮기기 전 샤드에서 계속 가능).
+ */
+public class ShardRoutingDataSource extends AbstractDataSource {
+    private final ShardDirectory directory;
+
+    public ShardRoutingDataSource(ShardDirectory directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return directory.shard(currentShard()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return directory.shard(currentShard()).getConnection(username, password);
+    }
+
+    private int currentShard() throws SQLException {
+        Integer shard = ShardContext.current();
+        if (shard != null) {
+            return shard;
+        }
+        Long accountId = AccountRoutingContext.current();
+        if (accountId == null) {
+            return ShardContext.DIRECTORY;
+        }
+        ShardDirectory.Placement placement = directory.placementOf(accountId);
+        if (placement.moving() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new SQLTransientConnectionException("Account " + accountId + " is moving to another shard, retry later");
+        }
+        return placement.shard();
+    }
+
+    public ShardDirectory getDirectory() {
+        return directory;
+    }
+}
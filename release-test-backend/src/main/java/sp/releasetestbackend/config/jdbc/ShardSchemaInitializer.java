@@ -0,0 +1,99 @@
+package sp.releasetestbackend.config.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ddl-auto는 디렉터리에만 적용되므로, 나머지 샤드에는 같은 엔티티 매핑으로 없는 테이블/컬럼을 추가한다.
+ * 매핑은 Hibernate가 EntityManagerFactory를 만들 때 Integrator로 받아 둔다.
+ * 새로 비어 있는 샤드의 할 일/이벤트 AUTO_INCREMENT는 디렉터리의 최대 id 뒤로 올려, 샤딩 전부터 있던 id와 겹치지 않게 한다.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+    // 다른 샤드로 옮겨도 id를 유지해야 하는(클라이언트가 아는) 테이블
+    private static final List<String> EXPOSED_ID_TABLES = List.of("todos", "calendar_events");
+
+    private final ShardDirectory directory;
+    private final boolean updateSchema;
+
+    private volatile Metadata metadata;
+    private volatile Dialect dialect;
+
+    public ShardSchemaInitializer(ShardDirectory directory, boolean updateSchema) {
+        this.directory = directory;
+        this.updateSchema = updateSchema;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.dialect = sessionFactory.getJdbcServices().getDialect();
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Map.Entry<Integer, DataSource> shard : directory.getShards().entrySet()) {
+            if (shard.getKey() == ShardContext.DIRECTORY) {
+                continue;
+            }
+            if (updateSchema && metadata != null) {
+                updateSchema(shard.getKey(), shard.getValue());
+            }
+            if (dialect instanceof MySQLDialect) {
+                raiseAutoIncrement(shard.getValue());
+            }
+        }
+    }
+
+    private void updateSchema(int shard, DataSource dataSource) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.DIALECT, dialect)
+                .build();
+        try {
+            SchemaUpdate schemaUpdate = new SchemaUpdate();
+            schemaUpdate.execute(EnumSet.of(TargetType.DATABASE), metadata, registry);
+            if (!schemaUpdate.getExceptions().isEmpty()) {
+                log.warn("Schema update on shard {} reported {} errors, first: {}",
+                        shard, schemaUpdate.getExceptions().size(), schemaUpdate.getExceptions().get(0).getMessage());
+            }
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private void raiseAutoIncrement(DataSource dataSource) {
+        JdbcTemplate directoryJdbc = new JdbcTemplate(directory.shard(ShardContext.DIRECTORY));
+        JdbcTemplate shardJdbc = new JdbcTemplate(dataSource);
+        for (String table : EXPOSED_ID_TABLES) {
+            Long shardMax = shardJdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            Long directoryMax = directoryJdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (shardMax == null && directoryMax != null) {
+                // DDL은 바인드 인자를 받지 않으므로 숫자를 그대로 붙임
+                shardJdbc.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (directoryMax + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package sp.releasetestbackend.config.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+import sp.releasetestbackend.job.service.JobLocks;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 계정 단위 샤딩 설정. 샤드 목록(Shards)은 항상 등록하고, datasource.sharding.enabled=true일 때만
+ * 기본 DataSource를 계정의 홈 샤드로 보내는 라우팅 DataSource로 바꾼다.
+ * EntityManagerFactory와 트랜잭션 매니저는 하나이고, 트랜잭션마다 커넥션을 받는 시점에 샤드 하나가 정해진다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public Shards shards(ShardingProperties sharding) {
+        if (!sharding.isEnabled()) {
+            return new Shards(List.of(ShardContext.DIRECTORY));
+        }
+        return new Shards(IntStream.rangeClosed(0, sharding.getShards().size()).boxed().toList());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+    static class Enabled {
+
+        @Bean
+        public ShardDirectory shardDirectory(DataSourceProperties dataSourceProperties, ShardingProperties sharding,
+                                             Environment environment, MeterRegistry meterRegistry) {
+            if (environment.getProperty("datasource.routing.enabled", Boolean.class, false)) {
+                throw new IllegalStateException("datasource.sharding and datasource.routing cannot be enabled together");
+            }
+            String directoryUrl = dataSourceProperties.determineUrl();
+            HikariDataSource directory = ReadWriteRoutingConfig.primaryPool(dataSourceProperties, environment, "shard-0");
+
+            Map<Integer, DataSource> shards = new LinkedHashMap<>();
+            shards.put(ShardContext.DIRECTORY, ReadWriteRoutingConfig.pool(
+                    withIdOffset(directory, ShardContext.DIRECTORY, sharding.getIdStride()), environment, meterRegistry));
+            List<ShardingProperties.Shard> shardProperties = sharding.getShards();
+            for (int i = 0; i < shardProperties.size(); i++) {
+                int shard = i + 1;
+                ShardingProperties.Shard properties = shardProperties.get(i);
+                HikariConfig config = ReadWriteRoutingConfig.derive(directory, "shard-" + shard, properties.getUrl(),
+                        properties.getUsername(), properties.getPassword(), properties.getMaximumPoolSize());
+                HikariDataSource pool = withIdOffset(new HikariDataSource(config), shard, sharding.getIdStride());
+                shards.put(shard, ReadWriteRoutingConfig.pool(pool, environment, meterRegistry));
+            }
+            log.info("Account sharding enabled: directory={}, shards={}, placementCacheTtl={}",
+                    directoryUrl, shards.keySet(), sharding.getPlacementCacheTtl());
+            return new ShardDirectory(shards, sharding.getVirtualNodes(),
+                    sharding.getPlacementCacheTtl(), sharding.getMaxCachedPlacements());
+        }
+
+        @Bean
+        public DataSource dataSource(ShardDirectory shardDirectory) {
+            return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDirectory));
+        }
+
+        @Bean
+        public ShardSchemaInitializer shardSchemaInitializer(ShardDirectory shardDirectory, ShardingProperties sharding) {
+            return new ShardSchemaInitializer(shardDirectory, sharding.isUpdateSchema());
+        }
+
+        // 엔티티 매핑을 샤드 스키마 갱신에 쓰도록 Hibernate에 Integrator로 등록
+        @Bean
+        public HibernatePropertiesCustomizer shardSchemaIntegrator(ShardSchemaInitializer shardSchemaInitializer) {
+            return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(shardSchemaInitializer));
+        }
+
+        @Bean
+        public ShardMigrator shardMigrator(ShardDirectory shardDirectory, MeterRegistry meterRegistry) {
+            return new ShardMigrator(shardDirectory, meterRegistry);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "datasource.sharding.rebalance", name = "enabled", havingValue = "true")
+        public ShardRebalancer shardRebalancer(ShardDirectory shardDirectory, ShardMigrator shardMigrator,
+                                               JobLocks jobLocks, JobStateRepository jobStateRepository,
+                                               ShardingProperties sharding) {
+            ShardingProperties.Rebalance rebalance = sharding.getRebalance();
+            return new ShardRebalancer(shardDirectory, shardMigrator, jobLocks, jobStateRepository,
+                    rebalance.getMaxAccountsPerRun(), rebalance.getLockLease());
+        }
+
+        // MySQL이면 샤드마다 AUTO_INCREMENT 나머지를 달리해서, 옮겨 받은 행이 있어도 새 id가 다른 샤드와 겹치지 않게 함
+        private static HikariDataSource withIdOffset(HikariDataSource pool, int shard, int idStride) {
+            if (pool.getJdbcUrl() != null && pool.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                pool.setConnectionInitSql("SET SESSION auto_increment_increment = " + idStride
+                        + ", auto_increment_offset = " + (shard + 1));
+            }
+            return pool;
+        }
+    }
+}
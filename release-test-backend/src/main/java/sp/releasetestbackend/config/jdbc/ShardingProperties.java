@@ -0,0 +1,56 @@
+package sp.releasetestbackend.config.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계정 단위 샤딩 설정. 0번 샤드는 spring.datasource(디렉터리)이고 shards[i]가 i+1번 샤드가 된다.
+ * 접속 정보를 비워 둔 값은 spring.datasource를 따른다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+    private List<Shard> shards = new ArrayList<>();
+
+    // 해시 링에서 샤드 하나가 차지하는 점 개수 (많을수록 고르게 나뉨)
+    private int virtualNodes = 128;
+
+    // 계정 배치 조회 결과를 인스턴스 메모리에 두는 시간. 이동 시 이 시간만큼 기다렸다가 다음 단계로 넘어감
+    private Duration placementCacheTtl = Duration.ofSeconds(5);
+    private long maxCachedPlacements = 100_000;
+
+    // MySQL 샤드의 AUTO_INCREMENT 간격. 샤드마다 나머지를 달리해 옮긴 행의 id가 겹치지 않게 함 (샤드 수 상한)
+    private int idStride = 64;
+
+    // 시작 시 디렉터리가 아닌 샤드에 엔티티 기준으로 없는 테이블/컬럼 추가 (ddl-auto=update와 같음)
+    private boolean updateSchema = true;
+
+    private Rebalance rebalance = new Rebalance();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+    }
+
+    @Getter
+    @Setter
+    public static class Rebalance {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofMinutes(1);
+        // 한 번 실행에 옮기는 계정 수 상한
+        private int maxAccountsPerRun = 10;
+        // 여러 인스턴스 중 한 곳만 옮기도록 잡는 job_state 잠금 시간 (계정 하나를 옮길 때마다 연장)
+        private Duration lockLease = Duration.ofMinutes(10);
+    }
+}
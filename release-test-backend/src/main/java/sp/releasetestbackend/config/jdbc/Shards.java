@@ -0,0 +1,38 @@
+package sp.releasetestbackend.config.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 샤드 목록. 계정이 정해지지 않은 작업(보관, 집계 검사, 삭제 기록 정리 등)은 샤드마다 한 번씩 실행한다.
+ * 샤딩을 끄면 기본 DataSource 하나뿐이다.
+ */
+public class Shards {
+    private final List<Integer> ids;
+
+    public Shards(List<Integer> ids) {
+        this.ids = List.copyOf(ids);
+    }
+
+    public List<Integer> ids() {
+        return ids;
+    }
+
+    public void forEach(Runnable work) {
+        for (Integer shard : ids) {
+            ShardContext.forShard(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    public <T> List<T> map(Supplier<T> work) {
+        List<T> results = new ArrayList<>(ids.size());
+        for (Integer shard : ids) {
+            results.add(ShardContext.forShard(shard, work));
+        }
+        return results;
+    }
+}
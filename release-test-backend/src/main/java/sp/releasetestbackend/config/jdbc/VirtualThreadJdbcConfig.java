@@ -0,0 +1,102 @@
+package sp.releasetestbackend.config.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서만 켜지는 설정.
+ * 요청 스레드 수가 사실상 무제한이 되므로 Hikari 앞에 풀 크기만큼의 세마포어를 둔다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadJdbcConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermitDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                return guard(hikari, environment);
+            }
+        };
+    }
+
+    // 읽기/쓰기 라우팅이나 샤딩을 켜면 풀이 빈이 아니므로 각 설정에서 직접 호출
+    static ConnectionPermitDataSource guard(HikariDataSource hikari, Environment environment) {
+        // 기본값은 Hikari의 connectionTimeout과 같게 (허가를 얻은 뒤에는 풀에서 거의 바로 커넥션을 받음)
+        Duration acquireTimeout = environment.getProperty("jdbc.connection-guard.acquire-timeout",
+                Duration.class, Duration.ofMillis(hikari.getConnectionTimeout()));
+        log.info("JDBC connection guard enabled: pool={}, permits={}, acquireTimeout={}",
+                hikari.getPoolName(), hikari.getMaximumPoolSize(), acquireTimeout);
+        return new ConnectionPermitDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .flatMap(VirtualThreadJdbcConfig::guards)
+                .forEach(guard -> {
+                    String pool = poolName(guard);
+                    Gauge.builder("jdbc.connection.guard.in-use", guard, ConnectionPermitDataSource::getInUse)
+                            .tag("pool", pool)
+                            .register(registry);
+                    Gauge.builder("jdbc.connection.guard.waiting", guard, ConnectionPermitDataSource::getWaiting)
+                            .description("DB 커넥션 허가를 기다리는 스레드 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                    FunctionCounter.builder("jdbc.connection.guard.rejected", guard, ConnectionPermitDataSource::getRejected)
+                            .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                });
+    }
+
+    // 단일 풀이면 빈 자체, 읽기/쓰기 라우팅이나 샤딩이면 그 안의 풀들
+    private static Stream<ConnectionPermitDataSource> guards(DataSource dataSource) {
+        if (dataSource instanceof ConnectionPermitDataSource guard) {
+            return Stream.of(guard);
+        }
+        try {
+            if (dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                return dataSource.unwrap(ReadWriteRoutingDataSource.class).getTargets().values().stream()
+                        .filter(ConnectionPermitDataSource.class::isInstance)
+                        .map(ConnectionPermitDataSource.class::cast);
+            }
+            if (dataSource.isWrapperFor(ShardRoutingDataSource.class)) {
+                return dataSource.unwrap(ShardRoutingDataSource.class).getDirectory().getShards().values().stream()
+                        .filter(ConnectionPermitDataSource.class::isInstance)
+                        .map(ConnectionPermitDataSource.class::cast);
+            }
+        } catch (SQLException e) {
+            log.debug("Could not inspect datasource: {}", e.getMessage());
+        }
+        return Stream.empty();
+    }
+
+    private static String poolName(ConnectionPermitDataSource guard) {
+        try {
+            return guard.unwrap(HikariDataSource.class).getPoolName();
+        } catch (SQLException e) {
+            return "unknown";
+        }
+    }
+}
@@ -2,7 +2,7 @@ package sp.releasetestbackend.dashboard.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
-import sp.releasetestbackend.config.auth.AuthUtils;
+import sp.releasetestbackend.config.auth.LoginAccountId;
 import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
 import sp.releasetestbackend.dashboard.service.DashboardService;
 
@@ -12,11 +12,9 @@ import sp.releasetestbackend.dashboard.service.DashboardService;
 @CrossOrigin
 public class DashboardController {
     private final DashboardService dashboardService;
-    private final AuthUtils authUtils;
 
     @GetMapping
-    public DashboardResponseDTO getDashboardData(@RequestHeader("Authorization") String token) {
-        Long accountId = authUtils.getAccountIdFromToken(token);
+    public DashboardResponseDTO getDashboardData(@LoginAccountId Long accountId) {
         return dashboardService.getDashboardData(accountId);
     }
 }
@@ -0,0 +1,40 @@
+package sp.releasetestbackend.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 계정별/일자별 할 일 집계. TodoService의 생성/토글/삭제와 같은 트랜잭션에서 증분 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(TodoDailyStats.Key.class)
+@Table(name = "todo_daily_stats")
+public class TodoDailyStats {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    private long total;
+    private long completed;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long accountId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,57 @@
+package sp.releasetestbackend.dashboard.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sp.releasetestbackend.dashboard.entity.TodoDailyStats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoDailyStatsRepository extends JpaRepository<TodoDailyStats, TodoDailyStats.Key> {
+    List<TodoDailyStats> findByAccountIdAndDayBetween(Long accountId, LocalDate startDay, LocalDate endDay);
+
+    List<TodoDailyStats> findByAccountId(Long accountId);
+
+    @Query("select distinct s.accountId from TodoDailyStats s")
+    List<Long> findDistinctAccountIds();
+
+    // 집계 행이 없으면 만들고, 있으면 증감분만 더함 (한 번의 SQL)
+    @Modifying
+    @Query(value = "INSERT INTO todo_daily_stats (account_id, day, total, completed) " +
+            "VALUES (:accountId, :day, :totalDelta, :completedDelta) " +
+            "ON DUPLICATE KEY UPDATE total = total + :totalDelta, completed = completed + :completedDelta",
+            nativeQuery = true)
+    int applyDelta(@Param("accountId") Long accountId,
+                   @Param("day") LocalDate day,
+                   @Param("totalDelta") long totalDelta,
+                   @Param("completedDelta") long completedDelta);
+
+    // 삭제될 할 일의 (due_date, completed)를 서브쿼리로 읽어 집계에서 차감. 할 일 삭제 전에 실행해야 함
+    @Modifying
+    @Query(value = "UPDATE todo_daily_stats SET total = total - 1, " +
+            "completed = completed - (SELECT CASE WHEN t.completed THEN 1 ELSE 0 END FROM todos t WHERE t.id = :todoId) " +
+            "WHERE account_id = :accountId " +
+            "AND day = (SELECT t.due_date FROM todos t WHERE t.id = :todoId AND t.account_id = :accountId)",
+            nativeQuery = true)
+    int subtractTodo(@Param("accountId") Long accountId, @Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("delete from TodoDailyStats s where s.accountId = :accountId")
+    int deleteByAccountIdInBulk(@Param("accountId") Long accountId);
+
+    // todos 원본 테이블에서 계정의 집계를 다시 계산해 채움
+    @Modifying
+    @Query(value = "INSERT INTO todo_daily_stats (account_id, day, total, completed) " +
+            "SELECT account_id, due_date, COUNT(*), SUM(CASE WHEN completed THEN 1 ELSE 0 END) " +
+            "FROM todos WHERE account_id = :accountId AND due_date IS NOT NULL " +
+            "GROUP BY account_id, due_date",
+            nativeQuery = true)
+    int insertFromTodos(@Param("accountId") Long accountId);
+
+    // 계정 삭제 후 정리용: 짧은 트랜잭션으로 나눠 지우도록 한 번에 limit건만 삭제
+    @Modifying
+    @Query(value = "DELETE FROM todo_daily_stats WHERE account_id = :accountId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+}
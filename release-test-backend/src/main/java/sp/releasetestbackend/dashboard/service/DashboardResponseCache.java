@@ -0,0 +1,57 @@
+package sp.releasetestbackend.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
+import sp.releasetestbackend.home.service.TodoChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.BiFunction;
+
+/**
+ * 계정별 대시보드 응답 캐시. 키에 기준 날짜가 들어 있어 날짜가 바뀌면 자연히 새로 계산한다.
+ * 같은 계정의 동시 미스는 한 번만 계산하고 나머지는 그 결과를 기다린다 (Caffeine get).
+ * 할 일 변경은 커밋 뒤 TodoChangedEvent로 받아 무효화한다. 이 이벤트는 변경한 인스턴스에서만 발행되므로,
+ * 다른 인스턴스의 변경은 expire-after-write가 지나 다시 계산할 때 반영된다.
+ */
+@Component
+public class DashboardResponseCache {
+    private final Cache<Key, DashboardResponseDTO> responses;
+
+    public DashboardResponseCache(MeterRegistry meterRegistry,
+                                  @Value("${dashboard.response-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${dashboard.response-cache.expire-after-write:PT30S}") Duration expireAfterWrite) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "dashboard.responses");
+    }
+
+    public DashboardResponseDTO get(Long accountId, LocalDate today, BiFunction<Long, LocalDate, DashboardResponseDTO> loader) {
+        return responses.get(new Key(accountId, today), key -> loader.apply(key.accountId(), key.today()));
+    }
+
+    // 계산 중인 항목이 있으면 계산이 끝난 뒤 지워지므로 변경 전 결과가 남지 않음
+    // 다른 커밋 후 리스너(실시간 푸시)가 새 수치를 읽도록 가장 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        responses.invalidate(new Key(event.accountId(), today));
+        // 자정 직후 어제 날짜로 계산 중이던 요청 대비
+        responses.invalidate(new Key(event.accountId(), today.minusDays(1)));
+    }
+
+    private record Key(Long accountId, LocalDate today) {
+    }
+}
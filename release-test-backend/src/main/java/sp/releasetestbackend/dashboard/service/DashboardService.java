@@ -3,12 +3,19 @@ package sp.releasetestbackend.dashboard.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
+import sp.releasetestbackend.dashboard.entity.TodoDailyStats;
+import sp.releasetestbackend.dashboard.repository.TodoDailyStatsRepository;
 import sp.releasetestbackend.home.entity.Todo;
 import sp.releasetestbackend.home.repository.TodoRepository;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,34 +24,59 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
+    private static final String[] WEEKDAY_NAMES = {"일", "월", "화", "수", "목", "금", "토"};
+
     private final TodoRepository todoRepository;
+    private final TodoDailyStatsRepository todoDailyStatsRepository;
+    private final DashboardResponseCache dashboardResponseCache;
 
+    // 캐시 적중 시 DB 커넥션도 잡지 않도록 트랜잭션 없이 실행 (미스일 때만 아래 조회 2건)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public DashboardResponseDTO getDashboardData(Long accountId) {
-        LocalDate today = LocalDate.now();
+        return dashboardResponseCache.get(accountId, LocalDate.now(), this::computeDashboardData);
+    }
+
+    private DashboardResponseDTO computeDashboardData(Long accountId, LocalDate today) {
         LocalDate tomorrow = today.plusDays(1);
+        LocalDate weekAgo = today.minusDays(7);
+        LocalDate thisWeekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        LocalDate lastWeekStart = thisWeekStart.minusDays(7);
+        LocalDate thisWeekEnd = thisWeekStart.plusDays(6);
+        LocalDate statsEnd = tomorrow.isAfter(thisWeekEnd) ? tomorrow : thisWeekEnd;
 
-        // 1. 오늘 할 일 관련 데이터 계산
+        // 1. 오늘 할 일 관련 데이터 계산 (목록은 화면에 그대로 보여주므로 엔티티로 조회)
         List<Todo> todaysTodos = todoRepository.findByAccountIdAndDueDate(accountId, today);
         long todaysTotalCount = todaysTodos.size();
         long todaysCompleteCount = todaysTodos.stream().filter(Todo::isCompleted).count();
-        int todaysProgress = (todaysTotalCount > 0) ? (int) Math.round((double) todaysCompleteCount / todaysTotalCount * 100) : 0;
+        int todaysProgress = percent(todaysCompleteCount, todaysTotalCount);
+
+        // 나머지 수치는 저번주 일요일 ~ 이번주 토요일(또는 내일)의 일자별 집계로 계산
+        Map<LocalDate, TodoDailyStats> statsByDay = new HashMap<>();
+        for (TodoDailyStats stats : todoDailyStatsRepository.findByAccountIdAndDayBetween(accountId, lastWeekStart, statsEnd)) {
+            statsByDay.put(stats.getDay(), stats);
+        }
 
         // 2. 내일 할 일 개수 계산
-        long tomorrowsTodoCount = todoRepository.countByAccountIdAndDueDate(accountId, tomorrow);
+        long tomorrowsTodoCount = total(statsByDay.get(tomorrow));
 
-        // 3. 주간 차트 데이터 (지금 샘플임)
-        List<Map<String, Object>> weeklyChartData = List.of(
-                Map.of("name", "월", "저번주", 20, "이번주", 25),
-                Map.of("name", "화", "저번주", 30, "이번주", 28),
-                Map.of("name", "수", "저번주", 22, "이번주", 35)
-        );
+        // 3. 주간 차트 데이터 (요일별 완료 개수, 이번주 vs 저번주)
+        List<Map<String, Object>> weeklyChartData = new ArrayList<>();
+        for (int dayIndex = 0; dayIndex < WEEKDAY_NAMES.length; dayIndex++) {
+            weeklyChartData.add(Map.of(
+                    "name", WEEKDAY_NAMES[dayIndex],
+                    "저번주", completed(statsByDay.get(lastWeekStart.plusDays(dayIndex))),
+                    "이번주", completed(statsByDay.get(thisWeekStart.plusDays(dayIndex)))
+            ));
+        }
 
         // 4. 전체 진행률 (최근 1주일 기준으로 계산)
-        LocalDate weekAgo = today.minusDays(7);
-        List<Todo> weeklyTodos = todoRepository.findByAccountIdAndDueDateBetween(accountId, weekAgo, today);
-        long weeklyTotalCount = weeklyTodos.size();
-        long weeklyCompleteCount = weeklyTodos.stream().filter(Todo::isCompleted).count();
-        int overallProgress = (weeklyTotalCount > 0) ? (int) Math.round((double) weeklyCompleteCount / weeklyTotalCount * 100) : 0;
+        long weeklyTotalCount = 0;
+        long weeklyCompleteCount = 0;
+        for (LocalDate day = weekAgo; !day.isAfter(today); day = day.plusDays(1)) {
+            weeklyTotalCount += total(statsByDay.get(day));
+            weeklyCompleteCount += completed(statsByDay.get(day));
+        }
+        int overallProgress = percent(weeklyCompleteCount, weeklyTotalCount);
 
         // 5. 계산된 모든 데이터를 DTO에 담아 반환
         return new DashboardResponseDTO(
@@ -57,4 +89,16 @@ public class DashboardService {
                 overallProgress
         );
     }
+
+    private static long total(TodoDailyStats stats) {
+        return stats == null ? 0 : stats.getTotal();
+    }
+
+    private static long completed(TodoDailyStats stats) {
+        return stats == null ? 0 : stats.getCompleted();
+    }
+
+    private static int percent(long part, long whole) {
+        return (whole > 0) ? (int) Math.round((double) part / whole * 100) : 0;
+    }
 }
@@ -0,0 +1,75 @@
+package sp.releasetestbackend.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sp.releasetestbackend.config.jdbc.Shards;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * todo_daily_stats 백필 및 정합성 검사 작업.
+ * 계정 단위로 짧은 트랜잭션을 나눠 실행하며, 샤딩을 켠 경우 샤드마다 따로 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoDailyStatsMaintenance {
+    private final TodoDailyStatsService todoDailyStatsService;
+    private final Shards shards;
+
+    @Value("${dashboard.stats.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    // 집계 테이블이 비어 있으면 (최초 배포) 기존 할 일로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        shards.forEach(() -> {
+            if (todoDailyStatsService.isEmpty()) {
+                int accounts = rebuildShard();
+                log.info("todo_daily_stats backfill completed: {} accounts", accounts);
+            }
+        });
+    }
+
+    public int rebuildAll() {
+        return shards.map(this::rebuildShard).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private int rebuildShard() {
+        Set<Long> accountIds = todoDailyStatsService.findAccountIdsWithTodos();
+        for (Long accountId : accountIds) {
+            todoDailyStatsService.rebuild(accountId);
+        }
+        return accountIds.size();
+    }
+
+    // 원본과 집계를 비교해서 어긋난 계정은 재구축
+    @Scheduled(cron = "${dashboard.stats.consistency-check-cron:0 30 4 * * *}")
+    public void checkConsistency() {
+        int repaired = shards.map(this::checkShard).stream().mapToInt(Integer::intValue).sum();
+        log.info("todo_daily_stats consistency check completed: {} accounts repaired", repaired);
+    }
+
+    private int checkShard() {
+        int repaired = 0;
+        for (Long accountId : todoDailyStatsService.findAccountIdsToCheck()) {
+            List<LocalDate> mismatchedDays = todoDailyStatsService.findMismatchedDays(accountId);
+            if (!mismatchedDays.isEmpty()) {
+                log.warn("todo_daily_stats mismatch: accountId={}, days={}", accountId, mismatchedDays);
+                todoDailyStatsService.rebuild(accountId);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
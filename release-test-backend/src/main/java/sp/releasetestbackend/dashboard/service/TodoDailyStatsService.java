@@ -0,0 +1,129 @@
+package sp.releasetestbackend.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.dashboard.entity.TodoDailyStats;
+import sp.releasetestbackend.dashboard.repository.TodoDailyStatsRepository;
+import sp.releasetestbackend.home.repository.DailyTodoCount;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.home.service.TodoChangedEvent;
+import sp.releasetestbackend.sync.service.SyncVersionService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * todo_daily_stats 집계 유지보수.
+ * record* 메서드는 호출한 TodoService 트랜잭션에 참여하므로 할 일 변경과 집계 갱신이 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TodoDailyStatsService {
+    private final TodoDailyStatsRepository todoDailyStatsRepository;
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final SyncVersionService syncVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long accountId, LocalDate dueDate, boolean completed) {
+        applyDelta(accountId, dueDate, 1, completed ? 1 : 0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordToggled(Long accountId, LocalDate dueDate, boolean nowCompleted) {
+        applyDelta(accountId, dueDate, 0, nowCompleted ? 1 : -1);
+    }
+
+    // 할 일 행을 읽지 않고 DB 안에서 차감 (할 일 삭제 직전에 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleting(Long accountId, Long todoId) {
+        todoDailyStatsRepository.subtractTodo(accountId, todoId);
+    }
+
+    private void applyDelta(Long accountId, LocalDate dueDate, long totalDelta, long completedDelta) {
+        if (dueDate == null) {
+            return; // 마감일이 없는 할 일은 일자별 집계 대상이 아님
+        }
+        todoDailyStatsRepository.applyDelta(accountId, dueDate, totalDelta, completedDelta);
+    }
+
+    // 계정의 집계를 todos 원본과 보관 테이블에서 다시 계산 (다른 샤드로 옮기는 중인 계정은 건너뜀)
+    public void rebuild(Long accountId) {
+        if (syncVersionService.lockSettled(List.of(accountId), true).isEmpty()) {
+            return;
+        }
+        todoDailyStatsRepository.deleteByAccountIdInBulk(accountId);
+        todoDailyStatsRepository.insertFromTodos(accountId);
+        for (DailyTodoCount count : todoArchiveRepository.countDailyByAccountId(accountId)) {
+            applyDelta(accountId, count.getDay(), count.getTotal(), count.getCompleted());
+        }
+        // 집계가 바뀌었으므로 캐시된 대시보드 응답도 버림
+        eventPublisher.publishEvent(TodoChangedEvent.of(accountId));
+    }
+
+    // 원본과 집계가 다른 날짜 목록 (total/completed 가 0인 집계 행은 행이 없는 것과 같게 취급)
+    @Transactional(readOnly = true)
+    public List<LocalDate> findMismatchedDays(Long accountId) {
+        Map<LocalDate, long[]> expected = new HashMap<>();
+        for (DailyTodoCount count : todoRepository.countDailyByAccountId(accountId)) {
+            expected.put(count.getDay(), new long[]{count.getTotal(), count.getCompleted()});
+        }
+        // 보관된 할 일도 집계에 포함되어 있음
+        for (DailyTodoCount count : todoArchiveRepository.countDailyByAccountId(accountId)) {
+            long[] sum = expected.computeIfAbsent(count.getDay(), day -> new long[]{0, 0});
+            sum[0] += count.getTotal();
+            sum[1] += count.getCompleted();
+        }
+
+        Map<LocalDate, long[]> actual = new HashMap<>();
+        for (TodoDailyStats stats : todoDailyStatsRepository.findByAccountId(accountId)) {
+            if (stats.getTotal() != 0 || stats.getCompleted() != 0) {
+                actual.put(stats.getDay(), new long[]{stats.getTotal(), stats.getCompleted()});
+            }
+        }
+
+        Set<LocalDate> days = new HashSet<>(expected.keySet());
+        days.addAll(actual.keySet());
+
+        List<LocalDate> mismatched = new ArrayList<>();
+        for (LocalDate day : days) {
+            long[] raw = expected.getOrDefault(day, new long[]{0, 0});
+            long[] rollup = actual.getOrDefault(day, new long[]{0, 0});
+            if (raw[0] != rollup[0] || raw[1] != rollup[1]) {
+                mismatched.add(day);
+            }
+        }
+        return mismatched;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> findAccountIdsWithTodos() {
+        Set<Long> accountIds = new HashSet<>(todoRepository.findDistinctAccountIds());
+        accountIds.addAll(todoArchiveRepository.findDistinctAccountIds());
+        return accountIds;
+    }
+
+    // 원본(보관 포함) 또는 집계 어느 한쪽에라도 데이터가 있는 계정
+    @Transactional(readOnly = true)
+    public Set<Long> findAccountIdsToCheck() {
+        Set<Long> accountIds = findAccountIdsWithTodos();
+        accountIds.addAll(todoDailyStatsRepository.findDistinctAccountIds());
+        return accountIds;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return todoDailyStatsRepository.count() == 0;
+    }
+}
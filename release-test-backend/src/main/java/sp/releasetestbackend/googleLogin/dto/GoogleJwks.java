@@ -0,0 +1,14 @@
+package sp.releasetestbackend.googleLogin.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+// 구글 공개키 목록 (https://www.googleapis.com/oauth2/v3/certs)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GoogleJwks(List<Key> keys) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Key(String kid, String kty, String alg, String n, String e) {
+    }
+}
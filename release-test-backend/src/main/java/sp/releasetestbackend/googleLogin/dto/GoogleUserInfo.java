@@ -0,0 +1,12 @@
+package sp.releasetestbackend.googleLogin.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+// 구글 사용자 정보 응답 (필요한 필드만)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GoogleUserInfo(String email, String name) {
+    public OAuthUserInfo toOAuthUserInfo() {
+        return new OAuthUserInfo(email, name);
+    }
+}
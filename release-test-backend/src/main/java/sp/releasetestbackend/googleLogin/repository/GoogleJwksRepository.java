@@ -0,0 +1,28 @@
+package sp.releasetestbackend.googleLogin.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Repository;
+import sp.releasetestbackend.config.http.OAuthHttpClient;
+import sp.releasetestbackend.config.http.OAuthHttpClients;
+import sp.releasetestbackend.googleLogin.dto.GoogleJwks;
+
+@Repository
+public class GoogleJwksRepository {
+    private final String jwksUri;
+    private final OAuthHttpClient httpClient;
+
+    public GoogleJwksRepository(
+            @Value("${google.id-token.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+            OAuthHttpClients oAuthHttpClients) {
+        this.jwksUri = jwksUri;
+        // 로그인 호출과 풀/서킷을 나눠서 키 갱신 실패가 로그인에 영향을 주지 않게 함
+        this.httpClient = oAuthHttpClients.register("google-jwks", jwksUri);
+    }
+
+    // 실패하면 null
+    public GoogleJwks getKeys() {
+        return httpClient.exchange(jwksUri, HttpMethod.GET, HttpEntity.EMPTY, GoogleJwks.class);
+    }
+}
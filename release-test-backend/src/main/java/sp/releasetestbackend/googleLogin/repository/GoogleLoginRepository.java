@@ -5,12 +5,21 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.config.http.OAuthHttpClient;
+import sp.releasetestbackend.config.http.OAuthHttpClients;
+import sp.releasetestbackend.googleLogin.dto.GoogleUserInfo;
+import sp.releasetestbackend.googleLogin.service.GoogleIdTokenVerifier;
+import sp.releasetestbackend.oauth.dto.OAuthTokenResponse;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+import sp.releasetestbackend.oauth.service.OAuthProvider;
 
-import java.util.Map;
+import java.util.Optional;
 
 @Repository
-public class GoogleLoginRepository {
+public class GoogleLoginRepository implements OAuthProvider {
+    private static final String NAME = "google";
+
     private final String grantType = "authorization_code";
     private final String loginUrl;
     private final String clientId;
@@ -19,7 +28,8 @@ public class GoogleLoginRepository {
     private final String tokenRequestUri;
     private final String userInfoRequestUri;
 
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClient httpClient;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
 
     public GoogleLoginRepository(
             @Value("${google.login-url}") String loginUrl,
@@ -28,7 +38,8 @@ public class GoogleLoginRepository {
             @Value("${google.redirect-uri}") String redirectUri,
             @Value("${google.token-request-uri}") String tokenRequestUri,
             @Value("${google.user-info-request-uri}") String userInfoRequestUri,
-            RestTemplate restTemplate) {
+            OAuthHttpClients oAuthHttpClients,
+            GoogleIdTokenVerifier googleIdTokenVerifier) {
         this.loginUrl = loginUrl;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
@@ -36,15 +47,28 @@ public class GoogleLoginRepository {
         this.tokenRequestUri = tokenRequestUri;
         this.userInfoRequestUri = userInfoRequestUri;
 
-        this.restTemplate = restTemplate;
+        this.httpClient = oAuthHttpClients.register(NAME, tokenRequestUri, userInfoRequestUri);
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public LoginType getLoginType() {
+        return LoginType.GOOGLE;
     }
 
+    @Override
     public String getAccessCode() {
         return String.format("%s?client_id=%s&redirect_uri=%s&response_type=code&scope=openid%%20email%%20profile",
                 loginUrl, clientId, redirectUri);
     }
 
-    public Map<String, Object> getAccessToken(String code) {
+    @Override
+    public OAuthTokenResponse getAccessToken(String code) {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("client_id", clientId);
         formData.add("client_secret", clientSecret);
@@ -57,19 +81,21 @@ public class GoogleLoginRepository {
 
         HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(formData, headers);
 
-        ResponseEntity<Map> response = restTemplate.exchange(
-                tokenRequestUri, HttpMethod.POST, entity, Map.class);
-
-        return response.getBody();
+        return httpClient.exchange(tokenRequestUri, HttpMethod.POST, entity, OAuthTokenResponse.class);
     }
 
-    public Map<String, Object> getUserInfo(String accessToken) {
+    @Override
+    public OAuthUserInfo getUserInfo(OAuthTokenResponse tokens) {
+        // id_token을 로컬에서 검증할 수 있으면 사용자 정보 API 호출 생략
+        Optional<OAuthUserInfo> verified = googleIdTokenVerifier.verify(tokens.idToken());
+        if (verified.isPresent()) {
+            return verified.get();
+        }
+
         HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + accessToken);
+        headers.set("Authorization", "Bearer " + tokens.accessToken());
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<Map> response = restTemplate.exchange(
-                userInfoRequestUri, HttpMethod.GET, entity, Map.class);
-
-        return response.getBody();
+        GoogleUserInfo userInfo = httpClient.exchange(userInfoRequestUri, HttpMethod.GET, entity, GoogleUserInfo.class);
+        return userInfo == null ? null : userInfo.toOAuthUserInfo();
     }
 }
@@ -0,0 +1,143 @@
+package sp.releasetestbackend.googleLogin.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sp.releasetestbackend.googleLogin.dto.GoogleJwks;
+import sp.releasetestbackend.googleLogin.repository.GoogleJwksRepository;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 토큰 응답의 id_token을 캐시된 구글 공개키(JWKS)로 직접 검증해 사용자 정보 API 호출을 생략한다.
+ * 키는 주기적으로 갱신하고, 모르는 kid가 오면(키 교체 직후) 한 번 더 갱신해 본다.
+ */
+@Slf4j
+@Service
+public class GoogleIdTokenVerifier {
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+
+    private final GoogleJwksRepository googleJwksRepository;
+    private final boolean enabled;
+    private final long minRefreshIntervalMillis;
+    private final JwtParser parser;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private long lastRefreshAttemptAt;
+
+    public GoogleIdTokenVerifier(
+            GoogleJwksRepository googleJwksRepository,
+            @Value("${google.client-id}") String clientId,
+            @Value("${google.id-token.verify-locally:true}") boolean enabled,
+            @Value("${google.id-token.jwks-min-refresh-interval:PT1M}") Duration minRefreshInterval) {
+        this.googleJwksRepository = googleJwksRepository;
+        this.enabled = enabled;
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(60)
+                .build();
+    }
+
+    /**
+     * 검증에 성공하면 이메일/이름을 반환한다. 키를 구할 수 없거나 서명·발급자·대상이 맞지 않으면 empty.
+     * 토큰에 이메일이나 이름이 없으면(scope에 email/profile이 빠진 경우 등) userinfo로 받도록 empty.
+     */
+    public Optional<OAuthUserInfo> verify(String idToken) {
+        if (!enabled || idToken == null) {
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(idToken).getBody();
+            if (!ISSUERS.contains(claims.getIssuer()) || Boolean.FALSE.equals(claims.get("email_verified", Boolean.class))) {
+                return Optional.empty();
+            }
+            String email = claims.get("email", String.class);
+            String name = claims.get("name", String.class);
+            if (email == null || name == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new OAuthUserInfo(email, name));
+        } catch (Exception e) {
+            log.debug("Google id_token 로컬 검증 실패, userinfo로 대체: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${google.id-token.jwks-refresh-interval:PT1H}")
+    public void refreshKeysPeriodically() {
+        if (enabled) {
+            refreshKeys();
+        }
+    }
+
+    private PublicKey findKey(String keyId) {
+        PublicKey key = keys.get(keyId);
+        if (key == null && refreshKeys()) {
+            key = keys.get(keyId);
+        }
+        if (key == null) {
+            throw new IllegalStateException("알 수 없는 kid: " + keyId);
+        }
+        return key;
+    }
+
+    // 너무 자주 요청하지 않도록 최소 간격 안에서는 다시 받지 않음. 새 키를 받았으면 true
+    synchronized boolean refreshKeys() {
+        long now = System.currentTimeMillis();
+        if (now - lastRefreshAttemptAt < minRefreshIntervalMillis) {
+            return false;
+        }
+        lastRefreshAttemptAt = now;
+
+        GoogleJwks jwks = googleJwksRepository.getKeys();
+        if (jwks == null || jwks.keys() == null) {
+            return false;
+        }
+        Map<String, PublicKey> refreshed = new HashMap<>();
+        for (GoogleJwks.Key jwk : jwks.keys()) {
+            if ("RSA".equals(jwk.kty()) && jwk.kid() != null) {
+                try {
+                    refreshed.put(jwk.kid(), toPublicKey(jwk));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.warn("Google 공개키 변환 실패: kid={} {}", jwk.kid(), e.getMessage());
+                }
+            }
+        }
+        keys = Map.copyOf(refreshed);
+        log.debug("Google 공개키 갱신: {}", refreshed.keySet());
+        return true;
+    }
+
+    private static PublicKey toPublicKey(GoogleJwks.Key jwk) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jwk.n())),
+                new BigInteger(1, decoder.decode(jwk.e())));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
@@ -1,13 +1,16 @@
 package sp.releasetestbackend.home.Controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import sp.releasetestbackend.config.auth.AuthUtils;
+import sp.releasetestbackend.config.auth.LoginAccountId;
 import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
 import sp.releasetestbackend.home.entity.Todo;
-import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.home.service.TodoBatchService;
 import sp.releasetestbackend.home.service.TodoService;
+import sp.releasetestbackend.home.service.TodoToggleBuffer;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDate;
@@ -19,27 +22,70 @@ import java.util.List;
 @CrossOrigin
 public class TodoController {
     private final TodoService todoService;
-    private final TodoRepository todoRepository;
-    private final AuthUtils authUtils;
+    private final TodoBatchService todoBatchService;
+    private final ObjectProvider<TodoToggleBuffer> todoToggleBuffer;
 
     @GetMapping
-    public List<Todo> getTodosByDate(@RequestParam("date") LocalDate date, @RequestHeader("Authorization") String token) {
-        Long accountId = authUtils.getAccountIdFromToken(token);
-        return todoRepository.findByAccountIdAndDueDate(accountId, date);
+    public List<Todo> getTodosByDate(@RequestParam("date") LocalDate date, @LoginAccountId Long accountId) {
+        return todoService.getTodosByDate(accountId, date);
     }
 
+    // 중요 업무 (미완료 할 일, 중요도 순). priority를 생략하면 CRITICAL, HIGH
+    @GetMapping("/important")
+    public List<Todo> getImportantTodos(@RequestParam(value = "priority", required = false) List<Priority> priorities,
+                                        @LoginAccountId Long accountId) {
+        if (priorities == null || priorities.isEmpty()) {
+            priorities = List.of(Priority.CRITICAL, Priority.HIGH);
+        }
+        return todoService.getImportantTodos(accountId, priorities);
+    }
+
+    // 기간 내 할 일 조회 (cursor가 없으면 첫 페이지)
+    @GetMapping("/range")
+    public ResponseEntity<TodoDTO.CursorPage> getTodosByDateRange(@RequestParam("from") LocalDate from,
+                                                                  @RequestParam("to") LocalDate to,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                  @RequestParam(value = "size", required = false) Integer size,
+                                                                  @LoginAccountId Long accountId) {
+        try {
+            return ResponseEntity.ok(todoService.getTodosByDateRange(accountId, from, to, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // 잘못된 기간 또는 커서
+        }
+    }
+
+    // 완료된 할 일 조회 (cursor가 없으면 첫 페이지)
+    @GetMapping("/completed")
+    public ResponseEntity<TodoDTO.CursorPage> getCompletedTodos(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", required = false) Integer size,
+                                                                @LoginAccountId Long accountId) {
+        try {
+            return ResponseEntity.ok(todoService.getCompletedTodos(accountId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
     @PostMapping
-    public Todo createTodo(@RequestBody TodoDTO.Create request, @RequestHeader("Authorization") String token) {
-        Long accountId = authUtils.getAccountIdFromToken(token);
+    public Todo createTodo(@RequestBody TodoDTO.Create request, @LoginAccountId Long accountId) {
         return todoService.createTodo(accountId, request);
     }
 
+    // 여러 작업을 한 요청/한 트랜잭션으로 처리 (작업별 결과는 요청 순서대로)
+    @PostMapping("/batch")
+    public ResponseEntity<List<TodoDTO.BatchResult>> applyBatch(@RequestBody TodoDTO.BatchRequest request,
+                                                                @LoginAccountId Long accountId) {
+        try {
+            return ResponseEntity.ok(todoBatchService.apply(accountId, request.getOperations()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // 작업이 없거나 100건 초과
+        }
+    }
+
     // 할 일 수정
     @PutMapping("/{id}")
-    public ResponseEntity<Todo> updateTodo(@PathVariable Long id, @RequestBody TodoDTO.Update request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<Todo> updateTodo(@PathVariable Long id, @RequestBody TodoDTO.Update request, @LoginAccountId Long accountId) {
         try {
-            Long accountId = authUtils.getAccountIdFromToken(token);
             Todo updatedTodo = todoService.updateTodo(accountId, id, request);
             return ResponseEntity.ok(updatedTodo);
         } catch (AccessDeniedException e) {
@@ -47,12 +93,12 @@ public class TodoController {
         }
     }
 
-    // 할 일 완료 토글 API
+    // 할 일 완료 토글 API (토글 버퍼를 켰으면 트랜잭션 없이 버퍼에 맡기고 반영될 때까지 기다림)
     @PutMapping("/{id}/toggle")
-    public ResponseEntity<Todo> toggleTodo(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<Todo> toggleTodo(@PathVariable Long id, @LoginAccountId Long accountId) {
         try {
-            Long accountId = authUtils.getAccountIdFromToken(token);
-            Todo updatedTodo = todoService.toggleTodo(accountId, id);
+            TodoToggleBuffer buffer = todoToggleBuffer.getIfAvailable();
+            Todo updatedTodo = buffer != null ? buffer.toggle(accountId, id) : todoService.toggleTodo(accountId, id);
             return ResponseEntity.ok(updatedTodo);
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(403).build();
@@ -61,9 +107,8 @@ public class TodoController {
 
     // 할 일 삭제
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTodo(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<Void> deleteTodo(@PathVariable Long id, @LoginAccountId Long accountId) {
         try {
-            Long accountId = authUtils.getAccountIdFromToken(token);
             todoService.deleteTodo(accountId, id);
             return ResponseEntity.noContent().build(); // 204 No Content (성공적으로 삭제됨)
         } catch (AccessDeniedException e) {
@@ -1,9 +1,12 @@
 package sp.releasetestbackend.home.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import java.time.LocalDate;
+import java.util.List;
 import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
 
 
 public class TodoDTO {
@@ -22,4 +25,45 @@ public class TodoDTO {
         private String text;
         private Priority priority;
     }
-}
\ No newline at end of file
+
+    public enum BatchOp {
+        create, update, toggle, delete, move
+    }
+
+    public enum BatchStatus {
+        ok, invalid, forbidden
+    }
+
+    @Getter
+    @Setter
+    public static class BatchRequest { // 여러 작업을 한 트랜잭션으로 처리 (최대 100건, 순서대로 적용)
+        private List<BatchOperation> operations;
+    }
+
+    @Getter
+    @Setter
+    public static class BatchOperation {
+        private BatchOp op;
+        private Long id;            // create 외 필수
+        private String text;        // create, update
+        private Priority priority;  // create, update
+        private LocalDate dueDate;  // create, move
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult { // 요청 순서와 같은 순서의 작업별 결과 (delete 성공 시 todo는 null)
+        private int index;
+        private BatchOp op;
+        private Long id;
+        private BatchStatus status;
+        private Todo todo;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPage { // 키셋 페이지네이션 응답 (nextCursor가 null이면 마지막 페이지)
+        private List<Todo> items;
+        private String nextCursor;
+    }
+}
@@ -11,7 +11,16 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 기간 조회 키셋 페이지네이션용 (due_date, id) 정렬
+        @Index(name = "idx_todos_account_due_date_id", columnList = "account_id, due_date, id"),
+        // 완료 목록 키셋 페이지네이션용
+        @Index(name = "idx_todos_account_completed_id", columnList = "account_id, completed, id"),
+        // 보관 작업의 키셋 스캔용 (계정과 상관없이 완료 + 마감일 순)
+        @Index(name = "idx_todos_completed_due_date_id", columnList = "completed, due_date, id"),
+        // 델타 동기화용
+        @Index(name = "idx_todos_account_change_version", columnList = "account_id, change_version")
+})
 public class Todo {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,5 +37,10 @@ public class Todo {
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
+    @Column(name = "due_date")
     private LocalDate dueDate;
+
+    // 마지막으로 변경된 시점의 계정 변경 버전 (/api/sync)
+    @Column(name = "change_version")
+    private Long changeVersion;
 }
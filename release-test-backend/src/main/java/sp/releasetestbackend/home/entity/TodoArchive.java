@@ -0,0 +1,53 @@
+package sp.releasetestbackend.home.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 완료 할 일 보관 테이블. todos에서 id를 그대로 가져오며 항상 완료 상태다.
+ * 조회는 TodoService가 todos와 합쳐서 돌려주고, 수정/토글/삭제 시에는 todos로 되돌린 뒤 처리한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "todos_archive", indexes = {
+        @Index(name = "idx_todos_archive_account_due_date_id", columnList = "account_id, due_date, id")
+})
+public class TodoArchive {
+    @Id
+    private Long id;
+
+    // 보관 데이터는 계정 삭제 시 AccountPurgeWorker가 지우므로 FK 없이 id만 둠
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // 응답은 기존 Todo 형태 그대로
+    public Todo toTodo() {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setText(text);
+        todo.setCompleted(true);
+        todo.setPriority(priority);
+        todo.setDueDate(dueDate);
+        todo.setChangeVersion(changeVersion);
+        return todo;
+    }
+}
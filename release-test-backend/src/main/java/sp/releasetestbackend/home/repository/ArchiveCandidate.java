@@ -0,0 +1,7 @@
+package sp.releasetestbackend.home.repository;
+
+// 보관 대상 할 일과 그 계정 (인터페이스 프로젝션)
+public interface ArchiveCandidate {
+    Long getId();
+    Long getAccountId();
+}
@@ -0,0 +1,10 @@
+package sp.releasetestbackend.home.repository;
+
+import java.time.LocalDate;
+
+// todos 테이블을 일자별로 집계한 결과 (인터페이스 프로젝션)
+public interface DailyTodoCount {
+    LocalDate getDay();
+    Long getTotal();
+    Long getCompleted();
+}
@@ -0,0 +1,103 @@
+package sp.releasetestbackend.home.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sp.releasetestbackend.home.entity.TodoArchive;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TodoArchiveRepository extends JpaRepository<TodoArchive, Long> {
+    List<TodoArchive> findByAccountIdAndDueDate(Long accountId, LocalDate dueDate);
+    List<TodoArchive> findByAccountId(Long accountId);
+
+    // TodoRepository의 키셋 페이지네이션과 같은 정렬/조건
+    @Query("select a from TodoArchive a where a.accountId = :accountId and a.dueDate between :from and :to " +
+            "order by a.dueDate asc, a.id asc")
+    List<TodoArchive> findPageByDueDateRange(@Param("accountId") Long accountId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             Pageable limit);
+
+    @Query("select a from TodoArchive a where a.accountId = :accountId and a.dueDate between :from and :to " +
+            "and (a.dueDate > :cursorDueDate or (a.dueDate = :cursorDueDate and a.id > :cursorId)) " +
+            "order by a.dueDate asc, a.id asc")
+    List<TodoArchive> findPageByDueDateRangeAfter(@Param("accountId") Long accountId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to,
+                                                  @Param("cursorDueDate") LocalDate cursorDueDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable limit);
+
+    @Query("select a from TodoArchive a where a.accountId = :accountId order by a.id desc")
+    List<TodoArchive> findCompletedPage(@Param("accountId") Long accountId, Pageable limit);
+
+    @Query("select a from TodoArchive a where a.accountId = :accountId and a.id < :cursorId order by a.id desc")
+    List<TodoArchive> findCompletedPageBefore(@Param("accountId") Long accountId,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable limit);
+
+    // 보관된 할 일은 모두 완료 상태
+    @Query("select a.dueDate as day, count(a) as total, count(a) as completed " +
+            "from TodoArchive a where a.accountId = :accountId and a.dueDate is not null group by a.dueDate")
+    List<DailyTodoCount> countDailyByAccountId(@Param("accountId") Long accountId);
+
+    @Query("select distinct a.accountId from TodoArchive a")
+    List<Long> findDistinctAccountIds();
+
+    @Query("select max(a.dueDate) from TodoArchive a")
+    Optional<LocalDate> findMaxDueDate();
+
+    // 보관 대상 (완료 + 마감일이 cutoff 이전). 옮기는 동안 토글되지 않도록 행 잠금
+    // (completed, due_date, id) 인덱스 순서대로 읽으므로 limit건과 그 다음 한 건까지만 훑고 잠금
+    @Query(value = "SELECT id, account_id AS accountId FROM todos WHERE completed = TRUE AND due_date < :cutoff " +
+            "ORDER BY due_date, id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<ArchiveCandidate> lockToArchive(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+
+    // 이전 배치의 마지막 (due_date, id) 다음부터
+    @Query(value = "SELECT id, account_id AS accountId FROM todos WHERE completed = TRUE AND due_date < :cutoff " +
+            "AND (due_date > :cursorDueDate OR (due_date = :cursorDueDate AND id > :cursorId)) " +
+            "ORDER BY due_date, id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<ArchiveCandidate> lockToArchiveAfter(@Param("cutoff") LocalDate cutoff,
+                                     @Param("cursorDueDate") LocalDate cursorDueDate,
+                                     @Param("cursorId") Long cursorId,
+                                     @Param("limit") int limit);
+
+    // 다음 배치가 이어서 볼 위치 (옮기기 전에 읽음)
+    @Query("select t.dueDate from Todo t where t.id = :id")
+    Optional<LocalDate> findTodoDueDate(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO todos_archive (id, account_id, text, priority, due_date, change_version, archived_at) " +
+            "SELECT id, account_id, text, priority, due_date, change_version, CURRENT_TIMESTAMP " +
+            "FROM todos WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromTodos(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromTodos(@Param("ids") List<Long> ids);
+
+    // 보관된 할 일을 todos로 되돌림 (수정/토글/삭제 대상이 보관되어 있을 때)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO todos (id, account_id, text, completed, priority, due_date, change_version) " +
+            "SELECT id, account_id, text, TRUE, priority, due_date, change_version " +
+            "FROM todos_archive WHERE id = :id AND account_id = :accountId",
+            nativeQuery = true)
+    int copyToTodos(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos_archive WHERE id = :id AND account_id = :accountId", nativeQuery = true)
+    int deleteOwned(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    // 계정 삭제 후 정리용: 짧은 트랜잭션으로 나눠 지우도록 한 번에 limit건만 삭제
+    @Modifying
+    @Query(value = "DELETE FROM todos_archive WHERE account_id = :accountId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+}
@@ -0,0 +1,165 @@
+package sp.releasetestbackend.home.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.sync.entity.SyncEntityType;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POST /api/todos/batch 전용 JDBC 일괄 처리. 같은 종류의 쓰기는 JDBC 배치 한 번(왕복 한 번)으로 보낸다.
+ * todos는 IDENTITY 키라 Hibernate 배치 insert가 꺼지므로, 여기서 배치 insert 후 생성된 키를 한꺼번에 받는다.
+ * 호출한 서비스의 트랜잭션(JPA 트랜잭션과 같은 커넥션) 안에서만 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 영속성 컨텍스트 밖의 단순 객체로 읽음 (변경해도 Hibernate가 따로 flush하지 않음)
+    public List<Todo> findOwned(Long accountId, Collection<Long> ids) {
+        return namedParameterJdbcTemplate.query(
+                "SELECT id, text, completed, priority, due_date, change_version FROM todos " +
+                        "WHERE account_id = :accountId AND id IN (:ids)",
+                new MapSqlParameterSource("accountId", accountId).addValue("ids", ids),
+                (rs, rowNum) -> toTodo(rs));
+    }
+
+    // 생성된 id를 입력 순서대로 반환
+    public List<Long> insertAll(Long accountId, List<Todo> todos) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(
+                        "INSERT INTO todos (account_id, text, completed, priority, due_date, change_version) " +
+                                "VALUES (?, ?, ?, ?, ?, ?)",
+                        new String[]{"id"}),
+                batchSetter(todos, (ps, todo) -> {
+                    ps.setLong(1, accountId);
+                    setContent(ps, 2, todo);
+                }),
+                keys);
+
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public void updateAll(Long accountId, List<Todo> todos) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE todos SET text = ?, completed = ?, priority = ?, due_date = ?, change_version = ? " +
+                        "WHERE id = ? AND account_id = ?",
+                batchSetter(todos, (ps, todo) -> {
+                    setContent(ps, 1, todo);
+                    ps.setLong(6, todo.getId());
+                    ps.setLong(7, accountId);
+                }));
+    }
+
+    // 토글 버퍼용: 여러 할 일의 완료 상태를 UPDATE 한 번으로 뒤집음
+    public int toggleAll(Long accountId, Collection<Long> ids, long version) {
+        return namedParameterJdbcTemplate.update(
+                "UPDATE todos SET completed = NOT completed, change_version = :version " +
+                        "WHERE account_id = :accountId AND id IN (:ids)",
+                new MapSqlParameterSource("accountId", accountId).addValue("ids", ids).addValue("version", version));
+    }
+
+    public int deleteAll(Long accountId, Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update(
+                "DELETE FROM todos WHERE account_id = :accountId AND id IN (:ids)",
+                new MapSqlParameterSource("accountId", accountId).addValue("ids", ids));
+    }
+
+    public void recordDeletions(Long accountId, List<Long> ids, long version) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO sync_tombstones (account_id, entity_type, entity_id, version, created_at) " +
+                        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                batchSetter(ids, (ps, id) -> {
+                    ps.setLong(1, accountId);
+                    ps.setString(2, SyncEntityType.TODO.name());
+                    ps.setLong(3, id);
+                    ps.setLong(4, version);
+                }));
+    }
+
+    // 날짜별 [total, completed] 증감을 todo_daily_stats에 반영 (TodoDailyStatsRepository.applyDelta와 같은 SQL)
+    public void applyStatsDeltas(Long accountId, Map<LocalDate, long[]> deltas) {
+        List<Map.Entry<LocalDate, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todo_daily_stats (account_id, day, total, completed) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE total = total + ?, completed = completed + ?",
+                batchSetter(entries, (ps, entry) -> {
+                    ps.setLong(1, accountId);
+                    ps.setDate(2, Date.valueOf(entry.getKey()));
+                    ps.setLong(3, entry.getValue()[0]);
+                    ps.setLong(4, entry.getValue()[1]);
+                    ps.setLong(5, entry.getValue()[0]);
+                    ps.setLong(6, entry.getValue()[1]);
+                }));
+    }
+
+    // text, completed, priority, due_date, change_version 순서
+    private static void setContent(PreparedStatement ps, int first, Todo todo) throws SQLException {
+        ps.setString(first, todo.getText());
+        ps.setBoolean(first + 1, todo.isCompleted());
+        if (todo.getPriority() == null) {
+            ps.setNull(first + 2, Types.VARCHAR);
+        } else {
+            ps.setString(first + 2, todo.getPriority().name());
+        }
+        if (todo.getDueDate() == null) {
+            ps.setNull(first + 3, Types.DATE);
+        } else {
+            ps.setDate(first + 3, Date.valueOf(todo.getDueDate()));
+        }
+        ps.setLong(first + 4, todo.getChangeVersion());
+    }
+
+    private static Todo toTodo(ResultSet rs) throws SQLException {
+        Todo todo = new Todo();
+        todo.setId(rs.getLong("id"));
+        todo.setText(rs.getString("text"));
+        todo.setCompleted(rs.getBoolean("completed"));
+        String priority = rs.getString("priority");
+        todo.setPriority(priority == null ? null : Priority.valueOf(priority));
+        Date dueDate = rs.getDate("due_date");
+        todo.setDueDate(dueDate == null ? null : dueDate.toLocalDate());
+        long changeVersion = rs.getLong("change_version");
+        todo.setChangeVersion(rs.wasNull() ? null : changeVersion);
+        return todo;
+    }
+
+    private static <T> BatchPreparedStatementSetter batchSetter(List<T> items, ParameterizedPreparedStatementSetter<T> setter) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.setValues(ps, items.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        };
+    }
+}
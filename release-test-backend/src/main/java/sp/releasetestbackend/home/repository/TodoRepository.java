@@ -1,6 +1,10 @@
 package sp.releasetestbackend.home.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sp.releasetestbackend.home.entity.Todo;
 import sp.releasetestbackend.home.entity.Priority;
 
@@ -13,4 +17,68 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     List<Todo> findByAccountIdAndCompletedIsTrue(Long accountId);
     long countByAccountIdAndDueDate(Long accountId, LocalDate dueDate);
     List<Todo> findByAccountIdAndDueDateBetween(Long accountId, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    List<Todo> findByAccountId(Long accountId);
+    List<Todo> findByAccountIdAndChangeVersionGreaterThan(Long accountId, Long changeVersion);
+
+    // 기간 내 할 일 키셋 페이지네이션 (due_date, id 오름차순). Pageable은 LIMIT 용도로만 사용
+    @Query("select t from Todo t where t.account.id = :accountId and t.dueDate between :from and :to " +
+            "order by t.dueDate asc, t.id asc")
+    List<Todo> findPageByDueDateRange(@Param("accountId") Long accountId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      Pageable limit);
+
+    @Query("select t from Todo t where t.account.id = :accountId and t.dueDate between :from and :to " +
+            "and (t.dueDate > :cursorDueDate or (t.dueDate = :cursorDueDate and t.id > :cursorId)) " +
+            "order by t.dueDate asc, t.id asc")
+    List<Todo> findPageByDueDateRangeAfter(@Param("accountId") Long accountId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("cursorDueDate") LocalDate cursorDueDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable limit);
+
+    // 완료된 할 일 키셋 페이지네이션 (최근 생성 순)
+    @Query("select t from Todo t where t.account.id = :accountId and t.completed = true order by t.id desc")
+    List<Todo> findCompletedPage(@Param("accountId") Long accountId, Pageable limit);
+
+    @Query("select t from Todo t where t.account.id = :accountId and t.completed = true and t.id < :cursorId " +
+            "order by t.id desc")
+    List<Todo> findCompletedPageBefore(@Param("accountId") Long accountId,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable limit);
+
+    // 일자별 집계 (todo_daily_stats 재구축/정합성 검사용)
+    @Query("select t.dueDate as day, count(t) as total, " +
+            "sum(case when t.completed = true then 1 else 0 end) as completed " +
+            "from Todo t where t.account.id = :accountId and t.dueDate is not null group by t.dueDate")
+    List<DailyTodoCount> countDailyByAccountId(@Param("accountId") Long accountId);
+
+    @Query("select distinct t.account.id from Todo t")
+    List<Long> findDistinctAccountIds();
+
+    // 소유자 조건을 포함한 단일 SQL 변경. 반환값(영향받은 행 수)이 0이면 없거나 권한이 없는 할 일
+    @Modifying(clearAutomatically = true)
+    @Query("update Todo t set t.text = :text, t.priority = :priority, t.changeVersion = :version " +
+            "where t.id = :id and t.account.id = :accountId")
+    int updateContentOwned(@Param("id") Long id,
+                           @Param("accountId") Long accountId,
+                           @Param("text") String text,
+                           @Param("priority") Priority priority,
+                           @Param("version") long version);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE todos SET completed = NOT completed, change_version = :version " +
+            "WHERE id = :id AND account_id = :accountId",
+            nativeQuery = true)
+    int toggleCompletedOwned(@Param("id") Long id, @Param("accountId") Long accountId, @Param("version") long version);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM todos WHERE id = :id AND account_id = :accountId", nativeQuery = true)
+    int deleteOwned(@Param("id") Long id, @Param("accountId") Long accountId);
+
+    // 계정 삭제 후 정리용: 짧은 트랜잭션으로 나눠 지우도록 한 번에 limit건만 삭제
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE account_id = :accountId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+}
@@ -0,0 +1,165 @@
+package sp.releasetestbackend.home.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.repository.TodoRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 계정별 미완료 할 일을 중요도(CRITICAL -> LOW)별로 나눠 보관하는 캐시. 중요 업무 화면은 DB 조회 없이 여기서 응답한다.
+ * 처음 조회할 때 한 번 읽어 채우고, 이후에는 TodoService가 커밋 뒤에 변경분을 반영한다.
+ * 다른 인스턴스의 변경은 여기로 오지 않으므로, 읽어 채운 뒤 expire-after-write가 지나면(이 인스턴스의 변경 반영과 상관없이)
+ * 버리고 다시 읽는다. 다른 인스턴스에서 바꾼 할 일은 최대 그만큼 늦게 보인다.
+ * 캐시 크기는 계정 수가 아니라 보관 중인 할 일 개수로 제한한다.
+ */
+@Component
+public class ImportantTodoCache {
+    private final TodoRepository todoRepository;
+    private final Cache<Long, Buckets> openTodos;
+
+    public ImportantTodoCache(TodoRepository todoRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${todo.important-cache.maximum-todos:200000}") long maximumTodos,
+                              @Value("${todo.important-cache.expire-after-write:PT30S}") Duration expireAfterWrite) {
+        this.todoRepository = todoRepository;
+        this.openTodos = Caffeine.newBuilder()
+                .maximumWeight(maximumTodos)
+                .weigher((Long accountId, Buckets buckets) -> buckets.size() + 1)
+                .expireAfter(expireAfterLoad(expireAfterWrite))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, openTodos, "todos.important");
+    }
+
+    // 만료 시간은 읽어 채운 시점부터 셈 (변경 반영이나 조회로는 늘어나지 않음)
+    private static Expiry<Long, Buckets> expireAfterLoad(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long accountId, Buckets buckets, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long accountId, Buckets buckets, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long accountId, Buckets buckets, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // 요청한 중요도 순서대로 미완료 할 일 반환
+    public List<Todo> find(Long accountId, Collection<Priority> priorities) {
+        Buckets buckets = openTodos.get(accountId, this::load);
+        return buckets.list(priorities);
+    }
+
+    private Buckets load(Long accountId) {
+        Buckets buckets = new Buckets();
+        for (Todo todo : todoRepository.findByAccountIdAndPriorityInAndCompletedIsFalse(accountId, List.of(Priority.values()))) {
+            buckets.put(snapshot(todo));
+        }
+        return buckets;
+    }
+
+    // 생성/수정/토글 후 호출. 커밋된 뒤에만 캐시에 반영 (롤백되면 그대로)
+    public void put(Long accountId, Todo todo) {
+        Todo copy = snapshot(todo);
+        afterCommit(() -> openTodos.asMap().computeIfPresent(accountId, (id, buckets) -> buckets.put(copy)));
+    }
+
+    public void remove(Long accountId, Long todoId) {
+        afterCommit(() -> openTodos.asMap().computeIfPresent(accountId, (id, buckets) -> buckets.remove(todoId)));
+    }
+
+    public void invalidate(Long accountId) {
+        openTodos.invalidate(accountId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 엔티티를 그대로 들고 있지 않도록 응답에 필요한 필드만 복사
+    private static Todo snapshot(Todo todo) {
+        Todo copy = new Todo();
+        copy.setId(todo.getId());
+        copy.setText(todo.getText());
+        copy.setCompleted(todo.isCompleted());
+        copy.setPriority(todo.getPriority());
+        copy.setDueDate(todo.getDueDate());
+        copy.setChangeVersion(todo.getChangeVersion());
+        return copy;
+    }
+
+    /**
+     * 한 계정의 중요도별 미완료 할 일 (중요도 안에서는 id 순). 같은 변경을 두 번 반영해도 결과가 같다.
+     * 변경은 캐시의 compute 안에서만 일어나고, 조회와는 객체 잠금으로 분리한다.
+     */
+    static final class Buckets {
+        private final Map<Priority, TreeMap<Long, Todo>> byPriority = new EnumMap<>(Priority.class);
+        private int size;
+
+        synchronized Buckets put(Todo todo) {
+            remove(todo.getId());
+            if (!todo.isCompleted() && todo.getPriority() != null) {
+                byPriority.computeIfAbsent(todo.getPriority(), priority -> new TreeMap<>()).put(todo.getId(), todo);
+                size++;
+            }
+            return this;
+        }
+
+        synchronized Buckets remove(Long todoId) {
+            for (TreeMap<Long, Todo> bucket : byPriority.values()) {
+                if (bucket.remove(todoId) != null) {
+                    size--;
+                    break;
+                }
+            }
+            return this;
+        }
+
+        synchronized List<Todo> list(Collection<Priority> priorities) {
+            List<Todo> todos = new ArrayList<>();
+            for (Map.Entry<Priority, TreeMap<Long, Todo>> entry : byPriority.entrySet()) {
+                if (priorities.contains(entry.getKey())) {
+                    todos.addAll(entry.getValue().values());
+                }
+            }
+            return todos;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package sp.releasetestbackend.home.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sp.releasetestbackend.config.jdbc.Shards;
+import sp.releasetestbackend.job.service.JobLocks;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 마감일이 보관 기준일(horizon-days)보다 오래된 완료 할 일을 todos_archive로 옮긴다.
+ * 배치 하나가 트랜잭션 하나이므로 todos 잠금은 배치 크기만큼만 잡는다.
+ * 여러 인스턴스 중 job_state 잠금을 잡은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class TodoArchiveJob {
+    private final TodoArchiveService todoArchiveService;
+    private final Shards shards;
+    private final JobLocks jobLocks;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Duration lockLease;
+    private final Counter movedRows;
+
+    public TodoArchiveJob(TodoArchiveService todoArchiveService,
+                          Shards shards,
+                          JobLocks jobLocks,
+                          MeterRegistry meterRegistry,
+                          @Value("${todo.archive.horizon-days:180}") int horizonDays,
+                          @Value("${todo.archive.batch-size:1000}") int batchSize,
+                          @Value("${todo.archive.lock-lease:PT10M}") Duration lockLease) {
+        this.todoArchiveService = todoArchiveService;
+        this.shards = shards;
+        this.jobLocks = jobLocks;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.lockLease = lockLease;
+        this.movedRows = Counter.builder("todo.archive.moved")
+                .description("todos_archive로 옮긴 할 일 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadArchivedThrough() {
+        todoArchiveService.refreshArchivedThrough(false);
+    }
+
+    @Scheduled(cron = "${todo.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        archiveBefore(LocalDate.now().minusDays(horizonDays));
+    }
+
+    // 다른 인스턴스가 실행 중이면 0
+    public int archiveBefore(LocalDate cutoff) {
+        return jobLocks.runExclusive(TodoArchiveService.JOB_NAME, lockLease, () -> archiveLocked(cutoff)).orElse(0);
+    }
+
+    private int archiveLocked(LocalDate cutoff) {
+        if (todoArchiveService.extendArchivedThrough(cutoff.minusDays(1))) {
+            // 모든 인스턴스가 넓힌 날짜를 읽어 간 뒤에 옮김
+            waitForWatermark();
+        }
+        int total = 0;
+        try {
+            // 샤드마다 따로 옮김
+            for (int moved : shards.map(() -> archiveShard(cutoff))) {
+                total += moved;
+            }
+        } finally {
+            // 실제로 옮겨진 범위로 맞춤
+            todoArchiveService.refreshArchivedThrough(true);
+        }
+        log.info("todo archive completed: cutoff={}, moved={}", cutoff, total);
+        return total;
+    }
+
+    private int archiveShard(LocalDate cutoff) {
+        int total = 0;
+        TodoArchiveService.Batch batch;
+        TodoCursor after = null;
+        do {
+            batch = todoArchiveService.archiveBatch(cutoff, after, batchSize);
+            movedRows.increment(batch.moved());
+            total += batch.moved();
+            after = batch.last();
+            if (!jobLocks.renew(TodoArchiveService.JOB_NAME, lockLease)) {
+                log.warn("Lost todo archive lock, stopping after {} rows", total);
+                break;
+            }
+        } while (batch.scanned() >= batchSize);
+        return total;
+    }
+
+    private void waitForWatermark() {
+        // 캐시 만료 주기 두 번 (다시 읽는 데 걸리는 시간과 replica 지연 여유)
+        try {
+            Thread.sleep(todoArchiveService.getWatermarkRefresh().multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("할 일 보관 중단", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package sp.releasetestbackend.home.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.config.jdbc.Shards;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.entity.TodoArchive;
+import sp.releasetestbackend.home.repository.ArchiveCandidate;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+import sp.releasetestbackend.sync.service.SyncVersionService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 오래된 완료 할 일을 todos_archive로 옮기고, 필요할 때 다시 todos로 되돌린다.
+ * archivedThrough 이후 날짜만 조회하는 요청은 보관 테이블을 읽지 않는다.
+ * archivedThrough는 job_state에 두고 인스턴스마다 watermark-refresh 동안만 캐시하므로,
+ * 보관 작업을 실행하지 않은 인스턴스도 다른 인스턴스가 옮긴 할 일을 놓치지 않는다.
+ */
+@Service
+@Transactional
+public class TodoArchiveService {
+    static final String JOB_NAME = "todo-archive";
+
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final JobStateRepository jobStateRepository;
+    private final SyncVersionService syncVersionService;
+    private final Shards shards;
+    private final Duration watermarkRefresh;
+
+    // 보관된 할 일 중 가장 늦은 마감일 (없으면 null)과 읽어 온 시각
+    private volatile Watermark watermark;
+
+    public TodoArchiveService(TodoArchiveRepository todoArchiveRepository,
+                              JobStateRepository jobStateRepository,
+                              SyncVersionService syncVersionService,
+                              Shards shards,
+                              @Value("${todo.archive.watermark-refresh:PT10S}") Duration watermarkRefresh) {
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.jobStateRepository = jobStateRepository;
+        this.syncVersionService = syncVersionService;
+        this.shards = shards;
+        this.watermarkRefresh = watermarkRefresh;
+    }
+
+    private record Watermark(LocalDate through, long loadedAtNanos) {
+    }
+
+    // 읽은 건수, 옮긴 건수와 다음 배치가 이어서 볼 위치 (읽은 게 없으면 null)
+    public record Batch(int scanned, int moved, TodoCursor last) {
+    }
+
+    /**
+     * cutoff 이전 마감일의 완료 할 일을 after 다음부터 (due_date, id) 순으로 최대 limit건 옮긴다.
+     * 다른 샤드로 옮기는 중이거나 쓰기 중인 계정의 할 일은 이번에는 건너뛴다 (다음 실행에서 다시 봄)
+     */
+    public Batch archiveBatch(LocalDate cutoff, TodoCursor after, int limit) {
+        List<ArchiveCandidate> candidates = after == null
+                ? todoArchiveRepository.lockToArchive(cutoff, limit)
+                : todoArchiveRepository.lockToArchiveAfter(cutoff, after.dueDate(), after.id(), limit);
+        if (candidates.isEmpty()) {
+            return new Batch(0, 0, null);
+        }
+        Long lastId = candidates.get(candidates.size() - 1).getId();
+        LocalDate lastDueDate = todoArchiveRepository.findTodoDueDate(lastId).orElse(cutoff);
+
+        Set<Long> settled = syncVersionService.lockSettled(
+                candidates.stream().map(ArchiveCandidate::getAccountId).toList(), false);
+        List<Long> ids = candidates.stream()
+                .filter(candidate -> settled.contains(candidate.getAccountId()))
+                .map(ArchiveCandidate::getId)
+                .toList();
+        int moved = 0;
+        if (!ids.isEmpty()) {
+            todoArchiveRepository.copyFromTodos(ids);
+            moved = todoArchiveRepository.deleteFromTodos(ids);
+        }
+        return new Batch(candidates.size(), moved, new TodoCursor(lastDueDate, lastId));
+    }
+
+    // 보관된 할 일을 todos로 되돌림. 호출한 TodoService 트랜잭션 안에서 todos에 대상 행이 없을 때만 실행
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean restore(Long accountId, Long todoId) {
+        if (todoArchiveRepository.copyToTodos(todoId, accountId) == 0) {
+            return false;
+        }
+        todoArchiveRepository.deleteOwned(todoId, accountId);
+        return true;
+    }
+
+    /**
+     * 옮기는 도중에도 조회가 보관 테이블을 보도록 작업 시작 전에 미리 넓혀 둔다 (보관 작업 잠금 안에서 호출).
+     * @return 넓혔으면 true. 이때는 다른 인스턴스의 캐시가 갱신될 때까지 기다린 뒤 옮겨야 한다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean extendArchivedThrough(LocalDate day) {
+        jobStateRepository.ensure(JOB_NAME);
+        LocalDate through = jobStateRepository.findThroughDay(JOB_NAME).orElse(null);
+        if (through != null && !day.isAfter(through)) {
+            return false;
+        }
+        jobStateRepository.saveThroughDay(JOB_NAME, day);
+        watermark = new Watermark(day, System.nanoTime());
+        return true;
+    }
+
+    /**
+     * 실제로 보관된 가장 늦은 마감일로 맞춘다. 줄이는 것은 보관 작업 잠금을 잡은 쪽만 할 수 있다
+     * (다른 인스턴스가 옮기는 중에 줄이면 옮겨진 할 일을 조회에서 놓침).
+     * 샤딩을 켜면 샤드마다 보관 테이블이 있으므로 가장 늦은 날짜 기준 (샤드마다 조회 트랜잭션 하나)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshArchivedThrough(boolean holdsJobLock) {
+        LocalDate actual = shards.map(todoArchiveRepository::findMaxDueDate).stream()
+                .flatMap(Optional::stream)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        jobStateRepository.ensure(JOB_NAME);
+        LocalDate stored = jobStateRepository.findThroughDay(JOB_NAME).orElse(null);
+        LocalDate through = holdsJobLock ? actual : later(stored, actual);
+        if (!Objects.equals(through, stored)) {
+            jobStateRepository.saveThroughDay(JOB_NAME, through);
+        }
+        watermark = new Watermark(through, System.nanoTime());
+    }
+
+    public boolean hasArchive() {
+        return archivedThrough() != null;
+    }
+
+    public boolean covers(LocalDate from) {
+        LocalDate through = archivedThrough();
+        return through != null && !from.isAfter(through);
+    }
+
+    public Duration getWatermarkRefresh() {
+        return watermarkRefresh;
+    }
+
+    // watermark-refresh가 지났으면 job_state에서 다시 읽음 (인스턴스마다 그 주기에 한 번)
+    private LocalDate archivedThrough() {
+        Watermark current = watermark;
+        if (current != null && System.nanoTime() - current.loadedAtNanos() < watermarkRefresh.toNanos()) {
+            return current.through();
+        }
+        synchronized (this) {
+            current = watermark;
+            if (current == null || System.nanoTime() - current.loadedAtNanos() >= watermarkRefresh.toNanos()) {
+                current = new Watermark(jobStateRepository.findThroughDay(JOB_NAME).orElse(null), System.nanoTime());
+                watermark = current;
+            }
+            return current.through();
+        }
+    }
+
+    private static LocalDate later(LocalDate a, LocalDate b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    static List<Todo> toTodos(List<TodoArchive> rows) {
+        return rows.stream().map(TodoArchive::toTodo).toList();
+    }
+}
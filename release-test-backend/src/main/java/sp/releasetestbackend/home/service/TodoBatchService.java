@@ -0,0 +1,259 @@
+package sp.releasetestbackend.home.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.dto.TodoDTO.BatchOp;
+import sp.releasetestbackend.home.dto.TodoDTO.BatchStatus;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.repository.TodoBatchRepository;
+import sp.releasetestbackend.search.service.SearchIndexService;
+import sp.releasetestbackend.sync.service.SyncVersionService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * 여러 할 일 작업(생성/수정/토글/삭제/날짜 이동)을 한 트랜잭션으로 처리한다.
+ * 작업은 메모리에서 순서대로 적용하고, 최종 상태만 종류별 JDBC 배치로 기록한다
+ * (변경 버전 발급 2 + 조회 1 + insert/update/delete/삭제 기록/집계 각 1 이하).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TodoBatchService {
+    public static final int MAX_OPERATIONS = 100;
+
+    private final TodoBatchRepository todoBatchRepository;
+    private final TodoArchiveService todoArchiveService;
+    private final SyncVersionService syncVersionService;
+    private final ImportantTodoCache importantTodoCache;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<TodoDTO.BatchResult> apply(Long accountId, List<TodoDTO.BatchOperation> operations) {
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("작업은 1~" + MAX_OPERATIONS + "건이어야 합니다.");
+        }
+        long version = syncVersionService.nextVersion(accountId);
+
+        // 1. 대상 할 일을 한 번에 읽음 (보관된 할 일은 todos로 되돌린 뒤 다시 읽음)
+        Map<Long, Todo> originals = loadOwned(accountId, referencedIds(operations));
+        Map<Long, Todo> working = new LinkedHashMap<>();
+        originals.forEach((id, todo) -> working.put(id, copy(todo)));
+
+        // 2. 메모리에서 순서대로 적용
+        List<Step> steps = new ArrayList<>(operations.size());
+        List<Todo> created = new ArrayList<>();
+        Set<Long> changed = new LinkedHashSet<>();
+        List<Long> deleted = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            TodoDTO.BatchOperation operation = operations.get(index);
+            BatchOp op = operation.getOp();
+            if (!isValid(operation)) {
+                steps.add(new Step(index, op, operation.getId(), BatchStatus.invalid, null));
+                continue;
+            }
+            if (op == BatchOp.create) {
+                Todo todo = new Todo();
+                todo.setText(operation.getText());
+                todo.setPriority(operation.getPriority());
+                todo.setDueDate(operation.getDueDate());
+                todo.setChangeVersion(version);
+                created.add(todo);
+                steps.add(new Step(index, op, null, BatchStatus.ok, todo));
+                continue;
+            }
+
+            Todo todo = working.get(operation.getId());
+            if (todo == null) {
+                steps.add(new Step(index, op, operation.getId(), BatchStatus.forbidden, null)); // 없거나 남의 할 일
+                continue;
+            }
+            switch (op) {
+                case update -> {
+                    todo.setText(operation.getText());
+                    todo.setPriority(operation.getPriority());
+                }
+                case toggle -> todo.setCompleted(!todo.isCompleted());
+                case move -> todo.setDueDate(operation.getDueDate());
+                case delete -> {
+                    working.remove(todo.getId());
+                    changed.remove(todo.getId());
+                    deleted.add(todo.getId());
+                    steps.add(new Step(index, op, todo.getId(), BatchStatus.ok, null));
+                    continue;
+                }
+                default -> throw new IllegalStateException("처리하지 않은 작업: " + op);
+            }
+            todo.setChangeVersion(version);
+            changed.add(todo.getId());
+            steps.add(new Step(index, op, todo.getId(), BatchStatus.ok, copy(todo)));
+        }
+
+        // 3. 최종 상태를 종류별로 한 번씩 기록
+        if (!created.isEmpty()) {
+            List<Long> ids = todoBatchRepository.insertAll(accountId, created);
+            for (int i = 0; i < created.size(); i++) {
+                created.get(i).setId(ids.get(i));
+            }
+        }
+        List<Todo> updated = changed.stream().map(working::get).toList();
+        if (!updated.isEmpty()) {
+            todoBatchRepository.updateAll(accountId, updated);
+        }
+        if (!deleted.isEmpty()) {
+            todoBatchRepository.deleteAll(accountId, deleted);
+            todoBatchRepository.recordDeletions(accountId, deleted, version);
+        }
+        Map<LocalDate, long[]> deltas = statsDeltas(originals, changed, deleted, working, created);
+        if (!deltas.isEmpty()) {
+            todoBatchRepository.applyStatsDeltas(accountId, deltas);
+        }
+
+        // 4. 캐시 반영 (커밋 뒤)
+        created.forEach(todo -> importantTodoCache.put(accountId, todo));
+        updated.forEach(todo -> importantTodoCache.put(accountId, todo));
+        deleted.forEach(id -> importantTodoCache.remove(accountId, id));
+        created.forEach(todo -> searchIndexService.todoSaved(accountId, todo));
+        updated.forEach(todo -> searchIndexService.todoSaved(accountId, todo));
+        deleted.forEach(id -> searchIndexService.todoDeleted(accountId, id));
+        List<Todo> saved = new ArrayList<>(created);
+        saved.addAll(updated);
+        eventPublisher.publishEvent(new TodoChangedEvent(accountId, saved, List.copyOf(deleted)));
+
+        List<TodoDTO.BatchResult> results = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            Long id = step.todo() != null ? step.todo().getId() : step.id();
+            results.add(new TodoDTO.BatchResult(step.index(), step.op(), id, step.status(), step.todo()));
+        }
+        return results;
+    }
+
+    /**
+     * 토글 버퍼가 모은 할 일별 토글 횟수를 한 트랜잭션으로 반영한다.
+     * 횟수가 홀수인 할 일만 UPDATE 한 번으로 뒤집고(짝수면 그대로), 최종 상태를 돌려준다. 없거나 남의 할 일은 결과에서 빠진다.
+     * 뒤집기 전에 이번 반영의 변경 버전을 onVersion으로 알려 준다 (커밋 전 호출).
+     */
+    public Map<Long, Todo> applyToggles(Long accountId, Map<Long, Integer> toggleCounts, LongConsumer onVersion) {
+        Map<Long, Todo> owned = loadOwned(accountId, toggleCounts.keySet());
+        List<Long> flipped = owned.keySet().stream()
+                .filter(id -> toggleCounts.get(id) % 2 == 1)
+                .toList();
+        if (flipped.isEmpty()) {
+            return owned;
+        }
+        long version = syncVersionService.nextVersion(accountId);
+        onVersion.accept(version);
+        todoBatchRepository.toggleAll(accountId, flipped, version);
+
+        // 같은 행을 다른 요청이 동시에 바꿨을 수 있으므로 뒤집은 뒤의 상태를 다시 읽음
+        List<Todo> updated = todoBatchRepository.findOwned(accountId, flipped);
+        Map<LocalDate, long[]> deltas = new HashMap<>();
+        for (Todo todo : updated) {
+            owned.put(todo.getId(), todo);
+            if (todo.getDueDate() != null) {
+                deltas.computeIfAbsent(todo.getDueDate(), day -> new long[2])[1] += todo.isCompleted() ? 1 : -1;
+            }
+        }
+        deltas.values().removeIf(delta -> delta[1] == 0);
+        if (!deltas.isEmpty()) {
+            todoBatchRepository.applyStatsDeltas(accountId, deltas);
+        }
+
+        updated.forEach(todo -> importantTodoCache.put(accountId, todo));
+        updated.forEach(todo -> searchIndexService.todoSaved(accountId, todo));
+        eventPublisher.publishEvent(new TodoChangedEvent(accountId, updated, List.of()));
+        return owned;
+    }
+
+    private Map<Long, Todo> loadOwned(Long accountId, Set<Long> ids) {
+        Map<Long, Todo> owned = new HashMap<>();
+        if (ids.isEmpty()) {
+            return owned;
+        }
+        todoBatchRepository.findOwned(accountId, ids).forEach(todo -> owned.put(todo.getId(), todo));
+
+        List<Long> restored = new ArrayList<>();
+        for (Long id : ids) {
+            if (!owned.containsKey(id) && todoArchiveService.restore(accountId, id)) {
+                restored.add(id);
+            }
+        }
+        if (!restored.isEmpty()) {
+            todoBatchRepository.findOwned(accountId, restored).forEach(todo -> owned.put(todo.getId(), todo));
+        }
+        return owned;
+    }
+
+    private static Set<Long> referencedIds(List<TodoDTO.BatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (TodoDTO.BatchOperation operation : operations) {
+            if (operation.getOp() != null && operation.getOp() != BatchOp.create && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static boolean isValid(TodoDTO.BatchOperation operation) {
+        if (operation.getOp() == null) {
+            return false;
+        }
+        return switch (operation.getOp()) {
+            case create -> true;
+            case move -> operation.getId() != null && operation.getDueDate() != null;
+            default -> operation.getId() != null;
+        };
+    }
+
+    // 바뀐 할 일은 원래 날짜에서 빼고 최종 날짜에 더함 (증감이 0인 날짜는 제외)
+    private static Map<LocalDate, long[]> statsDeltas(Map<Long, Todo> originals, Set<Long> changed, List<Long> deleted,
+                                                      Map<Long, Todo> working, List<Todo> created) {
+        Map<LocalDate, long[]> deltas = new HashMap<>();
+        for (Long id : changed) {
+            add(deltas, originals.get(id), -1);
+            add(deltas, working.get(id), 1);
+        }
+        for (Long id : deleted) {
+            add(deltas, originals.get(id), -1);
+        }
+        for (Todo todo : created) {
+            add(deltas, todo, 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        return deltas;
+    }
+
+    private static void add(Map<LocalDate, long[]> deltas, Todo todo, int sign) {
+        if (todo.getDueDate() == null) {
+            return; // 마감일이 없는 할 일은 일자별 집계 대상이 아님
+        }
+        long[] delta = deltas.computeIfAbsent(todo.getDueDate(), day -> new long[2]);
+        delta[0] += sign;
+        delta[1] += todo.isCompleted() ? sign : 0;
+    }
+
+    static Todo copy(Todo todo) {
+        Todo copy = new Todo();
+        copy.setId(todo.getId());
+        copy.setText(todo.getText());
+        copy.setCompleted(todo.isCompleted());
+        copy.setPriority(todo.getPriority());
+        copy.setDueDate(todo.getDueDate());
+        copy.setChangeVersion(todo.getChangeVersion());
+        return copy;
+    }
+
+    private record Step(int index, BatchOp op, Long id, BatchStatus status, Todo todo) {
+    }
+}
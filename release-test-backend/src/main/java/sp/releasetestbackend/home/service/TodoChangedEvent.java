@@ -0,0 +1,24 @@
+package sp.releasetestbackend.home.service;
+
+import sp.releasetestbackend.home.entity.Todo;
+
+import java.util.List;
+
+/**
+ * 계정의 할 일이 바뀌었음을 알리는 이벤트. 대시보드 응답 캐시, 실시간 푸시 등이 커밋 뒤에 받아 처리한다.
+ * 집계 재계산처럼 개별 할 일과 무관한 변경이면 saved/deletedIds가 비어 있다.
+ */
+public record TodoChangedEvent(Long accountId, List<Todo> saved, List<Long> deletedIds) {
+
+    public static TodoChangedEvent of(Long accountId) {
+        return new TodoChangedEvent(accountId, List.of(), List.of());
+    }
+
+    public static TodoChangedEvent saved(Long accountId, Todo todo) {
+        return new TodoChangedEvent(accountId, List.of(todo), List.of());
+    }
+
+    public static TodoChangedEvent deleted(Long accountId, Long todoId) {
+        return new TodoChangedEvent(accountId, List.of(), List.of(todoId));
+    }
+}
@@ -0,0 +1,45 @@
+package sp.releasetestbackend.home.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션의 이어보기 토큰. 마지막으로 내려준 행의 (dueDate, id)를 담고,
+ * 클라이언트에는 Base64URL로 인코딩된 불투명한 문자열로만 노출한다.
+ */
+public record TodoCursor(LocalDate dueDate, Long id) {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String VERSION = "v1";
+    private static final String NO_DATE = "-";
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    public String encode() {
+        String raw = VERSION + ":" + (dueDate == null ? NO_DATE : dueDate.toString()) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            LocalDate dueDate = NO_DATE.equals(parts[1]) ? null : LocalDate.parse(parts[1]);
+            return new TodoCursor(dueDate, Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -1,73 +1,221 @@
 package sp.releasetestbackend.home.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sp.releasetestbackend.account.entity.Account;
 import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.dashboard.service.TodoDailyStatsService;
 import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
 import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
 import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.search.service.SearchIndexService;
+import sp.releasetestbackend.sync.entity.SyncEntityType;
+import sp.releasetestbackend.sync.service.SyncVersionService;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TodoService {
+    // 기간 조회 정렬 순서 (due_date, id 오름차순)
+    private static final Comparator<Todo> BY_DUE_DATE_AND_ID =
+            Comparator.comparing(Todo::getDueDate).thenComparing(Todo::getId);
+
     private final TodoRepository todoRepository;
     private final AccountRepository accountRepository;
+    private final TodoDailyStatsService todoDailyStatsService;
+    private final SyncVersionService syncVersionService;
+    private final TodoArchiveService todoArchiveService;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final ImportantTodoCache importantTodoCache;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<TodoToggleBuffer> todoToggleBuffer;
 
     // 할 일 생성
     public Todo createTodo(Long accountId, TodoDTO.Create request) {
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다: " + accountId));
-        
+        // FK 설정만 필요하므로 계정을 조회하지 않고 참조만 사용
+        Account account = accountRepository.getReferenceById(accountId);
+
         Todo newTodo = new Todo();
         newTodo.setAccount(account);
         newTodo.setText(request.getText());
         newTodo.setPriority(request.getPriority());
         newTodo.setDueDate(request.getDueDate());
-        return todoRepository.save(newTodo);
+        newTodo.setChangeVersion(syncVersionService.nextVersion(accountId));
+        Todo savedTodo = todoRepository.save(newTodo);
+        todoDailyStatsService.recordCreated(accountId, savedTodo.getDueDate(), savedTodo.isCompleted());
+        importantTodoCache.put(accountId, savedTodo);
+        searchIndexService.todoSaved(accountId, savedTodo);
+        eventPublisher.publishEvent(TodoChangedEvent.saved(accountId, savedTodo));
+        return savedTodo;
     }
 
     // 할 일 수정
     public Todo updateTodo(Long accountId, Long todoId, TodoDTO.Update request) throws AccessDeniedException {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 할 일을 찾을 수 없습니다: " + todoId));
-
-        if (!todo.getAccount().getId().equals(accountId)) {
-            throw new AccessDeniedException("이 할 일을 수정할 권한이 없습니다.");
+        long version = syncVersionService.nextVersion(accountId);
+        int updated = todoRepository.updateContentOwned(todoId, accountId, request.getText(), request.getPriority(), version);
+        if (updated == 0 && todoArchiveService.restore(accountId, todoId)) {
+            updated = todoRepository.updateContentOwned(todoId, accountId, request.getText(), request.getPriority(), version);
         }
-
-        todo.setText(request.getText());
-        todo.setPriority(request.getPriority());
+        if (updated == 0) {
+            throw new AccessDeniedException("할 일을 찾을 수 없거나 수정할 권한이 없습니다: " + todoId);
+        }
+        Todo todo = findUpdatedTodo(todoId);
+        importantTodoCache.put(accountId, todo);
+        searchIndexService.todoSaved(accountId, todo);
+        eventPublisher.publishEvent(TodoChangedEvent.saved(accountId, todo));
         return todo;
     }
 
     // 할 일 삭제
     public void deleteTodo(Long accountId, Long todoId) throws AccessDeniedException {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 할 일을 찾을 수 없습니다: " + todoId));
+        // 행이 지워지기 전에 집계부터 차감 (소유자가 아니면 차감되는 행 없음)
+        todoDailyStatsService.recordDeleting(accountId, todoId);
 
-        if (!todo.getAccount().getId().equals(accountId)) {
-            throw new AccessDeniedException("이 할 일을 삭제할 권한이 없습니다.");
+        int deleted = todoRepository.deleteOwned(todoId, accountId);
+        if (deleted == 0 && todoArchiveService.restore(accountId, todoId)) {
+            todoDailyStatsService.recordDeleting(accountId, todoId);
+            deleted = todoRepository.deleteOwned(todoId, accountId);
         }
-
-        todoRepository.deleteById(todoId);
+        if (deleted == 0) {
+            throw new AccessDeniedException("할 일을 찾을 수 없거나 삭제할 권한이 없습니다: " + todoId);
+        }
+        syncVersionService.recordDeletion(accountId, SyncEntityType.TODO, todoId, syncVersionService.nextVersion(accountId));
+        importantTodoCache.remove(accountId, todoId);
+        searchIndexService.todoDeleted(accountId, todoId);
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(accountId, todoId));
     }
 
     // 할 일 완료/미완료 토글
     public Todo toggleTodo(Long accountId, Long todoId) throws AccessDeniedException {
-        Todo todo = todoRepository.findById(todoId)
+        long version = syncVersionService.nextVersion(accountId);
+        int toggled = todoRepository.toggleCompletedOwned(todoId, accountId, version);
+        if (toggled == 0 && todoArchiveService.restore(accountId, todoId)) {
+            toggled = todoRepository.toggleCompletedOwned(todoId, accountId, version);
+        }
+        if (toggled == 0) {
+            throw new AccessDeniedException("할 일을 찾을 수 없거나 변경할 권한이 없습니다: " + todoId);
+        }
+
+        Todo todo = findUpdatedTodo(todoId);
+        todoDailyStatsService.recordToggled(accountId, todo.getDueDate(), todo.isCompleted());
+        importantTodoCache.put(accountId, todo);
+        searchIndexService.todoSaved(accountId, todo);
+        eventPublisher.publishEvent(TodoChangedEvent.saved(accountId, todo));
+        return todo;
+    }
+
+    // 단일 UPDATE 이후 응답용으로 변경된 행을 다시 읽음
+    private Todo findUpdatedTodo(Long todoId) {
+        return todoRepository.findById(todoId)
                 .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 할 일을 찾을 수 없습니다: " + todoId));
+    }
 
-        if (!todo.getAccount().getId().equals(accountId)) {
-            throw new AccessDeniedException("이 할 일을 변경할 권한이 없습니다.");
+    // 특정 날짜의 할 일 조회 (보관된 날짜면 보관 테이블도 함께 조회)
+    @Transactional(readOnly = true)
+    public List<Todo> getTodosByDate(Long accountId, LocalDate date) {
+        List<Todo> todos = todoRepository.findByAccountIdAndDueDate(accountId, date);
+        if (!todoArchiveService.covers(date)) {
+            return withPendingToggles(accountId, todos);
         }
+        List<Todo> merged = new ArrayList<>(todos);
+        merged.addAll(TodoArchiveService.toTodos(todoArchiveRepository.findByAccountIdAndDueDate(accountId, date)));
+        return withPendingToggles(accountId, merged);
+    }
 
-        todo.setCompleted(!todo.isCompleted());
-        return todo;
+    // 중요 업무 화면: 미완료 할 일을 중요도 순으로. 캐시 적중 시 DB 커넥션도 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Todo> getImportantTodos(Long accountId, List<Priority> priorities) {
+        return importantTodoCache.find(accountId, priorities);
+    }
+
+    // 기간 내 할 일 조회 (키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public TodoDTO.CursorPage getTodosByDateRange(Long accountId, LocalDate from, LocalDate to, String cursor, Integer size) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        int pageSize = TodoCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        TodoCursor after = (cursor == null) ? null : TodoCursor.decode(cursor);
+        List<Todo> rows = (after == null)
+                ? todoRepository.findPageByDueDateRange(accountId, from, to, limit)
+                : todoRepository.findPageByDueDateRangeAfter(accountId, from, to, after.dueDate(), after.id(), limit);
+
+        // 이어볼 구간이 보관된 날짜에 걸치면 보관 테이블에서도 같은 조건으로 읽어 정렬 병합
+        if (todoArchiveService.covers(after == null ? from : after.dueDate())) {
+            List<Todo> archived = TodoArchiveService.toTodos(after == null
+                    ? todoArchiveRepository.findPageByDueDateRange(accountId, from, to, limit)
+                    : todoArchiveRepository.findPageByDueDateRangeAfter(accountId, from, to, after.dueDate(), after.id(), limit));
+            rows = merge(rows, archived, BY_DUE_DATE_AND_ID, pageSize + 1);
+        }
+        return toCursorPage(withPendingToggles(accountId, rows), pageSize);
+    }
+
+    // 완료된 할 일 조회 (키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public TodoDTO.CursorPage getCompletedTodos(Long accountId, String cursor, Integer size) {
+        int pageSize = TodoCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        Long cursorId = (cursor == null) ? null : TodoCursor.decode(cursor).id();
+        List<Todo> rows = (cursorId == null)
+                ? todoRepository.findCompletedPage(accountId, limit)
+                : todoRepository.findCompletedPageBefore(accountId, cursorId, limit);
+
+        // 보관된 할 일은 모두 완료 상태라 보관 테이블이 비어 있지 않으면 항상 함께 조회
+        if (todoArchiveService.hasArchive()) {
+            List<Todo> archived = TodoArchiveService.toTodos(cursorId == null
+                    ? todoArchiveRepository.findCompletedPage(accountId, limit)
+                    : todoArchiveRepository.findCompletedPageBefore(accountId, cursorId, limit));
+            rows = merge(rows, archived, Comparator.comparing(Todo::getId).reversed(), pageSize + 1);
+        }
+        // 아직 반영 전인 토글로 미완료가 된 할 일은 뺌 (다음 페이지 위치는 DB 기준 그대로)
+        TodoDTO.CursorPage page = toCursorPage(rows, pageSize);
+        List<Todo> items = withPendingToggles(accountId, page.getItems()).stream()
+                .filter(Todo::isCompleted)
+                .toList();
+        return new TodoDTO.CursorPage(items, page.getNextCursor());
+    }
+
+    // 토글 버퍼를 켰으면 아직 반영 전인 토글을 덧씌움
+    private List<Todo> withPendingToggles(Long accountId, List<Todo> todos) {
+        TodoToggleBuffer buffer = todoToggleBuffer.getIfAvailable();
+        return buffer == null ? todos : buffer.overlay(accountId, todos);
+    }
+
+    // todos/보관 테이블 결과를 합쳐 정렬한 뒤 앞에서 max건만 남김
+    private static List<Todo> merge(List<Todo> hot, List<Todo> archived, Comparator<Todo> order, int max) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<Todo> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged.size() > max ? merged.subList(0, max) : merged;
+    }
+
+    private TodoDTO.CursorPage toCursorPage(List<Todo> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new TodoDTO.CursorPage(rows, null);
+        }
+        List<Todo> items = rows.subList(0, pageSize);
+        Todo last = items.get(pageSize - 1);
+        return new TodoDTO.CursorPage(items, new TodoCursor(last.getDueDate(), last.getId()).encode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,309 @@
+package sp.releasetestbackend.home.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import sp.releasetestbackend.config.jdbc.AccountRoutingContext;
+import sp.releasetestbackend.home.entity.Todo;
+
+import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 할 일 토글 쓰기 모음 (todo.toggle-buffer.enabled=true일 때만). 토글 요청을 바로 쓰지 않고 window 동안 모아,
+ * 같은 할 일의 토글은 횟수만 세고 계정마다 한 트랜잭션(홀수 번 토글한 할 일만 UPDATE 한 번)으로 반영한다.
+ * 요청은 자기 토글이 커밋된 뒤에 응답하므로 확인받은 토글은 사라지지 않고, 응답에는 자기 차례의 상태가 담긴다.
+ * 계정들은 flush-threads개의 반영 스레드에 계정 id로 나눠 병렬로 반영하므로(같은 계정은 늘 같은 스레드라 순서 유지)
+ * 느린 계정 하나가 다른 계정의 응답을 붙잡지 않는다.
+ * 반영을 시작하기 전에 ack-timeout이 지난 토글은 버퍼에서 빼고 실패로 응답하고, 이미 반영 중인 토글은 결과를 기다린다.
+ * 아직 반영 전인 토글은 날짜별/기간/완료 목록 조회 결과에 덧씌우고, 종료할 때는 남은 토글을 모두 반영한다.
+ * 반영 스레드로 넘긴 토글도 결과를 알려 줄 때까지 반영 중 목록에 두고 덧씌운다. 커밋 직후처럼 조회한 행에 이미
+ * 반영됐을 수 있으므로, 그 반영의 변경 버전 이상인 행에는 다시 뒤집지 않는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "todo.toggle-buffer", name = "enabled", havingValue = "true")
+public class TodoToggleBuffer {
+    private final TodoBatchService todoBatchService;
+    private final Duration ackTimeout;
+    private final ScheduledExecutorService flusher;
+    // 계정 id로 고른 반영 스레드 (스레드마다 하나씩)
+    private final List<ExecutorService> appliers;
+    private final Counter received;
+    private final Counter written;
+
+    // accountId -> todoId -> 반영을 기다리는 토글 (요청 순서). this로 보호
+    private Map<Long, Map<Long, List<CompletableFuture<Todo>>>> pending = new HashMap<>();
+    // accountId -> 반영 스레드로 넘겼지만 아직 결과를 알려 주지 않은 반영 (넘긴 순서). this로 보호
+    private final Map<Long, List<InFlight>> inFlight = new HashMap<>();
+    private boolean closed;
+
+    public TodoToggleBuffer(TodoBatchService todoBatchService,
+                            MeterRegistry meterRegistry,
+                            @Value("${todo.toggle-buffer.window:PT0.05S}") Duration window,
+                            @Value("${todo.toggle-buffer.ack-timeout:PT5S}") Duration ackTimeout,
+                            @Value("${todo.toggle-buffer.flush-threads:4}") int flushThreads) {
+        this.todoBatchService = todoBatchService;
+        this.ackTimeout = ackTimeout;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("todo-toggle-flusher-");
+        threadFactory.setDaemon(true);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        CustomizableThreadFactory applierFactory = new CustomizableThreadFactory("todo-toggle-applier-");
+        applierFactory.setDaemon(true);
+        List<ExecutorService> appliers = new ArrayList<>(flushThreads);
+        for (int i = 0; i < flushThreads; i++) {
+            appliers.add(Executors.newSingleThreadExecutor(applierFactory));
+        }
+        this.appliers = List.copyOf(appliers);
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+
+        this.received = Counter.builder("todo.toggle-buffer.received")
+                .description("토글 버퍼가 받은 토글 요청 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("todo.toggle-buffer.written")
+                .description("토글 버퍼가 실제로 뒤집은 할 일 수 (같은 할 일의 연속 토글은 한 번 또는 0번)")
+                .register(meterRegistry);
+    }
+
+    // 토글이 커밋될 때까지 기다렸다가 이 요청 차례의 할 일 상태를 돌려줌
+    public Todo toggle(Long accountId, Long todoId) throws AccessDeniedException {
+        CompletableFuture<Todo> ack = new CompletableFuture<>();
+        InFlight direct = null;
+        synchronized (this) {
+            if (closed) {
+                direct = new InFlight(Map.of(todoId, 1));
+                inFlight.computeIfAbsent(accountId, id -> new ArrayList<>()).add(direct);
+            } else {
+                pending.computeIfAbsent(accountId, id -> new LinkedHashMap<>())
+                        .computeIfAbsent(todoId, id -> new ArrayList<>())
+                        .add(ack);
+            }
+        }
+        received.increment();
+        if (direct != null) {
+            // 종료 중이면 모으지 않고 바로 반영
+            flushAccount(accountId, Map.of(todoId, List.of(ack)), direct);
+        }
+        return await(accountId, todoId, ack);
+    }
+
+    /**
+     * 반영 스레드가 처리 중인 한 계정의 토글 묶음. version은 반영 트랜잭션이 발급한 변경 버전으로,
+     * 발급 전(-1)이면 아직 커밋 전이고, 발급 뒤에는 그 버전 이상인 행에 이미 반영돼 있다.
+     */
+    private static final class InFlight {
+        private final Map<Long, Integer> counts;
+        private volatile long version = -1;
+
+        private InFlight(Map<Long, Integer> counts) {
+            this.counts = counts;
+        }
+
+        // 이 행에 아직 반영되지 않았으면 토글 횟수, 반영됐으면 0
+        int unappliedCount(Todo todo) {
+            long applied = version;
+            if (applied >= 0 && todo.getChangeVersion() != null && todo.getChangeVersion() >= applied) {
+                return 0;
+            }
+            return counts.getOrDefault(todo.getId(), 0);
+        }
+    }
+
+    // 아직 커밋 전인(모으는 중이거나 반영 중인) 토글을 덧씌운 목록 (홀수 번 토글한 할 일만 완료 상태를 뒤집은 사본으로 바꿈)
+    public List<Todo> overlay(Long accountId, List<Todo> todos) {
+        Map<Long, Integer> counts = new HashMap<>();
+        List<InFlight> applying;
+        synchronized (this) {
+            Map<Long, List<CompletableFuture<Todo>>> accountPending = pending.get(accountId);
+            List<InFlight> accountInFlight = inFlight.get(accountId);
+            if (accountPending == null && accountInFlight == null) {
+                return todos;
+            }
+            if (accountPending != null) {
+                accountPending.forEach((todoId, acks) -> counts.put(todoId, acks.size()));
+            }
+            applying = accountInFlight == null ? List.of() : List.copyOf(accountInFlight);
+        }
+        List<Todo> merged = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            int count = counts.getOrDefault(todo.getId(), 0);
+            for (InFlight batch : applying) {
+                count += batch.unappliedCount(todo);
+            }
+            if (count % 2 == 0) {
+                merged.add(todo);
+                continue;
+            }
+            Todo toggled = TodoBatchService.copy(todo);
+            toggled.setCompleted(!todo.isCompleted());
+            merged.add(toggled);
+        }
+        return merged;
+    }
+
+    // 지금까지 모은 토글을 계정별 반영 스레드에 넘김 (스케줄러와 종료 시 호출). 반영을 기다리지 않음
+    public void flush() {
+        Map<Long, Map<Long, List<CompletableFuture<Todo>>>> batch;
+        Map<Long, InFlight> started = new HashMap<>();
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+            // 커밋될 때까지 조회에 덧씌우도록 반영 중 목록으로 옮김
+            batch.forEach((accountId, toggles) -> {
+                InFlight applying = new InFlight(countsOf(toggles));
+                inFlight.computeIfAbsent(accountId, id -> new ArrayList<>()).add(applying);
+                started.put(accountId, applying);
+            });
+        }
+        batch.forEach((accountId, toggles) ->
+                applierFor(accountId).execute(() -> flushAccount(accountId, toggles, started.get(accountId))));
+    }
+
+    private static Map<Long, Integer> countsOf(Map<Long, List<CompletableFuture<Todo>>> toggles) {
+        Map<Long, Integer> counts = new HashMap<>();
+        toggles.forEach((todoId, acks) -> counts.put(todoId, acks.size()));
+        return counts;
+    }
+
+    private synchronized void finish(Long accountId, InFlight applying) {
+        List<InFlight> accountInFlight = inFlight.get(accountId);
+        if (accountInFlight != null && accountInFlight.remove(applying) && accountInFlight.isEmpty()) {
+            inFlight.remove(accountId);
+        }
+    }
+
+    private ExecutorService applierFor(Long accountId) {
+        return appliers.get(Math.floorMod(accountId.hashCode(), appliers.size()));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 실패한 토글은 flushAccount에서 요청에 예외로 전달됨. 스케줄이 멈추지 않도록 여기서 삼킴
+            log.warn("Todo toggle flush failed: {}", e.getMessage());
+        }
+    }
+
+    private void flushAccount(Long accountId, Map<Long, List<CompletableFuture<Todo>>> toggles, InFlight applying) {
+        try {
+            applyAndAcknowledge(accountId, toggles, applying);
+        } finally {
+            // 요청에 결과를 알린 뒤에야 덧씌우기를 멈춤 (커밋된 행은 버전으로 걸러지므로 그동안 두 번 뒤집지 않음)
+            finish(accountId, applying);
+        }
+    }
+
+    private void applyAndAcknowledge(Long accountId, Map<Long, List<CompletableFuture<Todo>>> toggles, InFlight applying) {
+        Map<Long, Integer> counts = countsOf(toggles);
+        Map<Long, Todo> results;
+        try {
+            results = AccountRoutingContext.forAccount(accountId, () -> todoBatchService.applyToggles(accountId, counts,
+                    version -> applying.version = version));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply {} toggles for account {}: {}", counts.size(), accountId, e.getMessage());
+            toggles.values().forEach(acks -> acks.forEach(ack -> ack.completeExceptionally(e)));
+            return;
+        }
+
+        toggles.forEach((todoId, acks) -> {
+            Todo current = results.get(todoId);
+            if (current == null) {
+                AccessDeniedException denied = new AccessDeniedException("할 일을 찾을 수 없거나 변경할 권한이 없습니다: " + todoId);
+                acks.forEach(ack -> ack.completeExceptionally(denied));
+                return;
+            }
+            if (acks.size() % 2 == 1) {
+                written.increment();
+            }
+            // i번째 요청은 반영 전 상태에서 i+1번 뒤집은 상태를 봄
+            boolean before = current.isCompleted() ^ (acks.size() % 2 == 1);
+            for (int i = 0; i < acks.size(); i++) {
+                Todo seen = TodoBatchService.copy(current);
+                seen.setCompleted(before ^ (i % 2 == 0));
+                acks.get(i).complete(seen);
+            }
+        });
+    }
+
+    private Todo await(Long accountId, Long todoId, CompletableFuture<Todo> ack) throws AccessDeniedException {
+        try {
+            try {
+                return ack.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (withdraw(accountId, todoId, ack)) {
+                    // 버퍼에서 뺐으므로 반영되지 않음
+                    throw new IllegalStateException("할 일 토글 반영 대기 시간 초과 (반영하지 않음): " + todoId, e);
+                }
+                // 이미 반영 스레드로 넘어갔으면 결과가 나올 때까지 기다림 (반영 스레드는 성공/실패를 항상 알려 줌)
+                return ack.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AccessDeniedException denied) {
+                throw denied;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("할 일 토글 반영 실패: " + todoId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("할 일 토글 대기 중단: " + todoId, e);
+        }
+    }
+
+    // 아직 버퍼에 남은 토글이면 빼고 true (이후 반영 대상에서 빠짐)
+    private synchronized boolean withdraw(Long accountId, Long todoId, CompletableFuture<Todo> ack) {
+        Map<Long, List<CompletableFuture<Todo>>> accountPending = pending.get(accountId);
+        List<CompletableFuture<Todo>> acks = accountPending == null ? null : accountPending.get(todoId);
+        if (acks == null || !acks.remove(ack)) {
+            return false;
+        }
+        if (acks.isEmpty()) {
+            accountPending.remove(todoId);
+            if (accountPending.isEmpty()) {
+                pending.remove(accountId);
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (this) {
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            // 스케줄된 flush가 끝나기를 기다린 뒤 남은 토글을 넘기고, 넘긴 반영이 모두 끝날 때까지 기다림
+            flusher.awaitTermination(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            flush();
+            appliers.forEach(ExecutorService::shutdown);
+            for (ExecutorService applier : appliers) {
+                applier.awaitTermination(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package sp.releasetestbackend.job.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스가 같이 도는 정기 작업의 공유 상태. 작업 이름마다 한 행이며 디렉터리 DB에만 둔다.
+ * 잠금(owner, locked_until)으로 한 번에 한 인스턴스만 실행하고, 이어서 할 위치(last_id, through_day)를 인스턴스 메모리 대신 여기 둔다.
+ * JDBC로 직접 읽고 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "job_state")
+public class JobState {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 잠금을 잡은 인스턴스 (locked_until이 지나면 다른 인스턴스가 가져갈 수 있음)
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 키셋으로 훑는 작업의 마지막 id
+    @Column(name = "last_id")
+    private Long lastId;
+
+    // 날짜 기준 작업의 처리 완료 날짜
+    @Column(name = "through_day")
+    private LocalDate throughDay;
+}
@@ -0,0 +1,68 @@
+package sp.releasetestbackend.job.repository;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sp.releasetestbackend.config.jdbc.ShardContext;
+import sp.releasetestbackend.config.jdbc.ShardDirectory;
+
+import javax.sql.DataSource;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * job_state JDBC 접근. 잠금 만료는 인스턴스 시계 대신 DB 시각으로 판단한다.
+ * 쓰기는 트랜잭션 없이(문장마다 커밋) 호출한다.
+ */
+@Repository
+public class JobStateRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobStateRepository(DataSource dataSource, ObjectProvider<ShardDirectory> shardDirectory) {
+        ShardDirectory directory = shardDirectory.getIfAvailable();
+        // 샤딩을 켜면 라우팅을 거치지 않고 디렉터리 DB에 바로 연결 (계정 트랜잭션 안에서 읽어도 디렉터리를 봄)
+        this.jdbcTemplate = new JdbcTemplate(directory != null ? directory.shard(ShardContext.DIRECTORY) : dataSource);
+    }
+
+    public void ensure(String name) {
+        jdbcTemplate.update("INSERT INTO job_state (name) VALUES (?) ON DUPLICATE KEY UPDATE name = name", name);
+    }
+
+    // 비어 있거나 만료됐거나 이미 내 잠금이면 lease만큼 잡음 (연장도 같은 문장)
+    public boolean tryLock(String name, String owner, Duration lease) {
+        return jdbcTemplate.update(
+                "UPDATE job_state SET owner = ?, locked_until = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) " +
+                        "WHERE name = ? AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP OR owner = ?)",
+                owner, lease.toSeconds(), name, owner) == 1;
+    }
+
+    public void unlock(String name, String owner) {
+        jdbcTemplate.update("UPDATE job_state SET owner = NULL, locked_until = NULL WHERE name = ? AND owner = ?",
+                name, owner);
+    }
+
+    public Optional<Long> findLastId(String name) {
+        List<Long> rows = jdbcTemplate.query("SELECT last_id FROM job_state WHERE name = ?",
+                (rs, rowNum) -> rs.getObject("last_id", Long.class), name);
+        return rows.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    public void saveLastId(String name, Long lastId) {
+        jdbcTemplate.update("UPDATE job_state SET last_id = ? WHERE name = ?", lastId, name);
+    }
+
+    public Optional<LocalDate> findThroughDay(String name) {
+        List<Date> rows = jdbcTemplate.query("SELECT through_day FROM job_state WHERE name = ?",
+                (rs, rowNum) -> rs.getDate("through_day"), name);
+        return rows.stream().filter(Objects::nonNull).findFirst().map(Date::toLocalDate);
+    }
+
+    public void saveThroughDay(String name, LocalDate day) {
+        jdbcTemplate.update("UPDATE job_state SET through_day = ? WHERE name = ?", day == null ? null : Date.valueOf(day), name);
+    }
+}
@@ -0,0 +1,43 @@
+package sp.releasetestbackend.job.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 정기 작업을 여러 인스턴스 중 한 곳에서만 실행하게 하는 job_state 행 잠금.
+ * 잠금은 lease가 지나면 풀리므로(인스턴스가 죽은 경우), 오래 걸리는 작업은 중간중간 renew로 연장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLocks {
+    // 인스턴스(프로세스)마다 다른 값
+    private final String owner = ProcessHandle.current().pid() + "-" + UUID.randomUUID();
+    private final JobStateRepository jobStateRepository;
+
+    // 잠금을 잡았으면 실행 결과를, 다른 인스턴스가 실행 중이면 empty를 돌려줌
+    public <T> Optional<T> runExclusive(String name, Duration lease, Supplier<T> work) {
+        jobStateRepository.ensure(name);
+        if (!jobStateRepository.tryLock(name, owner, lease)) {
+            log.debug("Job {} is running on another instance", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(work.get());
+        } finally {
+            jobStateRepository.unlock(name, owner);
+        }
+    }
+
+    // 실행 중인 작업의 잠금 연장. false면 잠금을 잃었으므로(lease 초과) 작업을 멈춰야 함
+    public boolean renew(String name, Duration lease) {
+        return jobStateRepository.tryLock(name, owner, lease);
+    }
+}
@@ -1,75 +1,170 @@
 package sp.releasetestbackend.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtTokenService {
-    
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret-key:your-default-secret-key-change-this-in-production}")
     private String secretKey;
-    
+
     @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
     private long expiration;
-    
+
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
+    // 키와 파서는 스레드 안전하므로 한 번만 만들어 재사용
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 토큰 다이제스트 -> 검증 결과. 만료 시각까지만 보관해서 같은 토큰의 HMAC 재검증을 건너뜀
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(decodeSecretKey(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+    }
+
     public String generateToken(Long accountId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
-        
+
         return Jwts.builder()
                 .setSubject(accountId.toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-    
+
     public Long getAccountIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            String subject = claims.getSubject();
-            return Long.parseLong(subject);
+            return verify(token);
         } catch (Exception e) {
             log.error("Failed to parse JWT token: {}", e.getMessage());
             return null;
         }
     }
-    
+
+    // 삭제된 계정의 토큰을 검증 캐시에서 뺌 (다음 요청부터 다시 검증)
+    public void evictAccount(Long accountId) {
+        verifiedTokens.asMap().values().removeIf(token -> token.accountId().equals(accountId));
+    }
+
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             log.debug("JWT token validation failed: {}", e.getMessage());
             return false;
         }
     }
-    
+
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             return claims.getExpiration().before(new Date());
         } catch (Exception e) {
             return true;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰을 검증하고 accountId를 반환한다. 이미 검증된 토큰은 만료 전까지 캐시에서 바로 꺼낸다.
+     * 서명이 잘못되었거나 만료된 토큰이면 예외를 던진다.
+     */
+    private Long verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.accountId();
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        Long accountId = Long.parseLong(claims.getSubject());
+
+        Date expiresAt = claims.getExpiration();
+        if (expiresAt != null) {
+            verifiedTokens.put(digest, new VerifiedToken(accountId, expiresAt.getTime()));
+        }
+        return accountId;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 기존과 동일하게 Base64 키로 해석하고, Base64가 아니면 문자열 바이트를 그대로 사용
+    private static byte[] decodeSecretKey(String secretKey) {
+        try {
+            return Decoders.BASE64.decode(secretKey);
+        } catch (DecodingException e) {
+            log.warn("jwt.secret-key is not Base64 encoded, using raw bytes");
+            return secretKey.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private record VerifiedToken(Long accountId, long expiresAt) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            long remainingMillis = Math.max(0, token.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
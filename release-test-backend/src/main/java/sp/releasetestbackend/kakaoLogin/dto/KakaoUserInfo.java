@@ -0,0 +1,27 @@
+package sp.releasetestbackend.kakaoLogin.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+// 카카오 사용자 정보 응답 (필요한 필드만)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoUserInfo(
+        Properties properties,
+        @JsonProperty("kakao_account") KakaoAccount kakaoAccount
+) {
+    public OAuthUserInfo toOAuthUserInfo() {
+        return new OAuthUserInfo(
+                kakaoAccount == null ? null : kakaoAccount.email(),
+                properties == null ? null : properties.nickname()
+        );
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Properties(String nickname) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record KakaoAccount(String email) {
+    }
+}
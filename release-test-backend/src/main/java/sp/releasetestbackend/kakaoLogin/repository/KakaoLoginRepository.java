@@ -5,38 +5,55 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.Map;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.config.http.OAuthHttpClient;
+import sp.releasetestbackend.config.http.OAuthHttpClients;
+import sp.releasetestbackend.kakaoLogin.dto.KakaoUserInfo;
+import sp.releasetestbackend.oauth.dto.OAuthTokenResponse;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+import sp.releasetestbackend.oauth.service.OAuthProvider;
 
 @Repository
-public class KakaoLoginRepository {
+public class KakaoLoginRepository implements OAuthProvider {
+    private static final String NAME = "kakao";
 
     private final String grantType = "authorization_code";
     private final String clientId;
     private final String redirectUri;
     private final String tokenRequestUri;
     private final String userInfoRequestUri;
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClient httpClient;
 
     public KakaoLoginRepository(
             @Value("${kakao.client-id}") String clientId,
             @Value("${kakao.redirect-uri}") String redirectUri,
             @Value("${kakao.token-request-uri}") String tokenRequestUri,
             @Value("${kakao.user-info-request-uri}") String userInfoRequestUri,
-            RestTemplate restTemplate) {
+            OAuthHttpClients oAuthHttpClients) {
         this.clientId = clientId;
         this.redirectUri = redirectUri;
         this.tokenRequestUri = tokenRequestUri;
         this.userInfoRequestUri = userInfoRequestUri;
-        this.restTemplate = restTemplate;
+        this.httpClient = oAuthHttpClients.register(NAME, tokenRequestUri, userInfoRequestUri);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
     }
 
+    @Override
+    public LoginType getLoginType() {
+        return LoginType.KAKAO;
+    }
+
+    @Override
     public String getAccessCode() {
         return "https://kauth.kakao.com/oauth/authorize?response_type=code&client_id=" + clientId + "&redirect_uri=" + redirectUri;
     }
 
-    public Map<String, Object> getAccessToken(String code) {
+    @Override
+    public OAuthTokenResponse getAccessToken(String code) {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("grant_type", grantType);
         formData.add("client_id", clientId);
@@ -48,17 +65,15 @@ public class KakaoLoginRepository {
 
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(formData, headers);
 
-        ResponseEntity<Map> response = restTemplate.exchange(tokenRequestUri, HttpMethod.POST, request, Map.class);
-
-        return response.getBody();
+        return httpClient.exchange(tokenRequestUri, HttpMethod.POST, request, OAuthTokenResponse.class);
     }
 
-    public Map<String, Object> getUserInfo(String token) {
+    @Override
+    public OAuthUserInfo getUserInfo(OAuthTokenResponse tokens) {
         HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
+        headers.set("Authorization", "Bearer " + tokens.accessToken());
         HttpEntity<String> request = new HttpEntity<>(headers);
-        ResponseEntity<Map> response = restTemplate.exchange(userInfoRequestUri, HttpMethod.GET, request, Map.class);
-
-        return response.getBody();
+        KakaoUserInfo userInfo = httpClient.exchange(userInfoRequestUri, HttpMethod.GET, request, KakaoUserInfo.class);
+        return userInfo == null ? null : userInfo.toOAuthUserInfo();
     }
 }
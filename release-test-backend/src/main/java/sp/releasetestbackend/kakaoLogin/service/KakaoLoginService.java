@@ -1,7 +0,0 @@
-package sp.releasetestbackend.kakaoLogin.service;
-
-import org.springframework.http.ResponseEntity;
-
-public interface KakaoLoginService {
-    ResponseEntity<String> handleLogin(String code);
-}
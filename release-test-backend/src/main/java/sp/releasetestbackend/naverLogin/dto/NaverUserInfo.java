@@ -0,0 +1,16 @@
+package sp.releasetestbackend.naverLogin.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+// 네이버 사용자 정보 응답 (네이버 API는 response 객체 안에 사용자 정보가 있음)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverUserInfo(Response response) {
+    public OAuthUserInfo toOAuthUserInfo() {
+        return response == null ? new OAuthUserInfo(null, null) : new OAuthUserInfo(response.email(), response.nickname());
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Response(String email, String nickname) {
+    }
+}
@@ -5,13 +5,20 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.config.http.OAuthHttpClient;
+import sp.releasetestbackend.config.http.OAuthHttpClients;
+import sp.releasetestbackend.naverLogin.dto.NaverUserInfo;
+import sp.releasetestbackend.oauth.dto.OAuthTokenResponse;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+import sp.releasetestbackend.oauth.service.OAuthProvider;
 
-import java.util.Map;
 import java.util.UUID;
 
 @Repository
-public class NaverLoginRepository {
+public class NaverLoginRepository implements OAuthProvider {
+    private static final String NAME = "naver";
+
     private final String state = UUID.randomUUID().toString();
     private final String grantType = "authorization_code";
     private final String loginUrl;
@@ -21,7 +28,7 @@ public class NaverLoginRepository {
     private final String tokenRequestUri;
     private final String userInfoRequestUri;
 
-    private final RestTemplate restTemplate;
+    private final OAuthHttpClient httpClient;
 
     public NaverLoginRepository(
             @Value("${naver.login-url}") String loginUrl,
@@ -30,7 +37,7 @@ public class NaverLoginRepository {
             @Value("${naver.redirect-uri}") String redirectUri,
             @Value("${naver.token-request-uri}") String tokenRequestUri,
             @Value("${naver.user-info-request-uri}") String userInfoRequestUri,
-            RestTemplate restTemplate) {
+            OAuthHttpClients oAuthHttpClients) {
         this.loginUrl = loginUrl;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
@@ -38,16 +45,28 @@ public class NaverLoginRepository {
         this.tokenRequestUri = tokenRequestUri;
         this.userInfoRequestUri = userInfoRequestUri;
 
-        this.restTemplate = restTemplate;
+        this.httpClient = oAuthHttpClients.register(NAME, tokenRequestUri, userInfoRequestUri);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
     }
 
+    @Override
+    public LoginType getLoginType() {
+        return LoginType.NAVER;
+    }
+
+    @Override
     public String getAccessCode() {
 
         return String.format("%s?client_id=%s&redirect_uri=%s&response_type=code&state=%s",
                 loginUrl, clientId, redirectUri, state);
     }
 
-    public Map<String, Object> getAccessToken(String code) {
+    @Override
+    public OAuthTokenResponse getAccessToken(String code) {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("grant_type", grantType);
         formData.add("client_id", clientId);
@@ -60,18 +79,16 @@ public class NaverLoginRepository {
 
         HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(formData, headers);
 
-        ResponseEntity<Map> response = restTemplate.exchange(
-                tokenRequestUri, HttpMethod.POST, entity, Map.class);
-
-        return response.getBody();
+        return httpClient.exchange(tokenRequestUri, HttpMethod.POST, entity, OAuthTokenResponse.class);
     }
 
-    public Map<String, Object> getUserInfo(String token) {
+    @Override
+    public OAuthUserInfo getUserInfo(OAuthTokenResponse tokens) {
         HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
+        headers.set("Authorization", "Bearer " + tokens.accessToken());
         HttpEntity<String> request = new HttpEntity<>(headers);
         
-        ResponseEntity<Map> response = restTemplate.exchange(userInfoRequestUri, HttpMethod.GET, request, Map.class);
-        return response.getBody();
+        NaverUserInfo userInfo = httpClient.exchange(userInfoRequestUri, HttpMethod.GET, request, NaverUserInfo.class);
+        return userInfo == null ? null : userInfo.toOAuthUserInfo();
     }
 }
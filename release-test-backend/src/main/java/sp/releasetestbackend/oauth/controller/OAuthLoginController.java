@@ -0,0 +1,22 @@
+package sp.releasetestbackend.oauth.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sp.releasetestbackend.oauth.service.OAuthLoginPipeline;
+
+// /kakao-authentication/login, /google-authentication/login, /naver-authentication/login
+@RestController
+@RequiredArgsConstructor
+public class OAuthLoginController {
+    private final OAuthLoginPipeline oAuthLoginPipeline;
+
+    @GetMapping("/{provider}-authentication/login")
+    public ResponseEntity<String> login(@PathVariable("provider") String provider,
+                                        @RequestParam(value = "code", required = false) String code) {
+        return oAuthLoginPipeline.handleLogin(provider, code);
+    }
+}
@@ -0,0 +1,12 @@
+package sp.releasetestbackend.oauth.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 토큰 발급 응답 (세 제공자 공통 필드만)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OAuthTokenResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("id_token") String idToken
+) {
+}
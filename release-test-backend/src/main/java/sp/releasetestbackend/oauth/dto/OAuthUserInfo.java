@@ -0,0 +1,5 @@
+package sp.releasetestbackend.oauth.dto;
+
+// 제공자별 사용자 정보 응답에서 로그인에 필요한 값만 추린 것
+public record OAuthUserInfo(String email, String nickname) {
+}
@@ -0,0 +1,117 @@
+package sp.releasetestbackend.oauth.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그인 팝업 결과 화면. 제공자별 메시지 타입과 origin을 미리 채워 조각으로 나눠 두고,
+ * 요청마다 값만 이어 붙인다. (매번 String.formatted로 템플릿을 해석하지 않음)
+ */
+final class OAuthLoginPage {
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private static final String SUCCESS_TEMPLATE = """
+            <html>
+              <body>
+                <script>
+                  window.opener.postMessage({
+                    type: '{type}_LOGIN_SUCCESS',
+                    data: {
+                      token: '{}',
+                      tempToken: '{}',
+                      nickname: '{}',
+                      email: '{}',
+                      isNewUser: {}
+                    }
+                  }, '{origin}');
+                  window.close();
+                </script>
+              </body>
+            </html>
+            """;
+
+    private static final String ERROR_TEMPLATE = """
+            <html>
+              <body>
+                <script>
+                  window.opener.postMessage({
+                    type: '{type}_LOGIN_ERROR',
+                    data: {
+                      error: '{}'
+                    }
+                  }, '{origin}');
+                  window.close();
+                </script>
+              </body>
+            </html>
+            """;
+
+    private final String[] successParts;
+    private final String[] errorParts;
+
+    OAuthLoginPage(String messageType, String targetOrigin) {
+        this.successParts = compile(SUCCESS_TEMPLATE, messageType, targetOrigin);
+        this.errorParts = compile(ERROR_TEMPLATE, messageType, targetOrigin);
+    }
+
+    ResponseEntity<String> success(String token, String userToken, String nickname, String email, boolean isNewUser) {
+        return html(render(successParts, escape(token), escape(userToken), escape(nickname), escape(email), String.valueOf(isNewUser)));
+    }
+
+    ResponseEntity<String> error(String errorMessage) {
+        return html(render(errorParts, escape(errorMessage)));
+    }
+
+    private static String[] compile(String template, String messageType, String targetOrigin) {
+        return template.replace("{type}", messageType)
+                .replace("{origin}", targetOrigin)
+                .split("\\{}", -1);
+    }
+
+    private static String render(String[] parts, String... values) {
+        StringBuilder html = new StringBuilder(512);
+        html.append(parts[0]);
+        for (int i = 0; i < values.length; i++) {
+            html.append(values[i]).append(parts[i + 1]);
+        }
+        return html.toString();
+    }
+
+    // 작은따옴표 JS 문자열 안에 들어가므로 따옴표/역슬래시/줄바꿈/태그를 이스케이프
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\'' -> "\\'";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '<' -> "\\u003c";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private static ResponseEntity<String> html(String body) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .body(body);
+    }
+}
@@ -0,0 +1,88 @@
+package sp.releasetestbackend.oauth.service;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import sp.releasetestbackend.account_profile.service.AccountLoginCache;
+import sp.releasetestbackend.jwt.JwtTokenService;
+import sp.releasetestbackend.oauth.dto.OAuthTokenResponse;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카카오/구글/네이버 공통 로그인 흐름: 코드 교환 -> 사용자 정보 조회 -> 기존 사용자면 JWT 발급 -> 결과 화면.
+ */
+@Slf4j
+@Service
+public class OAuthLoginPipeline {
+    private final Map<String, OAuthProvider> providers = new HashMap<>();
+    private final Map<String, OAuthLoginPage> pages = new HashMap<>();
+    private final AccountLoginCache accountLoginCache;
+    private final JwtTokenService jwtTokenService;
+
+    public OAuthLoginPipeline(List<OAuthProvider> providers,
+                              AccountLoginCache accountLoginCache,
+                              JwtTokenService jwtTokenService,
+                              @Value("${oauth.login.post-message-origin:http://localhost:5173}") String postMessageOrigin) {
+        for (OAuthProvider provider : providers) {
+            this.providers.put(provider.getName(), provider);
+            this.pages.put(provider.getName(), new OAuthLoginPage(provider.getLoginType().name(), postMessageOrigin));
+        }
+        this.accountLoginCache = accountLoginCache;
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    public ResponseEntity<String> handleLogin(String providerName, @Nullable String code) {
+        OAuthProvider provider = providers.get(providerName);
+        if (provider == null) {
+            return ResponseEntity.notFound().build();
+        }
+        OAuthLoginPage page = pages.get(providerName);
+
+        // code가 없으면 제공자 로그인 페이지로 리다이렉트
+        if (code == null) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(provider.getAccessCode()))
+                    .build();
+        }
+
+        // 액세스 토큰 발급
+        OAuthTokenResponse tokens = provider.getAccessToken(code);
+        if (tokens == null || tokens.accessToken() == null) {
+            return page.error("토큰 발급에 실패했습니다.");
+        }
+        String token = tokens.accessToken();
+
+        // 사용자 정보 조회
+        OAuthUserInfo userInfo = provider.getUserInfo(tokens);
+        if (userInfo == null) {
+            return page.error("사용자 정보를 가져올 수 없습니다.");
+        }
+        if (userInfo.email() == null || userInfo.nickname() == null) {
+            return page.error("필수 사용자 정보가 누락되었습니다.");
+        }
+
+        // 기존 사용자 확인 (같은 로그인 타입으로만 확인, 캐시에 있으면 DB 조회 없음)
+        Optional<AccountLoginCache.AccountLogin> existAccount =
+                accountLoginCache.find(provider.getLoginType(), userInfo.email());
+        boolean isNewUser = existAccount.isEmpty();
+        String userToken = token; // 신규 사용자는 제공자 토큰을 그대로 사용
+        String displayNickname = userInfo.nickname(); // 기본값은 제공자 닉네임
+
+        if (!isNewUser) {
+            // 기존 사용자 - JWT 토큰 생성 및 DB 닉네임 사용
+            userToken = jwtTokenService.generateToken(existAccount.get().accountId());
+            displayNickname = existAccount.get().nickname();
+        }
+
+        return page.success(token, userToken, displayNickname, userInfo.email(), isNewUser);
+    }
+}
@@ -0,0 +1,26 @@
+package sp.releasetestbackend.oauth.service;
+
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.oauth.dto.OAuthTokenResponse;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+/**
+ * OAuth 제공자 SPI. 구현체를 빈으로 등록하면 /{name}-authentication/login 으로 로그인할 수 있다.
+ * (코드 교환, 사용자 조회, JWT 발급, 결과 화면은 OAuthLoginPipeline이 공통 처리)
+ */
+public interface OAuthProvider {
+
+    // URL 경로와 설정(oauth.http.providers.{name})에 쓰이는 이름
+    String getName();
+
+    LoginType getLoginType();
+
+    // 제공자 로그인 페이지 URL
+    String getAccessCode();
+
+    // 실패하면 null
+    OAuthTokenResponse getAccessToken(String code);
+
+    // 실패하면 null
+    OAuthUserInfo getUserInfo(OAuthTokenResponse tokens);
+}
@@ -0,0 +1,5 @@
+package sp.releasetestbackend.outbox.entity;
+
+public enum ChangeEntityType {
+    TODO, CALENDAR_EVENT, ACCOUNT
+}
@@ -0,0 +1,6 @@
+package sp.releasetestbackend.outbox.entity;
+
+// 생성과 수정은 구분하지 않음 (구독자는 현재 상태를 다시 읽음)
+public enum ChangeOperation {
+    SAVED, DELETED
+}
@@ -0,0 +1,49 @@
+package sp.releasetestbackend.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 기록 (트랜잭션 아웃박스). 쓰기 트랜잭션 안에서 함께 기록되고, ChangeOutboxRelay가 구독자에게 전달한 뒤 지운다.
+ * 샤딩을 켜면 계정의 홈 샤드에 기록된다. JDBC로 직접 읽고 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "change_outbox", indexes = {
+        // 같은 계정의 앞선 기록이 재시도를 기다리는지 확인할 때
+        @Index(name = "idx_change_outbox_account_id_id", columnList = "account_id, id")
+})
+public class ChangeOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    // 전달에 실패한 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 전에는 보내지 않음 (실패 후 재시도 대기, 또는 릴레이가 전달 중). null이면 바로 보냄
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
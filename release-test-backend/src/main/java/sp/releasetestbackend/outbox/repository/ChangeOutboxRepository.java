@@ -0,0 +1,98 @@
+package sp.releasetestbackend.outbox.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sp.releasetestbackend.outbox.entity.ChangeEntityType;
+import sp.releasetestbackend.outbox.entity.ChangeOperation;
+import sp.releasetestbackend.outbox.service.ChangeRecord;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * change_outbox JDBC 접근. 기록은 쓰기 트랜잭션 안에서 JDBC 배치 한 번으로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeOutboxRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void appendAll(List<ChangeRecord> records) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO change_outbox (account_id, entity_type, entity_id, operation, attempts, created_at) " +
+                        "VALUES (?, ?, ?, ?, 0, ?)",
+                records, records.size(),
+                (ps, record) -> {
+                    ps.setLong(1, record.accountId());
+                    ps.setString(2, record.entityType().name());
+                    ps.setLong(3, record.entityId());
+                    ps.setString(4, record.operation().name());
+                    ps.setTimestamp(5, Timestamp.valueOf(record.createdAt()));
+                });
+    }
+
+    /**
+     * 보낼 차례인 기록을 오래된 순으로 잠가서 읽는다. 재시도를 기다리거나 다른 릴레이가 전달 중인 기록이 있는 계정은
+     * 그 뒤 기록도 건너뛰어 계정별 순서를 지킨다. 잠금은 claim으로 표시할 때까지만 잡는다.
+     */
+    public List<ChangeRecord> lockDue(int limit) {
+        return jdbcTemplate.query(
+                "SELECT o.id, o.account_id, o.entity_type, o.entity_id, o.operation, o.attempts, o.created_at " +
+                        "FROM change_outbox o " +
+                        "WHERE (o.next_attempt_at IS NULL OR o.next_attempt_at <= CURRENT_TIMESTAMP) " +
+                        "AND NOT EXISTS (SELECT 1 FROM change_outbox b WHERE b.account_id = o.account_id " +
+                        "AND b.id < o.id AND b.next_attempt_at > CURRENT_TIMESTAMP) " +
+                        "ORDER BY o.id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new ChangeRecord(
+                        rs.getLong("id"),
+                        rs.getLong("account_id"),
+                        ChangeEntityType.valueOf(rs.getString("entity_type")),
+                        rs.getLong("entity_id"),
+                        ChangeOperation.valueOf(rs.getString("operation")),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                limit);
+    }
+
+    // 전달하는 동안 다른 릴레이가 가져가지 않게 lease만큼 미뤄 둠 (릴레이가 죽으면 lease 뒤에 다시 보냄)
+    public int claim(Collection<Long> ids, Duration lease) {
+        return postpone(ids, lease);
+    }
+
+    // 실패 횟수를 올리고 backoff 뒤에 다시 보냄
+    public int recordFailure(Long id, Duration backoff) {
+        return jdbcTemplate.update(
+                "UPDATE change_outbox SET attempts = attempts + 1, " +
+                        "next_attempt_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) WHERE id = ?",
+                backoff.toSeconds(), id);
+    }
+
+    // 이번에 보내지 못한 기록의 claim을 풀어 다음 실행에서 다시 보냄
+    public int release(Collection<Long> ids) {
+        return postpone(ids, Duration.ZERO);
+    }
+
+    private int postpone(Collection<Long> ids, Duration delay) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+                "UPDATE change_outbox SET next_attempt_at = TIMESTAMPADD(SECOND, :seconds, CURRENT_TIMESTAMP) " +
+                        "WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids).addValue("seconds", delay.toSeconds()));
+    }
+
+    public int deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update("DELETE FROM change_outbox WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+}
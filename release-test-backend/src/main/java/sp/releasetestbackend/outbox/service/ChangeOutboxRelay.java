@@ -0,0 +1,182 @@
+package sp.releasetestbackend.outbox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sp.releasetestbackend.config.jdbc.Shards;
+import sp.releasetestbackend.outbox.repository.ChangeOutboxRepository;
+import sp.releasetestbackend.sync.service.SyncVersionService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * change_outbox의 기록을 오래된 순으로 배치 단위로 읽어 구독자에게 전달하고 지운다 (최소 한 번 전달).
+ * 배치마다 짧은 트랜잭션으로 기록을 잠가 claim-lease만큼 미뤄 두고(다른 릴레이가 가져가지 않음), 잠금 없이 구독자를 호출한 뒤,
+ * 다시 짧은 트랜잭션으로 보낸 기록을 지운다. 어떤 기록의 전달이 실패하면 backoff(실패할 때마다 두 배, max-backoff까지)
+ * 뒤에 다시 보내고, 그동안 같은 계정의 이후 기록도 보내지 않아 계정별 순서를 지킨다.
+ * max-attempts번 실패한 기록은 로그를 남기고 버린다. 샤딩을 켜면 샤드마다 따로 비우고,
+ * 다른 샤드로 옮기는 중인 계정의 기록은 옮긴 뒤 새 샤드에서 보낸다.
+ */
+@Slf4j
+@Component
+public class ChangeOutboxRelay {
+    private final ChangeOutboxRepository changeOutboxRepository;
+    private final SyncVersionService syncVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimLease;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final List<ChangeSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dropped;
+
+    public ChangeOutboxRelay(ChangeOutboxRepository changeOutboxRepository,
+                             SyncVersionService syncVersionService,
+                             PlatformTransactionManager transactionManager,
+                             Shards shards,
+                             ObjectProvider<ChangeSubscriber> subscriberBeans,
+                             MeterRegistry meterRegistry,
+                             @Value("${outbox.relay.batch-size:500}") int batchSize,
+                             @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                             @Value("${outbox.relay.claim-lease:PT1M}") Duration claimLease,
+                             @Value("${outbox.relay.backoff:PT1S}") Duration backoff,
+                             @Value("${outbox.relay.max-backoff:PT5M}") Duration maxBackoff) {
+        this.changeOutboxRepository = changeOutboxRepository;
+        this.syncVersionService = syncVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shards = shards;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimLease = claimLease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        subscriberBeans.orderedStream().forEach(subscribers::add);
+
+        this.delivered = Counter.builder("outbox.delivered")
+                .description("구독자에게 전달하고 지운 변경 기록 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.failed")
+                .description("구독자가 예외를 던져 다시 보낼 변경 기록 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("outbox.dropped")
+                .description("max-attempts번 실패해서 버린 변경 기록 수")
+                .register(meterRegistry);
+    }
+
+    public void subscribe(ChangeSubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(ChangeSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    // 이 인스턴스 안에서는 한 번에 하나만 실행 (인스턴스 사이는 claim으로 나눔)
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT0.5S}")
+    public synchronized int relay() {
+        return shards.map(this::drainShard).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private int drainShard() {
+        int total = 0;
+        while (true) {
+            Claim claim = transactionTemplate.execute(status -> claimBatch());
+            BatchResult result = deliverBatch(claim.records());
+            total += result.delivered();
+            // 덜 찬 배치면 다 비운 것이고, 막힌 계정이 있으면 다음 실행에서 그 기록부터 다시 시도
+            if (claim.scanned() < batchSize || claim.skipped() || result.blocked()) {
+                return total;
+            }
+        }
+    }
+
+    // 읽은 건수, 이번에 보낼 기록, 옮기는 중이거나 쓰기 중이라 건너뛴 계정이 있었는지
+    private record Claim(int scanned, List<ChangeRecord> records, boolean skipped) {
+    }
+
+    private record BatchResult(int delivered, boolean blocked) {
+    }
+
+    private Claim claimBatch() {
+        List<ChangeRecord> due = changeOutboxRepository.lockDue(batchSize);
+        if (due.isEmpty()) {
+            return new Claim(0, List.of(), false);
+        }
+        Set<Long> settled = syncVersionService.lockSettled(due.stream().map(ChangeRecord::accountId).toList(), false);
+        List<ChangeRecord> records = due.stream().filter(record -> settled.contains(record.accountId())).toList();
+        changeOutboxRepository.claim(records.stream().map(ChangeRecord::id).toList(), claimLease);
+        return new Claim(due.size(), records, records.size() < due.size());
+    }
+
+    private BatchResult deliverBatch(List<ChangeRecord> batch) {
+        List<Long> done = new ArrayList<>(batch.size());
+        List<ChangeRecord> failures = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        Set<Long> blockedAccounts = new HashSet<>();
+        int droppedRecords = 0;
+        for (ChangeRecord record : batch) {
+            if (blockedAccounts.contains(record.accountId())) {
+                skipped.add(record.id());
+                continue;
+            }
+            if (deliver(record)) {
+                done.add(record.id());
+            } else if (record.attempts() + 1 >= maxAttempts) {
+                log.error("Dropping change record after {} attempts: {}", maxAttempts, record);
+                droppedRecords++;
+                done.add(record.id());
+            } else {
+                failed.increment();
+                failures.add(record);
+                blockedAccounts.add(record.accountId());
+            }
+        }
+        if (!batch.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                changeOutboxRepository.deleteAll(done);
+                for (ChangeRecord record : failures) {
+                    changeOutboxRepository.recordFailure(record.id(), backoffAfter(record.attempts() + 1));
+                }
+                // 실패한 기록이 재시도를 기다리는 동안은 lockDue가 같은 계정의 이후 기록도 건너뜀
+                changeOutboxRepository.release(skipped);
+            });
+        }
+        delivered.increment(done.size() - droppedRecords);
+        dropped.increment(droppedRecords);
+        return new BatchResult(done.size() - droppedRecords, !blockedAccounts.isEmpty());
+    }
+
+    // attempts번째 실패 뒤 기다릴 시간
+    private Duration backoffAfter(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean deliver(ChangeRecord record) {
+        for (ChangeSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onChange(record);
+            } catch (RuntimeException e) {
+                log.warn("Change subscriber {} failed for record {}: {}", subscriber, record.id(), e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package sp.releasetestbackend.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sp.releasetestbackend.account.service.AccountChangedEvent;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.service.CalendarEventChangedEvent;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoChangedEvent;
+import sp.releasetestbackend.outbox.entity.ChangeEntityType;
+import sp.releasetestbackend.outbox.entity.ChangeOperation;
+import sp.releasetestbackend.outbox.repository.ChangeOutboxRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스가 발행하는 변경 이벤트를 커밋 직전에 같은 트랜잭션 안에서 change_outbox에 기록한다.
+ * 트랜잭션이 롤백되면 기록도 남지 않고, 커밋되면 릴레이가 반드시 한 번 이상 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeOutboxWriter {
+    private final ChangeOutboxRepository changeOutboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        List<ChangeRecord> records = new ArrayList<>();
+        for (Todo todo : event.saved()) {
+            records.add(ChangeRecord.of(event.accountId(), ChangeEntityType.TODO, todo.getId(), ChangeOperation.SAVED));
+        }
+        for (Long todoId : event.deletedIds()) {
+            records.add(ChangeRecord.of(event.accountId(), ChangeEntityType.TODO, todoId, ChangeOperation.DELETED));
+        }
+        append(records);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCalendarEventChanged(CalendarEventChangedEvent event) {
+        List<ChangeRecord> records = new ArrayList<>();
+        for (CalendarEvent saved : event.saved()) {
+            records.add(ChangeRecord.of(event.accountId(), ChangeEntityType.CALENDAR_EVENT, saved.getId(), ChangeOperation.SAVED));
+        }
+        for (Long eventId : event.deletedIds()) {
+            records.add(ChangeRecord.of(event.accountId(), ChangeEntityType.CALENDAR_EVENT, eventId, ChangeOperation.DELETED));
+        }
+        append(records);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        append(List.of(ChangeRecord.of(event.accountId(), ChangeEntityType.ACCOUNT, event.accountId(),
+                event.deleted() ? ChangeOperation.DELETED : ChangeOperation.SAVED)));
+    }
+
+    // 집계 재계산처럼 개별 항목이 없는 이벤트는 기록하지 않음
+    private void append(List<ChangeRecord> records) {
+        if (!records.isEmpty()) {
+            changeOutboxRepository.appendAll(records);
+        }
+    }
+}
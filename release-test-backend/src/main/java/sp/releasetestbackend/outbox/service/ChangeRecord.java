@@ -0,0 +1,18 @@
+package sp.releasetestbackend.outbox.service;
+
+import sp.releasetestbackend.outbox.entity.ChangeEntityType;
+import sp.releasetestbackend.outbox.entity.ChangeOperation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자에게 전달되는 변경 기록 하나. 내용은 담지 않으므로 필요하면 entityId로 현재 상태를 읽는다.
+ * id는 아웃박스 행 id이며 같은 기록이 다시 전달되면 같은 값이다 (attempts는 이전 실패 횟수).
+ */
+public record ChangeRecord(Long id, Long accountId, ChangeEntityType entityType, Long entityId,
+                           ChangeOperation operation, int attempts, LocalDateTime createdAt) {
+
+    public static ChangeRecord of(Long accountId, ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        return new ChangeRecord(null, accountId, entityType, entityId, operation, 0, LocalDateTime.now());
+    }
+}
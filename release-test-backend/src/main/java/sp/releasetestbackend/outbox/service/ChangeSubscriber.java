@@ -0,0 +1,12 @@
+package sp.releasetestbackend.outbox.service;
+
+/**
+ * 변경 기록 구독자. 빈으로 등록하거나 ChangeOutboxRelay.subscribe로 등록한다.
+ * 같은 계정의 기록은 기록된 순서대로 하나씩 전달되고, 예외를 던지면 그 기록부터 다음 실행에서 다시 전달된다.
+ * 다른 구독자의 실패로도 다시 받을 수 있으므로 같은 기록을 두 번 처리해도 결과가 같아야 한다.
+ * 릴레이의 트랜잭션과 분리해서 호출하므로 DB 작업은 구독자 자신의 트랜잭션으로 한다.
+ */
+@FunctionalInterface
+public interface ChangeSubscriber {
+    void onChange(ChangeRecord record);
+}
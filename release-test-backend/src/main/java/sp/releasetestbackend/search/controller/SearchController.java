@@ -0,0 +1,31 @@
+package sp.releasetestbackend.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import sp.releasetestbackend.config.auth.LoginAccountId;
+import sp.releasetestbackend.search.dto.SearchDTO;
+import sp.releasetestbackend.search.service.SearchIndexService;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin
+public class SearchController {
+    private final SearchIndexService searchIndexService;
+
+    // 할 일 내용과 이벤트 제목 검색 (모든 단어 포함, 영문은 접두어 / 한글은 부분 일치)
+    @GetMapping
+    public SearchDTO.Result search(@RequestParam("q") String query,
+                                   @RequestParam(value = "limit", required = false) Integer limit,
+                                   @LoginAccountId Long accountId) {
+        return searchIndexService.search(accountId, query, limit);
+    }
+
+    // 자동완성: 마지막 단어로 시작하는 단어
+    @GetMapping("/suggest")
+    public SearchDTO.Suggestions suggest(@RequestParam("q") String query,
+                                         @RequestParam(value = "limit", required = false) Integer limit,
+                                         @LoginAccountId Long accountId) {
+        return searchIndexService.suggest(accountId, query, limit);
+    }
+}
@@ -0,0 +1,38 @@
+package sp.releasetestbackend.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SearchDTO {
+
+    public enum HitType {
+        todo, event
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit { // 검색 결과 한 건 (todo면 text, event면 title)
+        private HitType type;
+        private Long id;
+        private String text;
+        private LocalDate date;
+        private Boolean completed; // event는 null
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result { // 날짜 최신순
+        private String query;
+        private List<Hit> hits;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestions { // 마지막 단어로 시작하는 단어 (많이 쓰인 순)
+        private String query;
+        private List<String> words;
+    }
+}
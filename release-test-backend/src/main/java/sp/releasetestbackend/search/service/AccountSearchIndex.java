@@ -0,0 +1,197 @@
+package sp.releasetestbackend.search.service;
+
+import sp.releasetestbackend.search.dto.SearchDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 한 계정의 할 일/이벤트 역색인. 토큰 -> 문서 키 목록과, 자동완성용 단어 -> 사용 횟수를 함께 관리한다.
+ * 변경은 SearchIndexService의 캐시 compute 안에서만 일어나고, 조회와는 객체 잠금으로 분리한다.
+ */
+final class AccountSearchIndex {
+    private static final Comparator<Document> NEWEST_FIRST = Comparator
+            .comparing(Document::date, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Document::id, Comparator.reverseOrder());
+
+    private final Map<Key, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Key>> postings = new TreeMap<>();
+    private final NavigableMap<String, Integer> words = new TreeMap<>();
+
+    synchronized AccountSearchIndex put(SearchDTO.HitType type, Long id, String text, LocalDate date, Boolean completed) {
+        Key key = new Key(type, id);
+        remove(key);
+
+        String normalized = SearchTokenizer.normalize(text);
+        Document document = new Document(type, id, text, normalized, date, completed,
+                SearchTokenizer.indexTokens(normalized), SearchTokenizer.words(normalized));
+        documents.put(key, document);
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, t -> new HashSet<>()).add(key);
+        }
+        for (String word : document.words()) {
+            words.merge(word, 1, Integer::sum);
+        }
+        return this;
+    }
+
+    synchronized AccountSearchIndex remove(SearchDTO.HitType type, Long id) {
+        remove(new Key(type, id));
+        return this;
+    }
+
+    synchronized int size() {
+        return documents.size();
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함하는 문서 (AND). 영문/숫자 단어는 접두어로, 한글은 부분 문자열로 찾는다.
+     * 한글 단어 끝의 초성("회ㅇ")은 그 초성으로 시작하는 음절로 찾는다 (회의, 회원 ...).
+     */
+    synchronized List<SearchDTO.Hit> search(String query, int limit) {
+        List<String> queryWords = SearchTokenizer.words(SearchTokenizer.normalize(query));
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Key> candidates = null;
+        for (String word : queryWords) {
+            candidates = intersect(candidates, matching(word));
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Document> matched = new ArrayList<>();
+        for (Key key : candidates) {
+            Document document = documents.get(key);
+            // 2-gram이 모두 있어도 연속으로 붙어 있지 않을 수 있어 원문으로 한 번 더 확인
+            if (containsHangulWords(document, queryWords)) {
+                matched.add(document);
+            }
+        }
+        matched.sort(NEWEST_FIRST);
+        return matched.stream().limit(limit).map(Document::toHit).toList();
+    }
+
+    // 마지막 단어로 시작하는 단어를 많이 쓰인 순으로
+    synchronized List<String> suggest(String query, int limit) {
+        List<String> queryWords = SearchTokenizer.words(SearchTokenizer.normalize(query));
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+        String prefix = queryWords.get(queryWords.size() - 1);
+        NavigableMap<String, Integer> matched;
+        if (SearchTokenizer.isHangulWord(prefix)) {
+            SearchTokenizer.HangulQuery hangul = SearchTokenizer.hangulQuery(prefix);
+            if (hangul.hasTrailingInitial()) {
+                matched = initialRange(words, hangul.syllables(), hangul.trailingInitial());
+            } else if (!hangul.syllables().isEmpty()) {
+                matched = prefixRange(words, hangul.syllables());
+            } else {
+                return List.of();
+            }
+        } else {
+            matched = prefixRange(words, prefix);
+        }
+        return matched.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Set<Key> matching(String word) {
+        if (SearchTokenizer.isHangulWord(word)) {
+            SearchTokenizer.HangulQuery hangul = SearchTokenizer.hangulQuery(word);
+            String syllables = hangul.syllables();
+            Set<Key> keys = null;
+            if (!syllables.isEmpty()) {
+                for (String token : SearchTokenizer.hangulQueryTokens(syllables)) {
+                    keys = intersect(keys, postings.getOrDefault(token, Collections.emptySet()));
+                    if (keys.isEmpty()) {
+                        return keys;
+                    }
+                }
+            }
+            if (hangul.hasTrailingInitial()) {
+                // 마지막 음절 + 그 초성의 음절 2-gram (음절 부분이 없으면 그 초성의 음절로 시작하는 토큰)
+                String last = syllables.isEmpty() ? "" : syllables.substring(syllables.length() - 1);
+                Set<Key> withInitial = new HashSet<>();
+                for (Set<Key> posting : initialRange(postings, last, hangul.trailingInitial()).values()) {
+                    withInitial.addAll(posting);
+                }
+                keys = intersect(keys, withInitial);
+            }
+            return keys == null ? new HashSet<>() : keys;
+        }
+        Set<Key> keys = new HashSet<>();
+        for (Set<Key> posting : prefixRange(postings, word).values()) {
+            keys.addAll(posting);
+        }
+        return keys;
+    }
+
+    private void remove(Key key) {
+        Document previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            Set<Key> posting = postings.get(token);
+            if (posting != null && posting.remove(key) && posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        for (String word : previous.words()) {
+            words.computeIfPresent(word, (w, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static boolean containsHangulWords(Document document, List<String> queryWords) {
+        for (String word : queryWords) {
+            if (SearchTokenizer.isHangulWord(word) && !SearchTokenizer.hangulQuery(word).matches(document.normalized())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Key> intersect(Set<Key> current, Set<Key> next) {
+        if (current == null) {
+            return new HashSet<>(next);
+        }
+        current.retainAll(next);
+        return current;
+    }
+
+    private static <V> NavigableMap<String, V> prefixRange(NavigableMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    // prefix 뒤에 initial 초성의 음절이 오는 키 (가~깋, 나~닣처럼 초성이 같은 음절은 연속 구간)
+    private static <V> NavigableMap<String, V> initialRange(NavigableMap<String, V> map, String prefix, int initial) {
+        char first = SearchTokenizer.firstSyllable(initial);
+        char last = SearchTokenizer.lastSyllable(initial);
+        return map.subMap(prefix + first, true, prefix + last + Character.MAX_VALUE, false);
+    }
+
+    private record Key(SearchDTO.HitType type, Long id) {
+    }
+
+    private record Document(SearchDTO.HitType type, Long id, String text, String normalized, LocalDate date,
+                            Boolean completed, Set<String> tokens, List<String> words) {
+        SearchDTO.Hit toHit() {
+            return new SearchDTO.Hit(type, id, text, date, completed);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package sp.releasetestbackend.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.entity.TodoArchive;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.search.dto.SearchDTO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 계정별 검색 색인 관리. 계정의 첫 검색 때 DB에서 한 번 만들고, 이후에는 이 인스턴스의 할 일/이벤트 변경을 커밋 뒤에 반영한다.
+ * 다른 인스턴스의 변경은 여기로 오지 않으므로, 만든 뒤 expire-after-write가 지나면(변경 반영이나 검색과 상관없이)
+ * 버리고 다시 만든다. 다른 인스턴스에서 바꾼 내용은 최대 그만큼 늦게 검색된다.
+ * 전체 색인 문서 수로 메모리를 제한한다.
+ */
+@Service
+public class SearchIndexService {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final CalendarEventRepository calendarEventRepository;
+    private final Cache<Long, AccountSearchIndex> indexes;
+
+    public SearchIndexService(TodoRepository todoRepository,
+                              TodoArchiveRepository todoArchiveRepository,
+                              CalendarEventRepository calendarEventRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${search.index.maximum-documents:500000}") long maximumDocuments,
+                              @Value("${search.index.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this.todoRepository = todoRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.calendarEventRepository = calendarEventRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maximumDocuments)
+                .weigher((Long accountId, AccountSearchIndex index) -> index.size() + 1)
+                .expireAfter(expireAfterLoad(expireAfterWrite))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "search.indexes");
+    }
+
+    // 만료 시간은 색인을 만든 시점부터 셈 (변경 반영이나 검색으로는 늘어나지 않음)
+    private static Expiry<Long, AccountSearchIndex> expireAfterLoad(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long accountId, AccountSearchIndex index, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long accountId, AccountSearchIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long accountId, AccountSearchIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    public SearchDTO.Result search(Long accountId, String query, Integer limit) {
+        return new SearchDTO.Result(query, index(accountId).search(query, limit(limit)));
+    }
+
+    public SearchDTO.Suggestions suggest(Long accountId, String query, Integer limit) {
+        return new SearchDTO.Suggestions(query, index(accountId).suggest(query, limit(limit)));
+    }
+
+    public void todoSaved(Long accountId, Todo todo) {
+        Long id = todo.getId();
+        String text = todo.getText();
+        LocalDate dueDate = todo.getDueDate();
+        boolean completed = todo.isCompleted();
+        afterCommit(accountId, index -> index.put(SearchDTO.HitType.todo, id, text, dueDate, completed));
+    }
+
+    public void todoDeleted(Long accountId, Long todoId) {
+        afterCommit(accountId, index -> index.remove(SearchDTO.HitType.todo, todoId));
+    }
+
+    public void eventSaved(Long accountId, CalendarEvent event) {
+        Long id = event.getId();
+        String title = event.getTitle();
+        LocalDate eventDate = event.getEventDate();
+        afterCommit(accountId, index -> index.put(SearchDTO.HitType.event, id, title, eventDate, null));
+    }
+
+    public void eventDeleted(Long accountId, Long eventId) {
+        afterCommit(accountId, index -> index.remove(SearchDTO.HitType.event, eventId));
+    }
+
+    public void invalidate(Long accountId) {
+        indexes.invalidate(accountId);
+    }
+
+    private AccountSearchIndex index(Long accountId) {
+        return indexes.get(accountId, this::load);
+    }
+
+    // 보관된 할 일까지 포함해서 색인
+    private AccountSearchIndex load(Long accountId) {
+        AccountSearchIndex index = new AccountSearchIndex();
+        for (Todo todo : todoRepository.findByAccountId(accountId)) {
+            index.put(SearchDTO.HitType.todo, todo.getId(), todo.getText(), todo.getDueDate(), todo.isCompleted());
+        }
+        for (TodoArchive archived : todoArchiveRepository.findByAccountId(accountId)) {
+            index.put(SearchDTO.HitType.todo, archived.getId(), archived.getText(), archived.getDueDate(), true);
+        }
+        for (CalendarEvent event : calendarEventRepository.findByAccountId(accountId)) {
+            index.put(SearchDTO.HitType.event, event.getId(), event.getTitle(), event.getEventDate(), null);
+        }
+        return index;
+    }
+
+    // 색인이 이미 있는 계정만 갱신 (없으면 다음 검색 때 DB에서 새로 만듦). 계산 중인 색인은 끝난 뒤 반영됨
+    private void afterCommit(Long accountId, UnaryOperator<AccountSearchIndex> change) {
+        Runnable apply = () -> indexes.asMap().computeIfPresent(accountId, (id, index) -> change.apply(index));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private static int limit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,157 @@
+package sp.releasetestbackend.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 토큰 분리. 한글은 형태소 분석 없이 음절 1-gram/2-gram으로, 그 외 문자(영문/숫자)는 단어 단위로 나눈다.
+ * 한글과 영문이 붙어 있으면("회의abc") 문자 종류가 바뀌는 곳에서 나눈다.
+ * 입력 중인 검색어 끝의 낱자모("회ㅇ")는 초성이면 그 초성으로 시작하는 음절로 찾고, 모음/받침이면 버린다.
+ */
+final class SearchTokenizer {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 한글 검색어 단어를 음절 부분과 끝의 초성으로 나눈 것. trailingInitial은 초성 번호(ㄱ=0 ... ㅎ=18), 없으면 -1.
+     */
+    record HangulQuery(String syllables, int trailingInitial) {
+
+        boolean hasTrailingInitial() {
+            return trailingInitial >= 0;
+        }
+
+        // 음절 부분 바로 뒤에 trailingInitial 초성의 음절이 오는 곳이 있는지 (정규화된 원문 기준)
+        boolean matches(String normalized) {
+            if (!hasTrailingInitial()) {
+                return !syllables.isEmpty() && normalized.contains(syllables);
+            }
+            for (int from = normalized.indexOf(syllables); from >= 0 && from < normalized.length();
+                 from = normalized.indexOf(syllables, from + 1)) {
+                int next = from + syllables.length();
+                if (next < normalized.length() && hasInitial(normalized.charAt(next), trailingInitial)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // NFKC + 소문자 (검색어와 본문에 같은 규칙 적용)
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 한글 덩어리 또는 영문/숫자 단어 목록 (정규화된 텍스트 기준)
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean currentHangul = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            boolean hangul = isHangul(codePoint);
+            if (!hangul && !Character.isLetterOrDigit(codePoint)) {
+                flush(current, words);
+                continue;
+            }
+            if (current.length() > 0 && hangul != currentHangul) {
+                flush(current, words);
+            }
+            current.appendCodePoint(codePoint);
+            currentHangul = hangul;
+        }
+        flush(current, words);
+        return words;
+    }
+
+    // 색인 토큰: 영문 단어는 그대로, 한글은 각 음절과 이웃한 두 음절
+    static Set<String> indexTokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            if (!isHangulWord(word)) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 단어를 찾는 데 필요한 토큰 (두 음절 이상이면 2-gram 전부, 한 음절이면 그 음절)
+    static List<String> hangulQueryTokens(String word) {
+        if (word.length() == 1) {
+            return List.of(word);
+        }
+        List<String> bigrams = new ArrayList<>(word.length() - 1);
+        for (int i = 0; i + 1 < word.length(); i++) {
+            bigrams.add(word.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    // 끝의 낱자모를 떼어 냄 ("회ᄋ" -> 회 + ㅇ, "회ᅴ" -> 회). 떼어 낸 첫 자모가 초성일 때만 trailingInitial로 남김
+    static HangulQuery hangulQuery(String word) {
+        int end = word.length();
+        while (end > 0 && isJamo(word.charAt(end - 1))) {
+            end--;
+        }
+        int initial = end < word.length() ? initialIndex(word.charAt(end)) : -1;
+        return new HangulQuery(word.substring(0, end), initial);
+    }
+
+    // 초성이 initial인 첫 음절 (가, 까, 나, ...). 다음 초성의 첫 음절 직전까지가 같은 초성
+    static char firstSyllable(int initial) {
+        return (char) (SYLLABLE_BASE + initial * SYLLABLES_PER_INITIAL);
+    }
+
+    static char lastSyllable(int initial) {
+        return (char) (firstSyllable(initial) + SYLLABLES_PER_INITIAL - 1);
+    }
+
+    static boolean isHangulWord(String word) {
+        return !word.isEmpty() && isHangul(word.codePointAt(0));
+    }
+
+    // 한글 음절과 자모 (입력 중인 "회ㅇ" 같은 검색어도 한글로 취급)
+    private static boolean isHangul(int codePoint) {
+        return (codePoint >= 0xAC00 && codePoint <= 0xD7A3) || isJamo(codePoint);
+    }
+
+    // NFKC는 호환 자모(ㅇ, U+3147)를 첫가끝 자모(U+110B)로 바꾸므로 둘 다 자모로 봄
+    private static boolean isJamo(int codePoint) {
+        return (codePoint >= 0x1100 && codePoint <= 0x11FF) || (codePoint >= 0x3131 && codePoint <= 0x318E);
+    }
+
+    // 첫가끝 초성(U+1100~U+1112)이면 초성 번호, 아니면 -1
+    private static int initialIndex(char jamo) {
+        return jamo >= 0x1100 && jamo <= 0x1112 ? jamo - 0x1100 : -1;
+    }
+
+    private static boolean hasInitial(char syllable, int initial) {
+        return syllable >= firstSyllable(initial) && syllable <= lastSyllable(initial);
+    }
+
+    private static void flush(StringBuilder current, List<String> words) {
+        if (current.length() > 0) {
+            words.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
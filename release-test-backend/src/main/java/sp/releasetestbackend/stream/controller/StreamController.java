@@ -0,0 +1,22 @@
+package sp.releasetestbackend.stream.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sp.releasetestbackend.config.auth.LoginAccountId;
+import sp.releasetestbackend.stream.service.StreamService;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@CrossOrigin
+public class StreamController {
+    private final StreamService streamService;
+
+    // 할 일/이벤트 변경과 대시보드 수치를 SSE로 받음 (연결이 끊기면 클라이언트가 다시 연결하고 목록을 새로 조회)
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@LoginAccountId Long accountId) {
+        return streamService.connect(accountId);
+    }
+}
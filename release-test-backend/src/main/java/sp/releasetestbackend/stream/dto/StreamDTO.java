@@ -0,0 +1,54 @@
+package sp.releasetestbackend.stream.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.dashboard.dto.DashboardResponseDTO;
+import sp.releasetestbackend.home.entity.Todo;
+
+import java.util.List;
+import java.util.Map;
+
+public class StreamDTO {
+
+    // SSE event 이름
+    public enum EventName {
+        ready, todos, events, dashboard
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TodoChanges { // 한 트랜잭션에서 바뀐 할 일 (REST 응답과 같은 형태)
+        private List<Todo> saved;
+        private List<Long> deletedIds;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EventChanges { // 한 트랜잭션에서 바뀐 캘린더 이벤트
+        private List<CalendarEvent> saved;
+        private List<Long> deletedIds;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DashboardCounters { // 대시보드 수치 (오늘 할 일 목록은 todos 이벤트로 반영)
+        private long todaysCompletedCount;
+        private long todaysTotalCount;
+        private int todaysProgress;
+        private long tomorrowsTodoCount;
+        private List<Map<String, Object>> weeklyChartData;
+        private int overallProgress;
+
+        public static DashboardCounters from(DashboardResponseDTO dashboard) {
+            return new DashboardCounters(
+                    dashboard.getTodaysCompletedCount(),
+                    dashboard.getTodaysTotalCount(),
+                    dashboard.getTodaysProgress(),
+                    dashboard.getTomorrowsTodoCount(),
+                    dashboard.getWeeklyChartData(),
+                    dashboard.getOverallProgress()
+            );
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package sp.releasetestbackend.stream.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sp.releasetestbackend.calendar.service.CalendarEventChangedEvent;
+import sp.releasetestbackend.config.jdbc.AccountRoutingContext;
+import sp.releasetestbackend.dashboard.service.DashboardService;
+import sp.releasetestbackend.home.service.TodoChangedEvent;
+import sp.releasetestbackend.stream.dto.StreamDTO;
+import sp.releasetestbackend.stream.dto.StreamDTO.EventName;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계정별 SSE 연결 관리와 변경 푸시.
+ * 연결은 서블릿 비동기 요청이라 쉬는 동안 스레드를 잡지 않는다. 전송은 소수의 공용 스레드가 연결별 버퍼를 비우는 방식이고,
+ * 버퍼가 가득 찬(느린) 연결은 끊어서 클라이언트가 다시 연결하며 목록을 새로 받게 한다.
+ * 전송 하나가 send-timeout을 넘기면(소켓 쓰기가 막힌 연결) 그 연결을 닫고, 막힌 스레드가 풀려날 때까지 전송 스레드를 하나 더 둔다.
+ * 대시보드 수치 계산은 별도 스레드에서 하므로 느린 조회가 하트비트/전송 감시를 막지 않는다.
+ */
+@Slf4j
+@Service
+public class StreamService {
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final DashboardService dashboardService;
+    private final int bufferSize;
+    private final int maxConnectionsPerAccount;
+    private final Duration timeout;
+    private final Duration dashboardDelay;
+    private final long sendTimeoutNanos;
+
+    // 계정 -> 연결 목록 (복사 후 교체하므로 읽을 때 잠금 없음)
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    // 대시보드 수치 계산이 예약된 계정 (연속 변경은 한 번만 계산)
+    private final Set<Long> pendingDashboards = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor senders;
+    // 하트비트, 전송 감시, 대시보드 계산 예약만 담당 (오래 걸리는 작업은 넣지 않음)
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dashboardWorkers;
+    private final Counter evicted;
+    private final Counter stalledSends;
+
+    public StreamService(DashboardService dashboardService,
+                         MeterRegistry meterRegistry,
+                         @Value("${stream.sender-threads:2}") int senderThreads,
+                         @Value("${stream.buffer-size:32}") int bufferSize,
+                         @Value("${stream.max-connections-per-account:10}") int maxConnectionsPerAccount,
+                         @Value("${stream.timeout:PT30M}") Duration timeout,
+                         @Value("${stream.heartbeat-interval:PT20S}") Duration heartbeatInterval,
+                         @Value("${stream.dashboard-delay:PT0.2S}") Duration dashboardDelay,
+                         @Value("${stream.dashboard-threads:2}") int dashboardThreads,
+                         @Value("${stream.send-timeout:PT5S}") Duration sendTimeout) {
+        this.dashboardService = dashboardService;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerAccount = maxConnectionsPerAccount;
+        this.timeout = timeout;
+        this.dashboardDelay = dashboardDelay;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("stream-sender-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("stream-scheduler-"));
+        this.dashboardWorkers = Executors.newFixedThreadPool(dashboardThreads, daemonThreads("stream-dashboard-"));
+        this.evicted = Counter.builder("stream.evicted")
+                .description("SSE connections closed because their buffer was full")
+                .register(meterRegistry);
+        this.stalledSends = Counter.builder("stream.stalled")
+                .description("SSE connections closed because a send exceeded stream.send-timeout")
+                .register(meterRegistry);
+        Gauge.builder("stream.connections", connections, map -> map.values().stream().mapToInt(List::size).sum())
+                .description("Open SSE connections")
+                .register(meterRegistry);
+
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(100, sendTimeout.toMillis() / 2);
+        scheduler.scheduleWithFixedDelay(this::checkSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter connect(Long accountId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(accountId, emitter);
+        emitter.onCompletion(connection::closed);
+        emitter.onError(error -> connection.closed());
+        // 시간이 다 되면 정상 종료 (클라이언트가 다시 연결)
+        emitter.onTimeout(emitter::complete);
+
+        // 계정별 연결 수를 넘으면 가장 오래된 연결부터 닫음
+        List<Connection> oldest = new ArrayList<>();
+        connections.compute(accountId, (id, current) -> {
+            List<Connection> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            next.add(connection);
+            while (next.size() > maxConnectionsPerAccount) {
+                oldest.add(next.remove(0));
+            }
+            return List.copyOf(next);
+        });
+        oldest.forEach(Connection::close);
+
+        connection.offer(event(EventName.ready, Map.of()));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        List<Connection> targets = connections.get(event.accountId());
+        if (targets == null) {
+            return;
+        }
+        if (!event.saved().isEmpty() || !event.deletedIds().isEmpty()) {
+            broadcast(targets, event(EventName.todos, new StreamDTO.TodoChanges(event.saved(), event.deletedIds())));
+        }
+        scheduleDashboard(event.accountId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarEventChanged(CalendarEventChangedEvent event) {
+        List<Connection> targets = connections.get(event.accountId());
+        if (targets == null) {
+            return;
+        }
+        broadcast(targets, event(EventName.events, new StreamDTO.EventChanges(event.saved(), event.deletedIds())));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        dashboardWorkers.shutdownNow();
+        // 종료 전에 연결을 닫아 클라이언트가 바로 다른 인스턴스로 다시 연결하게 함
+        connections.values().forEach(accountConnections -> accountConnections.forEach(Connection::close));
+        senders.shutdown();
+    }
+
+    // 잠깐 기다렸다가 계산해서 연속된 변경(더블클릭 토글 등)을 한 번의 푸시로 합침
+    private void scheduleDashboard(Long accountId) {
+        if (!pendingDashboards.add(accountId)) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> startDashboard(accountId), dashboardDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingDashboards.remove(accountId);
+        }
+    }
+
+    // 조회는 대시보드 전용 스레드에서 (스케줄러 스레드는 바로 돌려줌)
+    private void startDashboard(Long accountId) {
+        try {
+            dashboardWorkers.execute(() -> pushDashboard(accountId));
+        } catch (RejectedExecutionException e) {
+            pendingDashboards.remove(accountId);
+        }
+    }
+
+    private void pushDashboard(Long accountId) {
+        pendingDashboards.remove(accountId);
+        if (!connections.containsKey(accountId)) {
+            return;
+        }
+        try {
+            // 방금 쓴 계정이므로 읽기 분산을 켠 경우에도 primary에서 읽도록 계정을 지정
+            StreamDTO.DashboardCounters counters = StreamDTO.DashboardCounters.from(
+                    AccountRoutingContext.forAccount(accountId, () -> dashboardService.getDashboardData(accountId)));
+            List<Connection> targets = connections.get(accountId);
+            if (targets != null) {
+                broadcast(targets, event(EventName.dashboard, counters));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to push dashboard for account {}: {}", accountId, e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        for (List<Connection> accountConnections : connections.values()) {
+            broadcast(accountConnections, HEARTBEAT);
+        }
+    }
+
+    private void checkSends() {
+        long now = System.nanoTime();
+        for (List<Connection> accountConnections : connections.values()) {
+            accountConnections.forEach(connection -> connection.checkSend(now));
+        }
+    }
+
+    // 막힌 전송 스레드 수만큼 풀을 늘리고 줄여, 막히지 않은 전송 스레드가 항상 sender-threads개 있게 함
+    private synchronized void resizeSenders(int delta) {
+        int size = senders.getCorePoolSize() + delta;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private static void broadcast(List<Connection> targets, Set<DataWithMediaType> event) {
+        for (Connection connection : targets) {
+            connection.offer(event);
+        }
+    }
+
+    // 직렬화는 전송 스레드에서 연결마다 수행됨
+    private static Set<DataWithMediaType> event(EventName name, Object data) {
+        return SseEmitter.event().name(name.name()).data(data, MediaType.APPLICATION_JSON).build();
+    }
+
+    private void unregister(Connection connection) {
+        connections.computeIfPresent(connection.accountId, (id, current) -> {
+            if (!current.contains(connection)) {
+                return current;
+            }
+            List<Connection> next = new ArrayList<>(current);
+            next.remove(connection);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * 연결 하나. 버퍼에 넣은 순서대로 한 번에 한 스레드만 보낸다.
+     */
+    private final class Connection {
+        private final Long accountId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // emitter를 끝냈거나 컨테이너가 끝낸 연결
+        private final AtomicBoolean completed = new AtomicBoolean();
+        // 진행 중인 전송 (감시용, this로 보호)
+        private Thread sender;
+        private long sendStartedNanos;
+        private boolean stalled;
+
+        private Connection(Long accountId, SseEmitter emitter) {
+            this.accountId = accountId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                // 느린 연결: 더 쌓지 않고 끊음
+                evicted.increment();
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // 서버 쪽에서 닫음. emitter 종료는 진행 중인 전송이 끝난 뒤 전송 스레드에서 처리
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            unregister(this);
+            scheduleDrain();
+        }
+
+        // 완료/오류 콜백 (클라이언트가 끊었거나 시간 초과)
+        void closed() {
+            completed.set(true);
+            closed.set(true);
+            buffer.clear();
+            unregister(this);
+        }
+
+        // 전송이 send-timeout을 넘겼으면 연결을 닫고, 막힌 스레드 대신 전송 스레드를 하나 늘림
+        void checkSend(long now) {
+            synchronized (this) {
+                if (sender == null || stalled || now - sendStartedNanos < sendTimeoutNanos) {
+                    return;
+                }
+                stalled = true;
+                // 블로킹 쓰기를 깨울 수 있으면 깨움 (못 깨우면 컨테이너의 쓰기 타임아웃까지 그 스레드만 묶임)
+                sender.interrupt();
+            }
+            stalledSends.increment();
+            resizeSenders(1);
+            close();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                if (closed.get()) {
+                    complete();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 끊은 연결 (오류 콜백은 컨테이너가 따로 호출)
+                closed();
+            } finally {
+                draining.set(false);
+            }
+            if (closed.get()) {
+                complete();
+            } else if (!buffer.isEmpty()) {
+                // 비우는 사이에 들어온 이벤트
+                scheduleDrain();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> event) throws IOException {
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                boolean wasStalled;
+                synchronized (this) {
+                    sender = null;
+                    wasStalled = stalled;
+                    stalled = false;
+                }
+                if (wasStalled) {
+                    Thread.interrupted(); // 감시가 건 인터럽트가 다음 작업으로 넘어가지 않게
+                    resizeSenders(-1);
+                }
+            }
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package sp.releasetestbackend.sync.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import sp.releasetestbackend.config.auth.LoginAccountId;
+import sp.releasetestbackend.sync.dto.SyncDTO;
+import sp.releasetestbackend.sync.service.SyncService;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@CrossOrigin
+public class SyncController {
+    private final SyncService syncService;
+
+    // since 버전 이후에 바뀐 할 일/이벤트와 삭제된 ID 조회 (since=0이면 전체)
+    @GetMapping
+    public SyncDTO.Changes getChanges(@RequestParam(value = "since", defaultValue = "0") long since,
+                                      @LoginAccountId Long accountId) {
+        return syncService.getChangesSince(accountId, since);
+    }
+}
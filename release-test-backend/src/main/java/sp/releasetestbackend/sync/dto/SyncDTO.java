@@ -0,0 +1,22 @@
+package sp.releasetestbackend.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.home.entity.Todo;
+
+import java.util.List;
+
+public class SyncDTO {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Changes { // since 이후 변경분
+        private long version;            // 다음 요청의 since로 사용할 값
+        private boolean resetRequired;   // true면 전체 목록이 내려가므로 클라이언트 상태를 교체해야 함
+        private List<Todo> todos;
+        private List<CalendarEvent> events;
+        private List<Long> deletedTodoIds;
+        private List<Long> deletedEventIds;
+    }
+}
@@ -0,0 +1,25 @@
+package sp.releasetestbackend.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계정별 변경 버전 카운터. 할 일/이벤트가 바뀔 때마다 1씩 증가하고, 변경된 행에 그 값이 기록된다.
+ * 같은 계정의 쓰기는 이 행의 잠금으로 직렬화되므로 커밋 순서와 버전 순서가 일치한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "account_change_version")
+public class AccountChangeVersion {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    private long version;
+
+    // 이 버전 이하의 삭제 기록(tombstone)은 정리되었음. since가 이보다 작으면 전체 재동기화 필요
+    @Column(name = "tombstone_floor")
+    private long tombstoneFloor;
+}
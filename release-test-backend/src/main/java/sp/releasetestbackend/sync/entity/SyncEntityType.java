@@ -0,0 +1,5 @@
+package sp.releasetestbackend.sync.entity;
+
+public enum SyncEntityType {
+    TODO, CALENDAR_EVENT
+}
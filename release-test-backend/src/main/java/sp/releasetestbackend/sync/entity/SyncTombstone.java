@@ -0,0 +1,46 @@
+package sp.releasetestbackend.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 할 일/이벤트의 기록. 델타 동기화에서 삭제를 전달하기 위해 보관하며 일정 기간 후 정리된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_account_version", columnList = "account_id, version")
+})
+public class SyncTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    private long version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public SyncTombstone(Long accountId, SyncEntityType entityType, Long entityId, long version) {
+        this.accountId = accountId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+    }
+}
@@ -0,0 +1,47 @@
+package sp.releasetestbackend.sync.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sp.releasetestbackend.sync.entity.AccountChangeVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountChangeVersionRepository extends JpaRepository<AccountChangeVersion, Long> {
+
+    // 카운터가 없으면 1로 만들고, 있으면 1 증가 (트랜잭션 끝까지 행 잠금 유지)
+    @Modifying
+    @Query(value = "INSERT INTO account_change_version (account_id, version, tombstone_floor) VALUES (:accountId, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true)
+    int increment(@Param("accountId") Long accountId);
+
+    @Query("select v.version from AccountChangeVersion v where v.accountId = :accountId")
+    Optional<Long> findVersion(@Param("accountId") Long accountId);
+
+    // 쓰기와 계정 이동이 잡는 행을 정기 작업도 잡음 (트랜잭션 끝까지)
+    @Query(value = "SELECT account_id FROM account_change_version WHERE account_id IN (:accountIds) FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockAll(@Param("accountIds") Collection<Long> accountIds);
+
+    // 이미 다른 트랜잭션이 잡은 행은 기다리지 않고 건너뜀
+    @Query(value = "SELECT account_id FROM account_change_version WHERE account_id IN (:accountIds) FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockAvailable(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("select v.accountId from AccountChangeVersion v where v.accountId in :accountIds")
+    List<Long> findAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    // 정리될 tombstone 중 가장 큰 버전을 계정별 floor로 기록
+    @Modifying
+    @Query(value = "UPDATE account_change_version SET tombstone_floor = " +
+            "(SELECT MAX(t.version) FROM sync_tombstones t " +
+            "WHERE t.account_id = account_change_version.account_id AND t.created_at < :cutoff) " +
+            "WHERE account_id IN (SELECT t.account_id FROM sync_tombstones t WHERE t.created_at < :cutoff)",
+            nativeQuery = true)
+    int raiseTombstoneFloors(@Param("cutoff") LocalDateTime cutoff);
+}
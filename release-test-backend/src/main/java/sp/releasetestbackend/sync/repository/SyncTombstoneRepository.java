@@ -0,0 +1,23 @@
+package sp.releasetestbackend.sync.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sp.releasetestbackend.sync.entity.SyncTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+    List<SyncTombstone> findByAccountIdAndVersionGreaterThan(Long accountId, long version);
+
+    @Modifying
+    @Query("delete from SyncTombstone t where t.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 계정 삭제 후 정리용: 짧은 트랜잭션으로 나눠 지우도록 한 번에 limit건만 삭제
+    @Modifying
+    @Query(value = "DELETE FROM sync_tombstones WHERE account_id = :accountId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+}
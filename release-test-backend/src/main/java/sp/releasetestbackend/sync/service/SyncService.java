@@ -0,0 +1,80 @@
+package sp.releasetestbackend.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.entity.TodoArchive;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.sync.dto.SyncDTO;
+import sp.releasetestbackend.sync.entity.AccountChangeVersion;
+import sp.releasetestbackend.sync.entity.SyncEntityType;
+import sp.releasetestbackend.sync.entity.SyncTombstone;
+import sp.releasetestbackend.sync.repository.AccountChangeVersionRepository;
+import sp.releasetestbackend.sync.repository.SyncTombstoneRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+    private final AccountChangeVersionRepository accountChangeVersionRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final CalendarEventRepository calendarEventRepository;
+
+    public SyncDTO.Changes getChangesSince(Long accountId, long since) {
+        Optional<AccountChangeVersion> counter = accountChangeVersionRepository.findById(accountId);
+        long currentVersion = counter.map(AccountChangeVersion::getVersion).orElse(0L);
+        long tombstoneFloor = counter.map(AccountChangeVersion::getTombstoneFloor).orElse(0L);
+
+        // 최초 동기화이거나, 필요한 삭제 기록이 이미 정리되었으면 전체 목록을 내려줌
+        boolean resetRequired = since > 0 && since < tombstoneFloor;
+        if (since <= 0 || resetRequired) {
+            return new SyncDTO.Changes(
+                    currentVersion,
+                    resetRequired,
+                    findAllTodos(accountId),
+                    calendarEventRepository.findByAccountId(accountId),
+                    List.of(),
+                    List.of()
+            );
+        }
+
+        // 이미 최신이면 변경분 조회 생략
+        if (since >= currentVersion) {
+            return new SyncDTO.Changes(currentVersion, false, List.of(), List.of(), List.of(), List.of());
+        }
+
+        List<Todo> todos = todoRepository.findByAccountIdAndChangeVersionGreaterThan(accountId, since);
+        List<CalendarEvent> events = calendarEventRepository.findByAccountIdAndChangeVersionGreaterThan(accountId, since);
+
+        List<Long> deletedTodoIds = new ArrayList<>();
+        List<Long> deletedEventIds = new ArrayList<>();
+        for (SyncTombstone tombstone : syncTombstoneRepository.findByAccountIdAndVersionGreaterThan(accountId, since)) {
+            if (tombstone.getEntityType() == SyncEntityType.TODO) {
+                deletedTodoIds.add(tombstone.getEntityId());
+            } else {
+                deletedEventIds.add(tombstone.getEntityId());
+            }
+        }
+
+        return new SyncDTO.Changes(currentVersion, false, todos, events, deletedTodoIds, deletedEventIds);
+    }
+
+    // 전체 동기화에는 보관된 할 일도 포함 (보관은 변경이 아니므로 변경분 동기화에는 나타나지 않음)
+    private List<Todo> findAllTodos(Long accountId) {
+        List<Todo> todos = new ArrayList<>(todoRepository.findByAccountId(accountId));
+        for (TodoArchive archived : todoArchiveRepository.findByAccountId(accountId)) {
+            todos.add(archived.toTodo());
+        }
+        return todos;
+    }
+}
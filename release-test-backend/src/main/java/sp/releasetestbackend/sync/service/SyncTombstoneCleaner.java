@@ -0,0 +1,41 @@
+package sp.releasetestbackend.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sp.releasetestbackend.config.jdbc.Shards;
+import sp.releasetestbackend.sync.repository.AccountChangeVersionRepository;
+import sp.releasetestbackend.sync.repository.SyncTombstoneRepository;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 삭제 기록 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncTombstoneCleaner {
+    private final AccountChangeVersionRepository accountChangeVersionRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Shards shards;
+
+    @Value("${sync.tombstone-retention-days:30}")
+    private long retentionDays;
+
+    // 샤드마다 트랜잭션 하나
+    @Scheduled(cron = "${sync.tombstone-cleanup-cron:0 0 5 * * *}")
+    public void purgeExpiredTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        shards.forEach(() -> {
+            Integer deleted = transactionTemplate.execute(status -> {
+                // 정리 전에 floor를 올려 두어야 오래된 since로 요청한 클라이언트가 삭제를 놓치지 않음
+                accountChangeVersionRepository.raiseTombstoneFloors(cutoff);
+                return syncTombstoneRepository.deleteCreatedBefore(cutoff);
+            });
+            log.info("sync tombstones purged: {}", deleted);
+        });
+    }
+}
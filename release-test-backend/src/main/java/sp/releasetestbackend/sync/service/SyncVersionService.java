@@ -0,0 +1,62 @@
+package sp.releasetestbackend.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sp.releasetestbackend.config.jdbc.ShardDirectory;
+import sp.releasetestbackend.sync.entity.SyncEntityType;
+import sp.releasetestbackend.sync.entity.SyncTombstone;
+import sp.releasetestbackend.sync.repository.AccountChangeVersionRepository;
+import sp.releasetestbackend.sync.repository.SyncTombstoneRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 할 일/이벤트 변경 시 계정 변경 버전을 발급하고 삭제 기록을 남긴다.
+ * 호출한 서비스의 트랜잭션 안에서만 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class SyncVersionService {
+    private final AccountChangeVersionRepository accountChangeVersionRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+
+    public long nextVersion(Long accountId) {
+        accountChangeVersionRepository.increment(accountId);
+        return accountChangeVersionRepository.findVersion(accountId)
+                .orElseThrow(() -> new IllegalStateException("변경 버전을 발급하지 못했습니다: " + accountId));
+    }
+
+    /**
+     * 계정 데이터를 고치는 정기 작업(보관, 집계 재구축, 변경 기록 정리)이 계정 이동(ShardMigrator)과 겹치지 않게 한다.
+     * 쓰기와 이동이 잡는 계정 변경 버전 행을 같이 잡고, 이동 중인 계정은 뺀 나머지를 돌려준다 (샤딩을 끄면 그대로).
+     * wait=false면 잠긴 계정은 기다리지 않고 빼므로, 다른 행을 먼저 잠근 작업도 쓰기와 교착되지 않는다.
+     */
+    public Set<Long> lockSettled(Collection<Long> accountIds, boolean wait) {
+        Set<Long> settled = new LinkedHashSet<>(accountIds);
+        ShardDirectory directory = shardDirectory.getIfAvailable();
+        if (directory == null || settled.isEmpty()) {
+            return settled;
+        }
+        if (wait) {
+            accountChangeVersionRepository.lockAll(settled);
+        } else {
+            Set<Long> busy = new HashSet<>(accountChangeVersionRepository.findAccountIds(settled));
+            accountChangeVersionRepository.lockAvailable(settled).forEach(busy::remove);
+            settled.removeAll(busy);
+        }
+        settled.removeAll(directory.findMoving(settled));
+        return settled;
+    }
+
+    public void recordDeletion(Long accountId, SyncEntityType entityType, Long entityId, long version) {
+        syncTombstoneRepository.save(new SyncTombstone(accountId, entityType, entityId, version));
+    }
+}
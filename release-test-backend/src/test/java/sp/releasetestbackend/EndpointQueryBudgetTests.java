@@ -0,0 +1,235 @@
+package sp.releasetestbackend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.calendar.dto.CalendarEventDTO;
+import sp.releasetestbackend.calendar.entity.CalendarEvent;
+import sp.releasetestbackend.calendar.entity.EventType;
+import sp.releasetestbackend.calendar.service.CalendarEventService;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoService;
+import sp.releasetestbackend.jwt.JwtTokenService;
+import sp.releasetestbackend.support.querybudget.QueryBudget;
+import sp.releasetestbackend.support.querybudget.QueryBudgetTestConfig;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 개수 상한. 숫자를 올려야 한다면 늘어난 쿼리가 정말 필요한지 먼저 확인할 것.
+ * (쓰기 요청은 변경 버전 발급(upsert + 조회), 일자별 집계 갱신, 변경 기록(아웃박스) 배치 insert가 함께 포함된 개수)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryBudgetTestConfig.class)
+class EndpointQueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CalendarEventService calendarEventService;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    private final LocalDate today = LocalDate.now();
+    private String bearer;
+    private Todo todo;
+    private CalendarEvent event;
+
+    @BeforeEach
+    void setUp() {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        bearer = "Bearer " + jwtTokenService.generateToken(accountId);
+
+        for (int i = 0; i < 5; i++) {
+            todo = todoService.createTodo(accountId, todoRequest("할 일 " + i, today.plusDays(i % 2)));
+        }
+        CalendarEventDTO.Create eventRequest = new CalendarEventDTO.Create();
+        eventRequest.setDate(today);
+        eventRequest.setTitle("회의");
+        eventRequest.setType(EventType.meeting);
+        event = calendarEventService.createEvent(accountId, eventRequest);
+    }
+
+    @Test
+    @QueryBudget(2) // 오늘 할 일 + 일자별 집계
+    void dashboard() throws Exception {
+        mockMvc.perform(get("/api/dashboard").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2 + 6 + 2) // 첫 계산 + 토글 + 무효화 뒤 재계산 (그 사이 조회는 캐시)
+    void dashboardIsCachedUntilTodoChanges() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/dashboard").header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(jsonPath("$.todaysCompletedCount").value(0));
+        }
+        // 마지막 할 일은 오늘 마감
+        mockMvc.perform(put("/api/todos/{id}/toggle", todo.getId()).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/dashboard").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(jsonPath("$.todaysCompletedCount").value(1));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void todosByDate() throws Exception {
+        mockMvc.perform(get("/api/todos").param("date", today.toString()).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void todosByDateRange() throws Exception {
+        mockMvc.perform(get("/api/todos/range")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(7).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1) // 첫 조회만 DB에서 채우고 이후는 캐시
+    void importantTodos() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/todos/important").header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @QueryBudget(5) // 버전 발급 2 + insert + 집계 + 변경 기록
+    void createTodo() throws Exception {
+        mockMvc.perform(post("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\":\"새 할 일\",\"priority\":\"HIGH\",\"dueDate\":\"" + today + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(5) // 버전 발급 2 + 조건부 update + 응답용 조회 + 변경 기록
+    void updateTodo() throws Exception {
+        mockMvc.perform(put("/api/todos/{id}", todo.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\":\"수정\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(6) // 버전 발급 2 + 조건부 update + 응답용 조회 + 집계 + 변경 기록
+    void toggleTodo() throws Exception {
+        mockMvc.perform(put("/api/todos/{id}/toggle", todo.getId()).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(6) // 집계 차감 + 조건부 delete + 버전 발급 2 + 삭제 기록 + 변경 기록
+    void deleteTodo() throws Exception {
+        mockMvc.perform(delete("/api/todos/{id}", todo.getId()).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @QueryBudget(9) // 버전 발급 2 + 조회 + insert/update/delete/삭제 기록/집계/변경 기록 배치 각 1
+    void batchOfHundredOperations() throws Exception {
+        StringBuilder operations = new StringBuilder();
+        for (int i = 0; i < 97; i++) {
+            operations.append("{\"op\":\"create\",\"text\":\"일괄 ").append(i)
+                    .append("\",\"priority\":\"LOW\",\"dueDate\":\"").append(today).append("\"},");
+        }
+        operations.append("{\"op\":\"toggle\",\"id\":").append(todo.getId()).append("},");
+        operations.append("{\"op\":\"move\",\"id\":").append(todo.getId()).append(",\"dueDate\":\"").append(today.plusDays(3)).append("\"},");
+        operations.append("{\"op\":\"delete\",\"id\":").append(todo.getId() - 1).append("}");
+
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\":[" + operations + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(100))
+                .andExpect(jsonPath("$[97].todo.completed").value(true))
+                .andExpect(jsonPath("$[98].todo.dueDate").value(today.plusDays(3).toString()))
+                .andExpect(jsonPath("$[99].status").value("ok"));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void calendarEventsBetween() throws Exception {
+        mockMvc.perform(get("/api/calendar/events")
+                        .param("from", today.withDayOfMonth(1).toString())
+                        .param("to", today.withDayOfMonth(1).plusMonths(1).minusDays(1).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(0) // 기간 없는 전체 조회는 받지 않음
+    void calendarEventsWithoutRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/calendar/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @QueryBudget(2) // 이벤트 유형별 집계 + 할 일 일자별 집계
+    void calendarMonthSummary() throws Exception {
+        mockMvc.perform(get("/api/calendar/summary")
+                        .param("month", YearMonth.from(today).toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(5) // 버전 발급 2 + 조건부 update + 응답용 조회 + 변경 기록
+    void updateCalendarEvent() throws Exception {
+        mockMvc.perform(put("/api/calendar/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"회의 변경\",\"type\":\"meeting\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4) // 계정 버전 + 할 일/이벤트 변경분 + 삭제 기록
+    void syncSince() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", "1").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+    }
+
+    private static TodoDTO.Create todoRequest(String text, LocalDate dueDate) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText(text);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(dueDate);
+        return request;
+    }
+}
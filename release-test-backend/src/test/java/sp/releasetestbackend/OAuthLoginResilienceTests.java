@@ -0,0 +1,160 @@
+package sp.releasetestbackend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.account_profile.entity.AccountProfile;
+import sp.releasetestbackend.account_profile.repository.AccountProfileRepository;
+import sp.releasetestbackend.config.http.OAuthHttpClients;
+import sp.releasetestbackend.support.oauth.StubOAuthServer;
+import sp.releasetestbackend.support.querybudget.QueryBudgetTestConfig;
+import sp.releasetestbackend.support.querybudget.StatementCounter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 로컬 stub OAuth 서버를 상대로 한 로그인 처리량/장애 동작 확인.
+ */
+@Slf4j
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryBudgetTestConfig.class)
+class OAuthLoginResilienceTests {
+    private static final StubOAuthServer stub = StubOAuthServer.start();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OAuthHttpClients oAuthHttpClients;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountProfileRepository accountProfileRepository;
+
+    @DynamicPropertySource
+    static void oauthProperties(DynamicPropertyRegistry registry) {
+        for (String provider : List.of("kakao", "google", "naver")) {
+            registry.add(provider + ".token-request-uri", () -> stub.url("/" + provider + "/token"));
+            registry.add(provider + ".user-info-request-uri", () -> stub.url("/" + provider + "/me"));
+        }
+        registry.add("google.id-token.jwks-uri", () -> stub.url("/google/certs"));
+        registry.add("oauth.http.prewarm-on-startup", () -> true);
+        registry.add("oauth.http.providers.kakao.read-timeout", () -> "300ms");
+        registry.add("oauth.http.providers.kakao.sliding-window-size", () -> 4);
+        registry.add("oauth.http.providers.kakao.minimum-number-of-calls", () -> 4);
+        registry.add("oauth.http.providers.kakao.open-state-duration", () -> "1m");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stub.reset();
+        oAuthHttpClients.get("kakao").getCircuitBreaker().reset();
+    }
+
+    @Test
+    void prewarmsConnectionsAtStartup() {
+        assertThat(stub.warmupRequests()).isPositive();
+    }
+
+    @Test
+    void loginSucceedsForEveryProvider() throws Exception {
+        assertThat(login("kakao")).contains("KAKAO_LOGIN_SUCCESS");
+        assertThat(login("google")).contains("GOOGLE_LOGIN_SUCCESS");
+        assertThat(login("naver")).contains("NAVER_LOGIN_SUCCESS");
+    }
+
+    @Test
+    void returningUserLoginSkipsDatabaseOnceCached() throws Exception {
+        Account account = accountRepository.save(new Account(LoginType.NAVER));
+        accountProfileRepository.save(new AccountProfile(account, "stub@naver.test", "기존회원"));
+
+        assertThat(login("naver")).contains("NAVER_LOGIN_SUCCESS").contains("isNewUser: false");
+
+        StatementCounter.reset();
+        assertThat(login("naver")).contains("기존회원").contains("isNewUser: false");
+        assertThat(StatementCounter.executed()).isEmpty();
+    }
+
+    @Test
+    void slowProviderIsCutOffByReadTimeout() throws Exception {
+        stub.setDelay(Duration.ofSeconds(2));
+
+        long startedAt = System.nanoTime();
+        String html = login("kakao");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(html).contains("KAKAO_LOGIN_ERROR");
+        assertThat(elapsedMillis).isLessThan(1500);
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailuresAndFailsFast() throws Exception {
+        stub.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            assertThat(login("kakao")).contains("KAKAO_LOGIN_ERROR");
+        }
+        int requestsBeforeOpen = stub.apiRequests();
+
+        // 서킷이 열린 뒤에는 제공자를 호출하지 않고 바로 에러 화면
+        assertThat(login("kakao")).contains("KAKAO_LOGIN_ERROR");
+        assertThat(stub.apiRequests()).isEqualTo(requestsBeforeOpen);
+
+        // 다른 제공자는 영향 없음
+        stub.setFailing(false);
+        assertThat(login("naver")).contains("NAVER_LOGIN_SUCCESS");
+    }
+
+    @Test
+    void burstOfLoginsReusesPooledConnections() throws Exception {
+        int logins = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < logins; i++) {
+                results.add(executor.submit(() -> login("kakao")));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).contains("KAKAO_LOGIN_SUCCESS");
+            }
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+            log.info("stub 로그인 {}건: {}ms ({} logins/s)", logins, elapsedMillis, logins * 1000L / Math.max(1, elapsedMillis));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private String login(String provider) throws Exception {
+        return mockMvc.perform(get("/" + provider + "-authentication/login").param("code", "stub-code"))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
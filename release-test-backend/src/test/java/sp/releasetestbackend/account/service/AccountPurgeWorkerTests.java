@@ -0,0 +1,124 @@
+package sp.releasetestbackend.account.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.account_profile.entity.AccountProfile;
+import sp.releasetestbackend.account_profile.repository.AccountProfileRepository;
+import sp.releasetestbackend.calendar.dto.CalendarEventDTO;
+import sp.releasetestbackend.calendar.entity.EventType;
+import sp.releasetestbackend.calendar.repository.CalendarEventRepository;
+import sp.releasetestbackend.calendar.service.CalendarEventService;
+import sp.releasetestbackend.dashboard.repository.TodoDailyStatsRepository;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.home.service.TodoService;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 유예 없이 바로 정리하고 계정 행도 바로 지움
+@SpringBootTest(properties = {
+        "account.purge.chunk-size=3",
+        "account.purge.grace=PT0S",
+        "account.purge.retain-account-row=PT0S"
+})
+@ActiveProfiles("test")
+class AccountPurgeWorkerTests {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountPurgeWorker accountPurgeWorker;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountProfileRepository accountProfileRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CalendarEventService calendarEventService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private TodoDailyStatsRepository todoDailyStatsRepository;
+
+    @Autowired
+    private JobStateRepository jobStateRepository;
+
+    @Test
+    void deleteMarksAccountAndWorkerPurgesItsDataInChunks() {
+        Account account = accountRepository.save(new Account(LoginType.GOOGLE));
+        Long accountId = account.getId();
+        accountProfileRepository.save(new AccountProfile(account, "purge@google.test", "삭제될 사용자"));
+        for (int i = 0; i < 10; i++) {
+            TodoDTO.Create todo = new TodoDTO.Create();
+            todo.setText("할 일 " + i);
+            todo.setPriority(Priority.LOW);
+            todo.setDueDate(LocalDate.now().minusDays(i));
+            todoService.createTodo(accountId, todo);
+        }
+        CalendarEventDTO.Create event = new CalendarEventDTO.Create();
+        event.setDate(LocalDate.now());
+        event.setTitle("일정");
+        event.setType(EventType.event);
+        calendarEventService.createEvent(accountId, event);
+
+        accountService.deleteAccount(accountId);
+
+        // 요청 시점에는 프로필만 지워지고 계정은 삭제 표시만 됨
+        assertThat(accountProfileRepository.findByAccount_Id(accountId)).isEmpty();
+        assertThat(accountRepository.findById(accountId)).get().extracting(Account::isDeleted).isEqualTo(true);
+        assertThat(todoRepository.findByAccountId(accountId)).hasSize(10);
+
+        accountPurgeWorker.purgeDeletedAccounts();
+
+        assertThat(todoRepository.findByAccountId(accountId)).isEmpty();
+        assertThat(calendarEventRepository.findByAccountId(accountId)).isEmpty();
+        assertThat(todoDailyStatsRepository.findByAccountId(accountId)).isEmpty();
+        assertThat(accountRepository.findById(accountId)).isEmpty();
+    }
+
+    @Test
+    void onlyTheInstanceHoldingTheJobLockPurges() {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        TodoDTO.Create todo = new TodoDTO.Create();
+        todo.setText("할 일");
+        todo.setPriority(Priority.LOW);
+        todo.setDueDate(LocalDate.now());
+        todoService.createTodo(accountId, todo);
+        accountService.deleteAccount(accountId);
+
+        // 다른 인스턴스가 정리 중
+        jobStateRepository.ensure(AccountPurgeWorker.JOB_NAME);
+        assertThat(jobStateRepository.tryLock(AccountPurgeWorker.JOB_NAME, "other-instance", Duration.ofMinutes(1))).isTrue();
+        try {
+            accountPurgeWorker.purgeDeletedAccounts();
+            assertThat(todoRepository.findByAccountId(accountId)).hasSize(1);
+        } finally {
+            jobStateRepository.unlock(AccountPurgeWorker.JOB_NAME, "other-instance");
+        }
+
+        accountPurgeWorker.purgeDeletedAccounts();
+        assertThat(todoRepository.findByAccountId(accountId)).isEmpty();
+        assertThat(accountRepository.findById(accountId)).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package sp.releasetestbackend.account.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.jwt.JwtTokenService;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DeletedAccountTokenTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Test
+    void writeWithTokenOfDeletedAccountIsRejected() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        String bearer = "Bearer " + jwtTokenService.generateToken(accountId);
+
+        // 삭제 전에 한 번 써서 토큰이 검증 캐시에 들어가게 함
+        createTodo(bearer).andExpect(status().isOk());
+        mockMvc.perform(delete("/account").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        createTodo(bearer).andExpect(status().isUnauthorized());
+        assertThat(todoRepository.findByAccountId(accountId)).hasSize(1);
+
+        // 다른 인스턴스는 DB에서 다시 읽어 같은 계정을 거절함
+        DeletedAccounts otherInstance = new DeletedAccounts(accountRepository);
+        otherInstance.refresh();
+        assertThat(otherInstance.contains(accountId)).isTrue();
+    }
+
+    private ResultActions createTodo(String bearer) throws Exception {
+        return mockMvc.perform(post("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"새 할 일\",\"priority\":\"HIGH\",\"dueDate\":\"" + LocalDate.now() + "\"}"));
+    }
+}
@@ -0,0 +1,119 @@
+package sp.releasetestbackend.config.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 H2 두 개(primary, replica)로 읽기/쓰기 라우팅 확인. 복제는 primary 전체를 replica로 복사해서 흉내 냄
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingTests.PRIMARY_URL,
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].url=" + ReadWriteRoutingTests.REPLICA_URL,
+        // 점검은 테스트에서 직접 호출
+        "datasource.routing.check-interval=PT1H"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingTests {
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE;DB_CLOSE_DELAY=-1";
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary" + H2_OPTIONS;
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica" + H2_OPTIONS;
+
+    private final JdbcTemplate replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private JdbcTemplate primaryJdbc;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private Long accountId;
+    private Todo todo;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        todo = create("primary 값");
+
+        replicaHealthMonitor.check();
+        replicate();
+        replicaHealthMonitor.check();
+        // 어느 쪽에서 읽었는지 구분되도록 replica 쪽 값만 바꿈
+        replicaJdbc.update("UPDATE todos SET text = 'replica 값' WHERE id = ?", todo.getId());
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() throws Exception {
+        assertThat(texts(todoService.getTodosByDate(accountId, today))).containsExactly("replica 값");
+
+        TodoDTO.Update request = new TodoDTO.Update();
+        request.setText("수정");
+        request.setPriority(Priority.HIGH);
+        todoService.updateTodo(accountId, todo.getId(), request);
+
+        assertThat(primaryJdbc.queryForObject("SELECT text FROM todos WHERE id = ?", String.class, todo.getId())).isEqualTo("수정");
+        assertThat(replicaJdbc.queryForObject("SELECT text FROM todos WHERE id = ?", String.class, todo.getId())).isEqualTo("replica 값");
+    }
+
+    @Test
+    void accountReadsStickToPrimaryAfterItsOwnWrite() {
+        List<Todo> seenByWriter = AccountRoutingContext.forAccount(accountId, () -> {
+            create("방금 추가");
+            return todoService.getTodosByDate(accountId, today);
+        });
+        assertThat(texts(seenByWriter)).containsExactlyInAnyOrder("primary 값", "방금 추가");
+
+        // 쓰기를 하지 않은 쪽의 읽기는 계속 replica
+        assertThat(texts(todoService.getTodosByDate(accountId, today))).containsExactly("replica 값");
+    }
+
+    @Test
+    void laggingReplicaIsRemovedFromReads() {
+        replicaJdbc.update("UPDATE replication_heartbeat SET beat_millis = beat_millis - 60000");
+        replicaHealthMonitor.check();
+
+        assertThat(texts(todoService.getTodosByDate(accountId, today))).containsExactly("primary 값");
+    }
+
+    private void replicate() {
+        List<String> script = primaryJdbc.queryForList("SCRIPT", String.class);
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        script.stream()
+                .filter(statement -> !statement.startsWith("--"))
+                .forEach(replicaJdbc::execute);
+    }
+
+    private Todo create(String text) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText(text);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(today);
+        return todoService.createTodo(accountId, request);
+    }
+
+    private static List<String> texts(List<Todo> todos) {
+        return todos.stream().map(Todo::getText).toList();
+    }
+}
@@ -0,0 +1,152 @@
+package sp.releasetestbackend.config.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoService;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 내장 H2 세 개(디렉터리 + 샤드 둘)로 계정별 샤드 라우팅과 계정 이동 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardRoutingTests.DIRECTORY_URL,
+        "datasource.sharding.enabled=true",
+        "datasource.sharding.shards[0].url=" + ShardRoutingTests.SHARD1_URL,
+        "datasource.sharding.shards[1].url=" + ShardRoutingTests.SHARD2_URL,
+        "datasource.sharding.placement-cache-ttl=PT0.05S"
+})
+@ActiveProfiles("test")
+class ShardRoutingTests {
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE;DB_CLOSE_DELAY=-1";
+    static final String DIRECTORY_URL = "jdbc:h2:mem:sharding_directory" + H2_OPTIONS;
+    static final String SHARD1_URL = "jdbc:h2:mem:sharding_shard1" + H2_OPTIONS;
+    static final String SHARD2_URL = "jdbc:h2:mem:sharding_shard2" + H2_OPTIONS;
+
+    private final JdbcTemplate shard1Jdbc = new JdbcTemplate(new DriverManagerDataSource(SHARD1_URL, "sa", ""));
+    private final JdbcTemplate shard2Jdbc = new JdbcTemplate(new DriverManagerDataSource(SHARD2_URL, "sa", ""));
+
+    @Autowired
+    private JdbcTemplate directoryJdbc;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardMigrator shardMigrator;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        // MySQL은 샤드별 AUTO_INCREMENT 나머지로 id가 겹치지 않지만, H2는 시작 값만 떨어뜨려 둠
+        long next = Math.max(1_000_000, shard2Jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM todos", Long.class));
+        shard2Jdbc.execute("ALTER TABLE todos ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    @Test
+    void accountDataGoesToItsHomeShard() {
+        Long onShard1 = newAccountOn(1);
+        Long onShard2 = newAccountOn(2);
+
+        Todo first = create(onShard1, "1번 샤드");
+        Todo second = create(onShard2, "2번 샤드");
+
+        assertThat(countTodos(shard1Jdbc, onShard1)).isEqualTo(1);
+        assertThat(countTodos(shard2Jdbc, onShard2)).isEqualTo(1);
+        assertThat(countTodos(shard1Jdbc, onShard2)).isZero();
+        assertThat(directoryJdbc.queryForObject("SELECT COUNT(*) FROM todos", Long.class)).isZero();
+
+        assertThat(read(onShard1)).extracting(Todo::getId).containsExactly(first.getId());
+        assertThat(read(onShard2)).extracting(Todo::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void movingAccountKeepsItsDataAndIds() {
+        Long accountId = newAccountOn(1);
+        Todo todo = create(accountId, "옮길 할 일");
+        create(newAccountOn(2), "다른 계정");
+
+        assertThat(shardMigrator.migrate(accountId, 2)).isTrue();
+
+        assertThat(shardDirectory.loadPlacement(accountId)).isEqualTo(new ShardDirectory.Placement(2, false));
+        assertThat(countTodos(shard1Jdbc, accountId)).isZero();
+        assertThat(countTodos(shard2Jdbc, accountId)).isEqualTo(1);
+        assertThat(read(accountId)).extracting(Todo::getId).containsExactly(todo.getId());
+
+        // 옮긴 뒤의 쓰기도 새 샤드로
+        create(accountId, "옮긴 뒤");
+        assertThat(countTodos(shard2Jdbc, accountId)).isEqualTo(2);
+    }
+
+    @Test
+    void writesAreRejectedWhileAccountIsMovingButReadsContinue() {
+        Long accountId = newAccountOn(1);
+        create(accountId, "기존");
+        shardDirectory.setPlacement(accountId, 1, true);
+
+        assertThatThrownBy(() -> create(accountId, "이동 중"))
+                .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+        assertThat(read(accountId)).extracting(Todo::getText).containsExactly("기존");
+    }
+
+    @Test
+    void secondMoveOfSameAccountIsRefused() {
+        Long accountId = newAccountOn(1);
+        create(accountId, "기존");
+        // 다른 인스턴스가 옮기는 중
+        shardDirectory.setPlacement(accountId, 1, true);
+
+        assertThatThrownBy(() -> shardMigrator.migrate(accountId, 2)).isInstanceOf(IllegalStateException.class);
+        assertThat(shardDirectory.loadPlacement(accountId)).isEqualTo(new ShardDirectory.Placement(1, true));
+        assertThat(countTodos(shard1Jdbc, accountId)).isEqualTo(1);
+        assertThat(countTodos(shard2Jdbc, accountId)).isZero();
+    }
+
+    // 해시 링이 지정한 샤드에 놓일 계정이 나올 때까지 만듦
+    private Long newAccountOn(int shard) {
+        while (true) {
+            Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+            if (shardDirectory.ringShard(accountId) == shard) {
+                shardDirectory.assign(accountId);
+                return accountId;
+            }
+        }
+    }
+
+    private Todo create(Long accountId, String text) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText(text);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(today);
+        return AccountRoutingContext.forAccount(accountId, () -> todoService.createTodo(accountId, request));
+    }
+
+    private List<Todo> read(Long accountId) {
+        return AccountRoutingContext.forAccount(accountId, () -> todoService.getTodosByDate(accountId, today));
+    }
+
+    private static long countTodos(JdbcTemplate jdbc, Long accountId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM todos WHERE account_id = ?", Long.class, accountId);
+    }
+}
@@ -0,0 +1,141 @@
+package sp.releasetestbackend.googleLogin.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sp.releasetestbackend.googleLogin.dto.GoogleJwks;
+import sp.releasetestbackend.googleLogin.repository.GoogleJwksRepository;
+import sp.releasetestbackend.oauth.dto.OAuthUserInfo;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로컬에서 만든 키로 서명한 id_token 검증 (네트워크 없음)
+class GoogleIdTokenVerifierTests {
+    private static final String CLIENT_ID = "test-client";
+
+    private final GoogleJwksRepository jwksRepository = mock(GoogleJwksRepository.class);
+    private KeyPair currentKey;
+    private KeyPair rotatedKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        currentKey = generator.generateKeyPair();
+        rotatedKey = generator.generateKeyPair();
+    }
+
+    @Test
+    void verifiesSignedIdTokenWithoutUserInfoCall() {
+        when(jwksRepository.getKeys()).thenReturn(jwks(jwk("key-1", currentKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+
+        assertThat(verifier.verify(idToken("key-1", currentKey, CLIENT_ID)))
+                .contains(new OAuthUserInfo("user@gmail.com", "구글 사용자"));
+    }
+
+    @Test
+    void rejectsTokenForAnotherAudience() {
+        when(jwksRepository.getKeys()).thenReturn(jwks(jwk("key-1", currentKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+
+        assertThat(verifier.verify(idToken("key-1", currentKey, "other-client"))).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedWithDifferentKey() {
+        when(jwksRepository.getKeys()).thenReturn(jwks(jwk("key-1", currentKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+
+        assertThat(verifier.verify(idToken("key-1", rotatedKey, CLIENT_ID))).isEmpty();
+    }
+
+    @Test
+    void fallsBackWhenTokenLacksEmailOrName() {
+        when(jwksRepository.getKeys()).thenReturn(jwks(jwk("key-1", currentKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+
+        assertThat(verifier.verify(idToken("key-1", currentKey, CLIENT_ID, "user@gmail.com", null))).isEmpty();
+        assertThat(verifier.verify(idToken("key-1", currentKey, CLIENT_ID, null, "구글 사용자"))).isEmpty();
+    }
+
+    @Test
+    void picksUpRotatedKeyOnUnknownKid() {
+        when(jwksRepository.getKeys())
+                .thenReturn(jwks(jwk("key-1", currentKey)))
+                .thenReturn(jwks(jwk("key-1", currentKey), jwk("key-2", rotatedKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+        verifier.refreshKeys();
+
+        assertThat(verifier.verify(idToken("key-2", rotatedKey, CLIENT_ID))).isPresent();
+        verify(jwksRepository, times(2)).getKeys();
+    }
+
+    @Test
+    void unknownKidDoesNotRefetchWithinMinimumInterval() {
+        when(jwksRepository.getKeys()).thenReturn(jwks(jwk("key-1", currentKey)));
+        GoogleIdTokenVerifier verifier = verifier(Duration.ofMinutes(1));
+        verifier.refreshKeys();
+
+        assertThat(verifier.verify(idToken("key-2", rotatedKey, CLIENT_ID))).isEmpty();
+        assertThat(verifier.verify(idToken("key-2", rotatedKey, CLIENT_ID))).isEmpty();
+        verify(jwksRepository, times(1)).getKeys();
+    }
+
+    @Test
+    void fallsBackWhenKeysAreUnavailable() {
+        when(jwksRepository.getKeys()).thenReturn(null);
+        GoogleIdTokenVerifier verifier = verifier(Duration.ZERO);
+
+        assertThat(verifier.verify(idToken("key-1", currentKey, CLIENT_ID))).isEmpty();
+    }
+
+    private GoogleIdTokenVerifier verifier(Duration minRefreshInterval) {
+        return new GoogleIdTokenVerifier(jwksRepository, CLIENT_ID, true, minRefreshInterval);
+    }
+
+    private static String idToken(String keyId, KeyPair key, String audience) {
+        return idToken(keyId, key, audience, "user@gmail.com", "구글 사용자");
+    }
+
+    // email/name이 null이면 그 클레임을 넣지 않음
+    private static String idToken(String keyId, KeyPair key, String audience, String email, String name) {
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setIssuer("https://accounts.google.com")
+                .setAudience(audience)
+                .setSubject("1234567890")
+                .claim("email", email)
+                .claim("email_verified", true)
+                .claim("name", name)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private static GoogleJwks jwks(GoogleJwks.Key... keys) {
+        return new GoogleJwks(List.of(keys));
+    }
+
+    private static GoogleJwks.Key jwk(String keyId, KeyPair key) {
+        RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return new GoogleJwks.Key(keyId, "RSA", "RS256",
+                encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+    }
+}
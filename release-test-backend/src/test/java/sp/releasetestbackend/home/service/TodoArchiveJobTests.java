@@ -0,0 +1,115 @@
+package sp.releasetestbackend.home.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.dashboard.service.TodoDailyStatsService;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.repository.TodoArchiveRepository;
+import sp.releasetestbackend.home.repository.TodoRepository;
+import sp.releasetestbackend.job.repository.JobStateRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "todo.archive.batch-size=2",
+        "todo.archive.watermark-refresh=PT0.05S"
+})
+@ActiveProfiles("test")
+class TodoArchiveJobTests {
+
+    @Autowired
+    private TodoArchiveJob todoArchiveJob;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoDailyStatsService todoDailyStatsService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoArchiveRepository todoArchiveRepository;
+
+    @Autowired
+    private JobStateRepository jobStateRepository;
+
+    @Test
+    void oldCompletedTodosMoveToArchiveAndStayReadable() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        LocalDate oldDay = LocalDate.now().minusDays(200);
+        Todo oldDone1 = completed(create(accountId, "지난 일 1", oldDay), accountId);
+        Todo oldDone2 = completed(create(accountId, "지난 일 2", oldDay), accountId);
+        Todo oldDone3 = completed(create(accountId, "지난 일 3", oldDay), accountId);
+        Todo oldOpen = create(accountId, "못 끝낸 일", oldDay);
+        Todo recentDone = completed(create(accountId, "최근 일", LocalDate.now()), accountId);
+
+        int moved = todoArchiveJob.archiveBefore(LocalDate.now().minusDays(180));
+
+        // 오래된 완료 할 일만 옮겨짐 (배치 크기 2로 여러 번 나눠 실행)
+        assertThat(moved).isEqualTo(3);
+        assertThat(todoRepository.findByAccountId(accountId)).extracting(Todo::getId)
+                .containsExactlyInAnyOrder(oldOpen.getId(), recentDone.getId());
+        assertThat(todoArchiveRepository.findByAccountId(accountId)).hasSize(3);
+
+        // 조회는 보관 테이블까지 합쳐서 그대로 보임
+        assertThat(todoService.getTodosByDate(accountId, oldDay)).extracting(Todo::getId)
+                .containsExactlyInAnyOrder(oldDone1.getId(), oldDone2.getId(), oldDone3.getId(), oldOpen.getId());
+        TodoDTO.CursorPage firstPage = todoService.getTodosByDateRange(accountId, oldDay, LocalDate.now(), null, 2);
+        TodoDTO.CursorPage secondPage = todoService.getTodosByDateRange(accountId, oldDay, LocalDate.now(), firstPage.getNextCursor(), 10);
+        assertThat(firstPage.getItems()).extracting(Todo::getId).containsExactly(oldDone1.getId(), oldDone2.getId());
+        assertThat(secondPage.getItems()).extracting(Todo::getId)
+                .containsExactly(oldDone3.getId(), oldOpen.getId(), recentDone.getId());
+        assertThat(todoService.getCompletedTodos(accountId, null, 10).getItems()).extracting(Todo::getId)
+                .containsExactly(recentDone.getId(), oldDone3.getId(), oldDone2.getId(), oldDone1.getId());
+        assertThat(todoDailyStatsService.findMismatchedDays(accountId)).isEmpty();
+
+        // 다른 인스턴스가 실행 중(잠금을 잡고 있음)이면 옮기지 않음
+        Todo anotherOld = completed(create(accountId, "지난 일 4", oldDay), accountId);
+        jobStateRepository.ensure(TodoArchiveService.JOB_NAME);
+        assertThat(jobStateRepository.tryLock(TodoArchiveService.JOB_NAME, "other-instance", Duration.ofMinutes(1))).isTrue();
+        try {
+            assertThat(todoArchiveJob.archiveBefore(LocalDate.now().minusDays(180))).isZero();
+            assertThat(todoRepository.findById(anotherOld.getId())).isPresent();
+        } finally {
+            jobStateRepository.unlock(TodoArchiveService.JOB_NAME, "other-instance");
+        }
+        todoService.deleteTodo(accountId, anotherOld.getId());
+
+        // 보관된 할 일을 토글하면 todos로 돌아와서 변경됨
+        Todo reopened = todoService.toggleTodo(accountId, oldDone1.getId());
+        assertThat(reopened.isCompleted()).isFalse();
+        assertThat(todoRepository.findById(oldDone1.getId())).isPresent();
+        assertThat(todoArchiveRepository.findById(oldDone1.getId())).isEmpty();
+
+        todoService.deleteTodo(accountId, oldDone2.getId());
+        assertThat(todoArchiveRepository.findById(oldDone2.getId())).isEmpty();
+        assertThat(todoDailyStatsService.findMismatchedDays(accountId)).isEmpty();
+    }
+
+    private Todo create(Long accountId, String text, LocalDate dueDate) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText(text);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(dueDate);
+        return todoService.createTodo(accountId, request);
+    }
+
+    private Todo completed(Todo todo, Long accountId) throws Exception {
+        return todoService.toggleTodo(accountId, todo.getId());
+    }
+}
@@ -0,0 +1,206 @@
+package sp.releasetestbackend.home.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.dashboard.service.TodoDailyStatsService;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.repository.TodoRepository;
+
+import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 자동 반영 주기를 길게 두고 flush를 직접 호출
+@SpringBootTest(properties = {
+        "todo.toggle-buffer.enabled=true",
+        "todo.toggle-buffer.window=PT1H",
+        "todo.toggle-buffer.ack-timeout=PT3S"
+})
+@ActiveProfiles("test")
+class TodoToggleBufferTests {
+
+    @Autowired
+    private TodoToggleBuffer todoToggleBuffer;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoDailyStatsService todoDailyStatsService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService clients = Executors.newCachedThreadPool();
+    private final LocalDate today = LocalDate.now();
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void repeatedTogglesAreFoldedAndAcknowledgedAfterFlush() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Todo todo = create(accountId);
+
+        // 토글을 하나씩 보내고, 반영 전에도 조회에는 덧씌운 상태가 보이는지 확인
+        Future<Todo> first = toggleAsync(accountId, todo.getId());
+        awaitTrue(() -> completedOnRead(accountId, todo.getId()));
+        Future<Todo> second = toggleAsync(accountId, todo.getId());
+        awaitTrue(() -> !completedOnRead(accountId, todo.getId()));
+        Future<Todo> third = toggleAsync(accountId, todo.getId());
+        awaitTrue(() -> completedOnRead(accountId, todo.getId()));
+
+        // 아직 반영 전이라 DB와 응답은 그대로
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isFalse();
+        assertThat(first).isNotDone();
+
+        todoToggleBuffer.flush();
+
+        // 요청마다 자기 차례의 상태를 받고, DB에는 최종 상태 한 번만 반영
+        assertThat(first.get().isCompleted()).isTrue();
+        assertThat(second.get().isCompleted()).isFalse();
+        assertThat(third.get().isCompleted()).isTrue();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isTrue();
+        assertThat(todoDailyStatsService.findMismatchedDays(accountId)).isEmpty();
+    }
+
+    @Test
+    void togglingSomeoneElsesTodoIsDenied() throws Exception {
+        Long owner = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Long other = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Todo todo = create(owner);
+
+        Future<Todo> denied = toggleAsync(other, todo.getId());
+        awaitTrue(() -> todoToggleBuffer.overlay(other, List.of(todo)).get(0).isCompleted());
+        todoToggleBuffer.flush();
+
+        assertThatThrownBy(denied::get).hasCauseInstanceOf(AccessDeniedException.class);
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isFalse();
+    }
+
+    @Test
+    void completedListHidesTodosUntoggledBeforeFlush() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Todo todo = create(accountId);
+        todoService.toggleTodo(accountId, todo.getId());
+        assertThat(completedIds(accountId)).containsExactly(todo.getId());
+
+        Future<Todo> untoggle = toggleAsync(accountId, todo.getId());
+        awaitTrue(() -> completedIds(accountId).isEmpty());
+
+        todoToggleBuffer.flush();
+        assertThat(untoggle.get().isCompleted()).isFalse();
+        assertThat(completedIds(accountId)).isEmpty();
+    }
+
+    @Test
+    void togglesBeingAppliedStayOverlaidUntilCommitted() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Todo todo = create(accountId);
+
+        // 다른 트랜잭션이 행을 잠가 반영 스레드가 커밋하지 못하게 붙잡음
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = clients.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM todos WHERE id = ? FOR UPDATE", todo.getId());
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+
+        Future<Todo> toggled = toggleAsync(accountId, todo.getId());
+        awaitTrue(() -> completedOnRead(accountId, todo.getId()));
+        todoToggleBuffer.flush();
+
+        // 버퍼에서는 빠졌지만 아직 커밋 전: DB는 그대로, 조회에는 계속 덧씌워짐
+        assertThat(completedOnRead(accountId, todo.getId())).isTrue();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isFalse();
+
+        release.countDown();
+        blocker.get();
+        assertThat(toggled.get().isCompleted()).isTrue();
+        // 커밋 뒤에도 두 번 뒤집지 않음
+        assertThat(completedOnRead(accountId, todo.getId())).isTrue();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    void toggleNotFlushedInTimeIsWithdrawn() throws Exception {
+        Long accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        Todo todo = create(accountId);
+
+        Future<Todo> late = toggleAsync(accountId, todo.getId());
+        assertThatThrownBy(late::get).hasCauseInstanceOf(IllegalStateException.class);
+
+        // 실패로 응답한 토글은 조회에도, 이후 반영에도 남지 않음
+        assertThat(completedOnRead(accountId, todo.getId())).isFalse();
+        todoToggleBuffer.flush();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().isCompleted()).isFalse();
+    }
+
+    private List<Long> completedIds(Long accountId) {
+        return todoService.getCompletedTodos(accountId, null, null).getItems().stream().map(Todo::getId).toList();
+    }
+
+    private Future<Todo> toggleAsync(Long accountId, Long todoId) {
+        return clients.submit(() -> todoToggleBuffer.toggle(accountId, todoId));
+    }
+
+    private boolean completedOnRead(Long accountId, Long todoId) {
+        return todoService.getTodosByDate(accountId, today).stream()
+                .filter(todo -> todo.getId().equals(todoId))
+                .findFirst().orElseThrow()
+                .isCompleted();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private Todo create(Long accountId) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText("토글할 일");
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(today);
+        return todoService.createTodo(accountId, request);
+    }
+}
@@ -0,0 +1,113 @@
+package sp.releasetestbackend.outbox.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import sp.releasetestbackend.account.entity.Account;
+import sp.releasetestbackend.account.entity.LoginType;
+import sp.releasetestbackend.account.repository.AccountRepository;
+import sp.releasetestbackend.home.dto.TodoDTO;
+import sp.releasetestbackend.home.entity.Priority;
+import sp.releasetestbackend.home.entity.Todo;
+import sp.releasetestbackend.home.service.TodoService;
+import sp.releasetestbackend.outbox.entity.ChangeEntityType;
+import sp.releasetestbackend.outbox.entity.ChangeOperation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 실패한 기록은 한 시간 뒤에 다시 보냄 (테스트에서는 next_attempt_at을 비워 시간이 지난 것으로 만듦)
+@SpringBootTest(properties = "outbox.relay.backoff=PT1H")
+@ActiveProfiles("test")
+class ChangeOutboxRelayTests {
+
+    @Autowired
+    private ChangeOutboxRelay changeOutboxRelay;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ChangeRecord> received = new ArrayList<>();
+    private final ChangeSubscriber subscriber = received::add;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 남긴 기록은 비움
+        changeOutboxRelay.relay();
+        accountId = accountRepository.save(new Account(LoginType.KAKAO)).getId();
+        changeOutboxRelay.subscribe(subscriber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeOutboxRelay.unsubscribe(subscriber);
+    }
+
+    @Test
+    void committedChangesAreDeliveredInOrderAndRemoved() throws Exception {
+        Todo todo = create("할 일");
+        todoService.toggleTodo(accountId, todo.getId());
+        todoService.deleteTodo(accountId, todo.getId());
+
+        assertThat(changeOutboxRelay.relay()).isEqualTo(3);
+        assertThat(received)
+                .extracting(ChangeRecord::accountId, ChangeRecord::entityType, ChangeRecord::entityId, ChangeRecord::operation)
+                .containsExactly(
+                        tuple(accountId, ChangeEntityType.TODO, todo.getId(), ChangeOperation.SAVED),
+                        tuple(accountId, ChangeEntityType.TODO, todo.getId(), ChangeOperation.SAVED),
+                        tuple(accountId, ChangeEntityType.TODO, todo.getId(), ChangeOperation.DELETED));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_outbox", Long.class)).isZero();
+    }
+
+    @Test
+    void failedRecordIsRetriedBeforeLaterRecordsOfSameAccount() {
+        Todo first = create("첫 번째");
+        Todo second = create("두 번째");
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        ChangeSubscriber flaky = record -> {
+            if (record.entityId().equals(first.getId()) && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("일시 오류");
+            }
+        };
+        changeOutboxRelay.subscribe(flaky);
+        try {
+            // 첫 기록이 실패하면 같은 계정의 두 번째 기록도 이번에는 보내지 않음
+            assertThat(changeOutboxRelay.relay()).isZero();
+            // backoff가 지나기 전에는 실패한 기록도, 같은 계정의 이후 기록도 보내지 않음
+            assertThat(changeOutboxRelay.relay()).isZero();
+            jdbcTemplate.update("UPDATE change_outbox SET next_attempt_at = NULL WHERE account_id = ?", accountId);
+            assertThat(changeOutboxRelay.relay()).isEqualTo(2);
+        } finally {
+            changeOutboxRelay.unsubscribe(flaky);
+        }
+
+        // 먼저 등록된 구독자는 실패한 기록을 한 번 더 받음 (최소 한 번 전달)
+        assertThat(received).extracting(ChangeRecord::entityId)
+                .containsExactly(first.getId(), first.getId(), second.getId());
+        assertThat(received.get(1).attempts()).isEqualTo(1);
+    }
+
+    private Todo create(String text) {
+        TodoDTO.Create request = new TodoDTO.Create();
+        request.setText(text);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(LocalDate.now());
+        return todoService.createTodo(accountId, request);
+    }
+}
@@ -0,0 +1,62 @@
+package sp.releasetestbackend.search.service;
+
+import org.junit.jupiter.api.Test;
+import sp.releasetestbackend.search.dto.SearchDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountSearchIndexTests {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    private final AccountSearchIndex index = new AccountSearchIndex()
+            .put(SearchDTO.HitType.todo, 1L, "주간 회의록 정리", TODAY, false)
+            .put(SearchDTO.HitType.todo, 2L, "Release notes 작성", TODAY.minusDays(1), true)
+            .put(SearchDTO.HitType.event, 3L, "팀 회식", TODAY.plusDays(2), null);
+
+    @Test
+    void hangulMatchesAnySubstringAndLatinMatchesPrefix() {
+        assertThat(ids(index.search("회의", 10))).containsExactly(1L);
+        assertThat(ids(index.search("의록", 10))).containsExactly(1L);
+        assertThat(ids(index.search("회", 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.search("REL 작성", 10))).containsExactly(2L);
+        assertThat(ids(index.search("의회", 10))).isEmpty();
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        index.put(SearchDTO.HitType.todo, 1L, "주간 보고", TODAY, false)
+                .remove(SearchDTO.HitType.event, 3L);
+
+        assertThat(index.search("회", 10)).isEmpty();
+        assertThat(ids(index.search("보고", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void suggestsWordsStartingWithLastQueryWord() {
+        index.put(SearchDTO.HitType.todo, 4L, "회의 준비", TODAY, false);
+
+        assertThat(index.suggest("주간 회", 10)).containsExactly("회식", "회의", "회의록");
+        assertThat(index.suggest("re", 10)).containsExactly("release");
+    }
+
+    @Test
+    void trailingJamoMatchesSyllablesStartingWithIt() {
+        index.put(SearchDTO.HitType.todo, 4L, "회원 가입", TODAY.minusDays(2), false);
+
+        assertThat(ids(index.search("회ㅇ", 10))).containsExactly(1L, 4L);
+        assertThat(ids(index.search("회ㅅ", 10))).containsExactly(3L);
+        assertThat(ids(index.search("ㅎ", 10))).containsExactly(3L, 1L, 4L);
+        assertThat(ids(index.search("회ㅢ", 10))).containsExactly(3L, 1L, 4L); // 초성이 아닌 낱자모는 버림
+        assertThat(ids(index.search("의ㄹ", 10))).containsExactly(1L);
+        assertThat(index.search("회ㄱ", 10)).isEmpty();
+        assertThat(index.suggest("회ㅇ", 10)).containsExactly("회원", "회의록");
+    }
+
+    private static List<Long> ids(List<SearchDTO.Hit> hits) {
+        return hits.stream().map(SearchDTO.Hit::getId).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package sp.releasetestbackend.support.oauth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오/구글/네이버의 토큰·사용자 정보 API를 흉내 내는 로컬 서버.
+ * 응답 지연과 5xx 실패를 켜고 끌 수 있어 네트워크 없이 로그인 처리량과 장애 동작을 확인할 수 있다.
+ */
+public class StubOAuthServer {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(32);
+    private final AtomicInteger apiRequests = new AtomicInteger();
+    private final AtomicInteger warmupRequests = new AtomicInteger();
+    private volatile Duration delay = Duration.ZERO;
+    private volatile boolean failing;
+
+    private StubOAuthServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubOAuthServer start() {
+        try {
+            StubOAuthServer stub = new StubOAuthServer(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0));
+            stub.server.createContext("/", stub::handle);
+            stub.server.setExecutor(stub.executor);
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("stub OAuth 서버를 시작하지 못했습니다", e);
+        }
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public void reset() {
+        delay = Duration.ZERO;
+        failing = false;
+        apiRequests.set(0);
+    }
+
+    // 토큰/사용자 정보 API 호출 수 (사전 연결용 HEAD 제외)
+    public int apiRequests() {
+        return apiRequests.get();
+    }
+
+    public int warmupRequests() {
+        return warmupRequests.get();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                warmupRequests.incrementAndGet();
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            apiRequests.incrementAndGet();
+            if (!delay.isZero()) {
+                Thread.sleep(delay.toMillis());
+            }
+            if (failing) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            String body = body(exchange.getRequestURI().getPath());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String body(String path) {
+        if (path.endsWith("/token")) {
+            return "{\"access_token\":\"stub-access-token\",\"token_type\":\"bearer\",\"expires_in\":3600}";
+        }
+        return switch (path) {
+            case "/kakao/me" -> "{\"id\":1,\"properties\":{\"nickname\":\"카카오\"},\"kakao_account\":{\"email\":\"stub@kakao.test\"}}";
+            case "/google/me" -> "{\"sub\":\"1\",\"email\":\"stub@google.test\",\"name\":\"구글\"}";
+            case "/naver/me" -> "{\"resultcode\":\"00\",\"response\":{\"email\":\"stub@naver.test\",\"nickname\":\"네이버\"}}";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package sp.releasetestbackend.support.querybudget;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        StatementCounter.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return; // 테스트 자체가 실패했으면 그 원인을 그대로 보여줌
+        }
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class).ifPresent(budget -> {
+            List<String> executed = StatementCounter.executed();
+            if (executed.size() > budget.value()) {
+                throw new AssertionError("SQL 문 " + executed.size() + "개 실행 (허용: " + budget.value() + "개)\n"
+                        + String.join("\n", executed));
+            }
+        });
+    }
+}
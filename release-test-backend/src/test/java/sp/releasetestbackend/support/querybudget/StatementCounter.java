@@ -0,0 +1,30 @@
+package sp.releasetestbackend.support.querybudget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 기록. MockMvc 요청은 테스트 스레드에서 처리되므로 요청 단위로 셀 수 있다.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<List<String>> EXECUTED = ThreadLocal.withInitial(ArrayList::new);
+
+    private StatementCounter() {
+    }
+
+    static void record(String sql) {
+        EXECUTED.get().add(sql);
+    }
+
+    public static void reset() {
+        EXECUTED.get().clear();
+    }
+
+    public static int count() {
+        return EXECUTED.get().size();
+    }
+
+    public static List<String> executed() {
+        return List.copyOf(EXECUTED.get());
+    }
+}
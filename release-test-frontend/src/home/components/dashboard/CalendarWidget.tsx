@@ -2,10 +2,14 @@ import React, {useState, useEffect} from 'react';
 import { useAppStore } from '@/home/store/useAppStore';
 import { FiChevronLeft, FiChevronRight } from 'react-icons/fi';
 import '@/home/style/dashboard/CalendarWidget.css';
+import type { EventType } from '@/home/types/release';
+
+const eventTypes: EventType[] = ['meeting', 'holiday', 'event'];
+const eventTypeLabels: Record<EventType, string> = { meeting: '회의', holiday: '휴가', event: '일반' };
 
 const CalendarWidget: React.FC = () => {
     const [date, setDate] = useState(new Date());
-    const { events, loadCalendarEvents } = useAppStore();
+    const { calendarSummary, loadCalendarSummary } = useAppStore();
     const days = ['일', '월', '화', '수', '목', '금', '토'];
     const year = date.getFullYear();
     const month = date.getMonth();
@@ -13,10 +17,12 @@ const CalendarWidget: React.FC = () => {
     const lastDate = new Date(year, month + 1, 0).getDate();
     const calendarDates = [...Array(firstDay).fill(null), ...Array.from({length: lastDate}, (_, i) => i + 1)];
 
-    // 캘린더 이벤트 로드
+    const monthKey = `${year}-${String(month + 1).padStart(2, '0')}`;
+
+    // 보고 있는 달의 일자별 이벤트 개수 로드 (이벤트 본문은 받지 않음)
     useEffect(() => {
-        loadCalendarEvents();
-    }, [loadCalendarEvents]);
+        loadCalendarSummary(monthKey);
+    }, [monthKey, loadCalendarSummary]);
 
     // 월 이동 함수들
     const handlePrevMonth = () => {
@@ -31,11 +37,15 @@ const CalendarWidget: React.FC = () => {
         setDate(new Date());
     };
 
-    // 특정 날짜의 이벤트 가져오기
-    const getEventsForDate = (day: number) => {
-        if (!day) return [];
-        const dateStr = `${year}-${String(month + 1).padStart(2, '0')}-${String(day).padStart(2, '0')}`;
-        return events.filter(event => event.date === dateStr);
+    // 특정 날짜의 유형별 이벤트 개수 (개수가 있는 유형만)
+    const getEventsForDate = (day: number): Array<{ type: EventType; count: number }> => {
+        if (!day || calendarSummary?.month !== monthKey) return [];
+        const dateStr = `${monthKey}-${String(day).padStart(2, '0')}`;
+        const summary = calendarSummary.days.find(d => d.date === dateStr);
+        if (!summary) return [];
+        return eventTypes
+            .map(type => ({ type, count: summary[type] }))
+            .filter(item => item.count > 0);
     };
     return (
         <div className="calendar-container">
@@ -54,6 +64,7 @@ const CalendarWidget: React.FC = () => {
                 {days.map((day) => <div key={day} className="day-name">{day}</div>)}
                 {calendarDates.map((d, i) => {
                     const dayEvents = d ? getEventsForDate(d) : [];
+                    const eventCount = dayEvents.reduce((sum, item) => sum + item.count, 0);
                     const isToday = d === new Date().getDate() && 
                                    month === new Date().getMonth() && 
                                    year === new Date().getFullYear();
@@ -65,16 +76,16 @@ const CalendarWidget: React.FC = () => {
                                     <div className="date-number">{d}</div>
                                     {dayEvents.length > 0 && (
                                         <div className="event-indicators">
-                                            {dayEvents.slice(0, 2).map((event, idx) => (
+                                            {dayEvents.map(({ type, count }) => (
                                                 <div 
-                                                    key={event.id} 
-                                                    className={`event-dot ${event.type}`}
-                                                    title={event.title}
+                                                    key={type} 
+                                                    className={`event-dot ${type}`}
+                                                    title={`${eventTypeLabels[type]} ${count}개`}
                                                 />
                                             ))}
-                                            {dayEvents.length > 2 && (
-                                                <div className="event-more" title={`+${dayEvents.length - 2}개 더`}>
-                                                    +{dayEvents.length - 2}
+                                            {eventCount > dayEvents.length && (
+                                                <div className="event-more" title={`총 ${eventCount}개`}>
+                                                    +{eventCount - dayEvents.length}
                                                 </div>
                                             )}
                                         </div>
@@ -121,12 +121,16 @@ const CalendarView: React.FC = () => {
         return grid;
     }, [currentDate, events, handleDateClick]);
 
-    // 로그인 상태일 때만 캘린더 이벤트 로드
+    // 보고 있는 달의 첫날/마지막 날
+    const monthStart = formatDateToString(new Date(currentDate.getFullYear(), currentDate.getMonth(), 1));
+    const monthEnd = formatDateToString(new Date(currentDate.getFullYear(), currentDate.getMonth() + 1, 0));
+
+    // 로그인 상태일 때만, 보고 있는 달의 캘린더 이벤트 로드
     useEffect(() => {
         if (isLoggedIn) {
-            loadCalendarEvents();
+            loadCalendarEvents(monthStart, monthEnd);
         }
-    }, [isLoggedIn, loadCalendarEvents]);
+    }, [isLoggedIn, monthStart, monthEnd, loadCalendarEvents]);
 
     // 로그인되지 않은 경우 로그인 페이지 표시
     if (!isLoggedIn) {
@@ -165,7 +169,7 @@ const CalendarView: React.FC = () => {
                         <h1>캘린더</h1>
                     </div>
                     <div className="header-stats">
-                        <span className="event-total">총 {events.length}개 이벤트</span>
+                        <span className="event-total">이번 달 {events.length}개 이벤트</span>
                     </div>
                 </div>
             </header>
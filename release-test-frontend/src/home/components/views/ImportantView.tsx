@@ -64,14 +64,9 @@ const ImportantView: React.FC = () => {
 
             try {
                 setIsLoading(true);
-                // 오늘과 내일의 할 일들 로드
-                const [todayTodos, tomorrowTodos] = await Promise.all([
-                    todoApi.getTodosByDate(todayString),
-                    todoApi.getTodosByDate(tomorrowString)
-                ]);
-                
-                const combined = [...todayTodos, ...tomorrowTodos];
-                setAllTodos(combined);
+                // 미완료 중요 할 일을 한 번에 받아 오늘과 내일 것만 표시
+                const importantTodos = await todoApi.getImportantTodos();
+                setAllTodos(importantTodos.filter(t => t.dueDate === todayString || t.dueDate === tomorrowString));
             } catch (error) {
                 console.error('Failed to load important todos:', error);
                 setAllTodos([]);
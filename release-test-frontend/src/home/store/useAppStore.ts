@@ -1,7 +1,9 @@
 import { create } from 'zustand';
 import { todoApi, calendarApi } from '@/shared/utils/api/todoApi';
+import { connectStream } from '@/shared/utils/api/streamApi';
+import type { TodoChanges, EventChanges, DashboardCounters } from '@/shared/utils/api/streamApi';
 import { showErrorAlert, showSuccessAlert } from '@/shared/utils/sweetAlert';
-import type { Todo, Release, Priority, CalendarEvent, DashboardData } from '@/home/types/release';
+import type { Todo, Release, Priority, CalendarEvent, CalendarMonthSummary, DashboardData } from '@/home/types/release';
 
 // 개발 환경에서만 로그 출력
 const devLog = (message: string, ...args: any[]) => {
@@ -20,9 +22,12 @@ interface AppState {
     // 상태
     todos: Todo[];
     events: CalendarEvent[];
+    eventsRange: { from: string; to: string } | null; // events에 담긴 기간 (yyyy-MM-dd, 양 끝 포함)
+    calendarSummary: CalendarMonthSummary | null;
     dashboardData: DashboardData | null;
     isLoading: boolean;
     userName: string;
+    todosDate: string | null; // todos에 담긴 목록의 날짜
 
     // Todo 관련 액션
     loadTodosByDate: (date: string) => Promise<void>;
@@ -35,22 +40,60 @@ interface AppState {
     toggleTodo: (id: number) => Promise<void>;
 
     // Calendar 관련 액션
-    loadCalendarEvents: () => Promise<void>;
+    loadCalendarEvents: (from: string, to: string) => Promise<void>;
+    loadCalendarSummary: (month: string) => Promise<void>;
     addEvent: (event: { title: string; type: 'event' | 'holiday' | 'meeting'; date: string }) => Promise<void>;
     updateEvent: (id: number, data: { title: string; type: 'event' | 'holiday' | 'meeting' }) => Promise<void>;
     deleteEvent: (id: number) => Promise<void>;
 
+    // 실시간 푸시 (다른 탭/기기의 변경 반영)
+    startStream: () => void;
+    stopStream: () => void;
+    applyTodoChanges: (changes: TodoChanges) => void;
+    applyEventChanges: (changes: EventChanges) => void;
+    applyDashboardCounters: (counters: DashboardCounters) => void;
+
     // 상태 초기화
     resetStore: () => void;
 }
 
+// 현재 열린 스트림 연결 해제 함수
+let closeStream: (() => void) | null = null;
+// 마지막으로 요청한 월간 요약의 달 (yyyy-MM)
+let requestedSummaryMonth: string | null = null;
+
+const upsertById = <T extends { id: number }>(items: T[], saved: T[], deletedIds: number[], include: (item: T) => boolean): T[] => {
+    const savedById = new Map(saved.map(item => [item.id, item]));
+    const next = items
+        .filter(item => !deletedIds.includes(item.id))
+        .map(item => savedById.get(item.id) ?? item)
+        .filter(include);
+    const existingIds = new Set(items.map(item => item.id));
+    return [...next, ...saved.filter(item => !existingIds.has(item.id) && include(item))];
+};
+
+// 불러온 기간 안의 이벤트인지 (기간을 불러온 적 없으면 담지 않음)
+const inRange = (event: CalendarEvent, range: AppState['eventsRange']): boolean =>
+    range !== null && event.date >= range.from && event.date <= range.to;
+
+// 월간 요약을 보고 있으면 이벤트가 바뀐 뒤 다시 조회 (유형별 개수라 직접 고치지 않음)
+const refreshCalendarSummary = (get: () => AppState) => {
+    const { calendarSummary } = get();
+    if (calendarSummary) {
+        get().loadCalendarSummary(calendarSummary.month);
+    }
+};
+
 export const useAppStore = create<AppState>((set, get) => ({
     // 초기 상태
     todos: [],
     events: [],
+    eventsRange: null,
+    calendarSummary: null,
     dashboardData: null,
     isLoading: false,
     userName: "사용자",
+    todosDate: null,
 
     // Todo 관련 액션들
     loadTodosByDate: async (date: string) => {
@@ -65,7 +108,7 @@ export const useAppStore = create<AppState>((set, get) => ({
         try {
             set({ isLoading: true });
             const todos = await todoApi.getTodosByDate(date);
-            set({ todos, isLoading: false });
+            set({ todos, todosDate: date, isLoading: false });
         } catch (error) {
             devError('Failed to load todos:', error);
             set({ isLoading: false });
@@ -244,18 +287,23 @@ export const useAppStore = create<AppState>((set, get) => ({
     },
 
     // Calendar 관련 액션들
-    loadCalendarEvents: async () => {
+    loadCalendarEvents: async (from: string, to: string) => {
         // 로그인 상태 확인
         const token = localStorage.getItem('accessToken') || localStorage.getItem('tempToken');
         if (!token) {
             devLog('No auth token found, skipping calendar events load');
-            set({ events: [], isLoading: false });
+            set({ events: [], eventsRange: null, isLoading: false });
             return;
         }
 
         try {
-            set({ isLoading: true });
-            const events = await calendarApi.getAllEvents();
+            set({ isLoading: true, eventsRange: { from, to } });
+            const events = await calendarApi.getEventsBetween(from, to);
+            // 응답을 기다리는 동안 다른 달로 넘어갔으면 버림
+            const range = get().eventsRange;
+            if (range?.from !== from || range?.to !== to) {
+                return;
+            }
             set({ events, isLoading: false });
         } catch (error) {
             devError('Failed to load calendar events:', error);
@@ -264,6 +312,27 @@ export const useAppStore = create<AppState>((set, get) => ({
         }
     },
 
+    // 대시보드 달력용 월간 요약 (이벤트 본문 없이 일자별 개수만)
+    loadCalendarSummary: async (month: string) => {
+        const token = localStorage.getItem('accessToken') || localStorage.getItem('tempToken');
+        if (!token) {
+            devLog('No auth token found, skipping calendar summary load');
+            set({ calendarSummary: null });
+            return;
+        }
+
+        try {
+            requestedSummaryMonth = month;
+            const summary = await calendarApi.getMonthSummary(month);
+            // 응답을 기다리는 동안 다른 달을 요청했으면 버림
+            if (requestedSummaryMonth === month) {
+                set({ calendarSummary: summary });
+            }
+        } catch (error) {
+            devError('Failed to load calendar summary:', error);
+        }
+    },
+
     addEvent: async (eventData) => {
         try {
             set({ isLoading: true });
@@ -275,9 +344,10 @@ export const useAppStore = create<AppState>((set, get) => ({
             });
             
             set((state) => ({
-                events: [...state.events, newEvent],
+                events: inRange(newEvent, state.eventsRange) ? [...state.events, newEvent] : state.events,
                 isLoading: false
             }));
+            refreshCalendarSummary(get);
 
             devLog('Calendar event created successfully:', newEvent);
             showSuccessAlert('이벤트 생성 완료', '새 이벤트가 성공적으로 생성되었습니다.');
@@ -298,6 +368,7 @@ export const useAppStore = create<AppState>((set, get) => ({
                 events: state.events.map(e => e.id === id ? updatedEvent : e),
                 isLoading: false
             }));
+            refreshCalendarSummary(get);
 
             devLog('Calendar event updated successfully:', updatedEvent);
             showSuccessAlert('이벤트 수정 완료', '이벤트가 성공적으로 수정되었습니다.');
@@ -318,6 +389,7 @@ export const useAppStore = create<AppState>((set, get) => ({
                 events: state.events.filter(e => e.id !== id),
                 isLoading: false
             }));
+            refreshCalendarSummary(get);
 
             devLog('Calendar event deleted successfully:', id);
             showSuccessAlert('이벤트 삭제 완료', '이벤트가 성공적으로 삭제되었습니다.');
@@ -328,14 +400,82 @@ export const useAppStore = create<AppState>((set, get) => ({
         }
     },
 
+    // 실시간 푸시 연결 (로그인 상태에서 한 번만)
+    startStream: () => {
+        if (closeStream) {
+            return;
+        }
+        let reconnected = false;
+        closeStream = connectStream({
+            onReady: () => {
+                // 다시 연결된 경우, 끊긴 동안 놓친 변경이 있을 수 있어 보고 있던 목록을 다시 조회
+                if (!reconnected) {
+                    reconnected = true;
+                    return;
+                }
+                const { todosDate, dashboardData, eventsRange, calendarSummary } = get();
+                if (todosDate) {
+                    get().loadTodosByDate(todosDate);
+                }
+                if (dashboardData) {
+                    get().loadDashboardData();
+                }
+                if (eventsRange) {
+                    get().loadCalendarEvents(eventsRange.from, eventsRange.to);
+                }
+                if (calendarSummary) {
+                    get().loadCalendarSummary(calendarSummary.month);
+                }
+            },
+            onTodos: (changes) => get().applyTodoChanges(changes),
+            onEvents: (changes) => get().applyEventChanges(changes),
+            onDashboard: (counters) => get().applyDashboardCounters(counters),
+        });
+    },
+
+    stopStream: () => {
+        closeStream?.();
+        closeStream = null;
+    },
+
+    applyTodoChanges: ({ saved, deletedIds }) => {
+        devLog('Todo changes pushed:', saved, deletedIds);
+        set((state) => ({
+            todos: upsertById(state.todos, saved, deletedIds, todo => todo.dueDate === state.todosDate),
+            dashboardData: state.dashboardData && {
+                ...state.dashboardData,
+                todaysTodos: upsertById(state.dashboardData.todaysTodos, saved, deletedIds,
+                    todo => todo.dueDate === new Date().toISOString().split('T')[0])
+            }
+        }));
+    },
+
+    applyEventChanges: ({ saved, deletedIds }) => {
+        devLog('Calendar event changes pushed:', saved, deletedIds);
+        set((state) => ({
+            events: upsertById(state.events, saved, deletedIds, event => inRange(event, state.eventsRange))
+        }));
+        refreshCalendarSummary(get);
+    },
+
+    applyDashboardCounters: (counters) => {
+        set((state) => ({
+            dashboardData: state.dashboardData && { ...state.dashboardData, ...counters }
+        }));
+    },
+
     // 상태 초기화
     resetStore: () => {
+        get().stopStream();
         set({
             todos: [],
             events: [],
+            eventsRange: null,
+            calendarSummary: null,
             dashboardData: null,
             isLoading: false,
-            userName: "사용자"
+            userName: "사용자",
+            todosDate: null
         });
     }
 }));
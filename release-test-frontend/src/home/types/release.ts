@@ -33,6 +33,21 @@ export interface CalendarEvent {
     type: EventType;
 }
 
+// 월간 요약의 하루치 개수 (유형별 이벤트 + 할 일)
+export interface CalendarDaySummary {
+    date: string;
+    event: number;
+    holiday: number;
+    meeting: number;
+    todo: number;
+}
+
+// 월간 달력 그리드용 요약 (항목이 있는 날만 포함)
+export interface CalendarMonthSummary {
+    month: string; // yyyy-MM
+    days: CalendarDaySummary[];
+}
+
 // 주간 데이터
 export interface WeeklyData {
     name: string;
@@ -3,6 +3,7 @@ import Sidebar from "@/shared/components/layouts/sidebar/Sidebar";
 import LoginModal from "@/auth/modals/LoginModal";
 import {useAuth} from "@/auth/hooks/useAuth";
 import {useLocation} from "react-router-dom";
+import {useAppStore} from "@/home/store/useAppStore";
 
 interface LayoutProps {
     children: ReactNode;
@@ -13,6 +14,7 @@ const Layout: React.FC<LayoutProps> = ({children}) => {
     const [sidebarCollapsed, setSidebarCollapsed] = useState(false);
     const [sidebarMobileOpen, setSidebarMobileOpen] = useState(false);
     const {isLoggedIn} = useAuth();
+    const {startStream, stopStream} = useAppStore();
     const location = useLocation();
     
     const showLoginModal = () => {
@@ -39,6 +41,15 @@ const Layout: React.FC<LayoutProps> = ({children}) => {
         }
     }, [isLoggedIn]);
     
+    // 로그인 상태에서만 실시간 푸시 연결 유지 (다른 탭/기기의 변경을 폴링 없이 반영)
+    useEffect(() => {
+        if (isLoggedIn) {
+            startStream();
+        } else {
+            stopStream();
+        }
+    }, [isLoggedIn, startStream, stopStream]);
+
     // 페이지가 회원가입 페이지로 변경되면 모달 닫기
     useEffect(() => {
         if (location.pathname === '/signup') {
@@ -22,6 +22,8 @@ const getApiBaseUrl = (): string => {
 };
 
 const BASE_URL = getApiBaseUrl();
+// axios를 쓰지 않는 요청(SSE 스트림 등)에서 사용
+export const API_BASE_URL = BASE_URL;
 const API_TIMEOUT = Number(import.meta.env.VITE_API_TIMEOUT) || 10000;
 const IS_DEVELOPMENT = import.meta.env.DEV;
 
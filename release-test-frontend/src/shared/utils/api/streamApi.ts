@@ -0,0 +1,117 @@
+import { API_BASE_URL } from './Api';
+import type { Todo, CalendarEvent, DashboardData } from '@/home/types/release';
+
+// 서버 푸시(SSE) 메시지
+export interface TodoChanges {
+    saved: Todo[];
+    deletedIds: number[];
+}
+
+export interface EventChanges {
+    saved: CalendarEvent[];
+    deletedIds: number[];
+}
+
+export type DashboardCounters = Omit<DashboardData, 'todaysTodos'>;
+
+export interface StreamHandlers {
+    onReady?: () => void; // 연결(재연결) 직후. 끊긴 동안의 변경은 목록을 다시 조회해서 맞춤
+    onTodos?: (changes: TodoChanges) => void;
+    onEvents?: (changes: EventChanges) => void;
+    onDashboard?: (counters: DashboardCounters) => void;
+}
+
+const MAX_RETRY_DELAY = 30000;
+
+const getToken = () => localStorage.getItem('accessToken') || localStorage.getItem('tempToken');
+
+// EventSource는 Authorization 헤더를 보낼 수 없어 fetch 스트림으로 직접 읽음
+// 반환된 함수를 호출하면 연결을 닫고 재연결도 멈춤
+export const connectStream = (handlers: StreamHandlers): (() => void) => {
+    const controller = new AbortController();
+    let retryDelay = 1000;
+
+    const dispatch = (name: string, data: string) => {
+        try {
+            switch (name) {
+                case 'ready':
+                    retryDelay = 1000;
+                    handlers.onReady?.();
+                    break;
+                case 'todos':
+                    handlers.onTodos?.(JSON.parse(data));
+                    break;
+                case 'events':
+                    handlers.onEvents?.(JSON.parse(data));
+                    break;
+                case 'dashboard':
+                    handlers.onDashboard?.(JSON.parse(data));
+                    break;
+            }
+        } catch (error) {
+            if (import.meta.env.DEV) {
+                console.error('[Stream Error] 메시지 처리 실패', name, error);
+            }
+        }
+    };
+
+    const run = async () => {
+        while (!controller.signal.aborted) {
+            const token = getToken();
+            if (!token) {
+                return;
+            }
+            try {
+                const response = await fetch(`${API_BASE_URL}/api/stream`, {
+                    headers: { Accept: 'text/event-stream', Authorization: `Bearer ${token}` },
+                    signal: controller.signal,
+                });
+                if (response.status === 401) {
+                    return;
+                }
+                if (!response.ok || !response.body) {
+                    throw new Error(`stream status ${response.status}`);
+                }
+
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) {
+                        break;
+                    }
+                    buffer += value.replace(/\r\n/g, '\n');
+                    let boundary;
+                    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                        const block = buffer.slice(0, boundary);
+                        buffer = buffer.slice(boundary + 2);
+                        let name = 'message';
+                        const data: string[] = [];
+                        for (const line of block.split('\n')) {
+                            if (line.startsWith('event:')) {
+                                name = line.slice(6).trim();
+                            } else if (line.startsWith('data:')) {
+                                data.push(line.slice(5).replace(/^ /, ''));
+                            }
+                        }
+                        if (data.length > 0) {
+                            dispatch(name, data.join('\n'));
+                        }
+                    }
+                }
+            } catch (error) {
+                if (controller.signal.aborted) {
+                    return;
+                }
+                if (import.meta.env.DEV) {
+                    console.error('[Stream Error] 연결 끊김, 재연결 대기', error);
+                }
+            }
+            await new Promise(resolve => setTimeout(resolve, retryDelay));
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+        }
+    };
+
+    run();
+    return () => controller.abort();
+};
@@ -6,6 +6,7 @@ import {
     DashboardData,
     CalendarEvent,
     CalendarEventCreateRequest,
+    CalendarMonthSummary,
     EventType 
 } from '@/home/types/release';
 
@@ -16,6 +17,11 @@ export const todoApi = {
         return await apiClient.get<Todo[]>(`/api/todos?date=${date}`);
     },
 
+    // 미완료 중요 할 일 조회 (기본 CRITICAL, HIGH)
+    getImportantTodos: async (): Promise<Todo[]> => {
+        return await apiClient.get<Todo[]>('/api/todos/important');
+    },
+
     // 새 할 일 생성
     createTodo: async (todoData: TodoCreateRequest): Promise<Todo> => {
         return await apiClient.post<Todo>('/api/todos', todoData);
@@ -44,9 +50,14 @@ export const todoApi = {
 
 // Calendar Event API
 export const calendarApi = {
-    // 모든 캘린더 이벤트 조회
-    getAllEvents: async (): Promise<CalendarEvent[]> => {
-        return await apiClient.get<CalendarEvent[]>('/api/calendar/events');
+    // 기간 내 캘린더 이벤트 조회 (from/to 포함, 최대 92일)
+    getEventsBetween: async (from: string, to: string): Promise<CalendarEvent[]> => {
+        return await apiClient.get<CalendarEvent[]>(`/api/calendar/events?from=${from}&to=${to}`);
+    },
+
+    // 월간 일자별 이벤트 유형/할 일 개수 요약 (month=yyyy-MM)
+    getMonthSummary: async (month: string): Promise<CalendarMonthSummary> => {
+        return await apiClient.get<CalendarMonthSummary>(`/api/calendar/summary?month=${month}`);
     },
 
     // 새 캘린더 이벤트 생성